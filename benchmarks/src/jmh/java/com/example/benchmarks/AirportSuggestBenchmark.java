@@ -0,0 +1,55 @@
+package com.example.benchmarks;
+
+import com.example.flightsearch.dto.AirportSuggestResponse;
+import com.example.flightsearch.model.AirportDirectory;
+import com.example.flightsearch.service.AirportSuggestIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공항/도시 자동완성 접두사 색인 조회 및 (인기도 갱신 시) 재생성 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AirportSuggestBenchmark {
+
+    // 한 글자 (구간이 가장 넓음), 도시명, 한글, 정확한 코드
+    @Param({"s", "seo", "인천", "LAX"})
+    String query;
+
+    private AirportDirectory directory;
+    private long[] popularity;
+    private AirportSuggestIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        directory = AirportDirectory.get();
+        popularity = new long[directory.size()];
+        for (int row = 0; row < popularity.length; row++) {
+            popularity[row] = (row * 7919L) % 1000;
+        }
+        index = AirportSuggestIndex.build(directory, popularity);
+    }
+
+    @Benchmark
+    public List<AirportSuggestResponse.Airport> suggest() {
+        return index.suggest(query, 8);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public AirportSuggestIndex rebuild() {
+        return AirportSuggestIndex.build(directory, popularity);
+    }
+}
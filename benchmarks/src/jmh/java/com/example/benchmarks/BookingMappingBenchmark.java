@@ -0,0 +1,75 @@
+package com.example.benchmarks;
+
+import com.example.flightbooking.dto.BookingResponse;
+import com.example.flightbooking.dto.BookingSummary;
+import com.example.flightbooking.model.Booking;
+import com.example.flightbooking.model.BookingStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Booking 엔티티 -> DTO 매핑 및 엔티티 비즈니스 메서드 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookingMappingBenchmark {
+
+    private Booking booking;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        booking = Booking.builder()
+                .id(1L)
+                .bookingReference("BK1A2B3C4D")
+                .flightNumber("KE017")
+                .originLocationCode("ICN")
+                .destinationLocationCode("LAX")
+                .departureDate(LocalDate.now().plusDays(30))
+                .departureTime(LocalTime.of(14, 30))
+                .returnDate(LocalDate.now().plusDays(40))
+                .returnTime(LocalTime.of(11, 0))
+                .passengerName("홍길동")
+                .passengerEmail("passenger@example.com")
+                .passengerPhone("010-1234-5678")
+                .apiProvider("AMADEUS")
+                .status(BookingStatus.CONFIRMED)
+                .bookingTimestamp(LocalDateTime.now())
+                .bookingResponse("Booking confirmed by AMADEUS API. PNR: BK1A2B3C4D")
+                .totalAmount(new BigDecimal("1254.30"))
+                .currency("USD")
+                .build();
+    }
+
+    @Benchmark
+    public BookingResponse bookingResponseFrom() {
+        return BookingResponse.from(booking);
+    }
+
+    @Benchmark
+    public BookingSummary bookingSummaryFrom() {
+        return BookingSummary.from(booking);
+    }
+
+    @Benchmark
+    public boolean isPastDeparture() {
+        return booking.isPastDeparture();
+    }
+
+    @Benchmark
+    public boolean isInternationalFlight() {
+        return booking.isInternationalFlight();
+    }
+}
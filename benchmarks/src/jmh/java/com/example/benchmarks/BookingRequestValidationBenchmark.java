@@ -0,0 +1,86 @@
+package com.example.benchmarks;
+
+import com.example.flightbooking.dto.BookingRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookingRequest Bean Validation 측정 (정상 요청 / 위반이 있는 요청)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookingRequestValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private BookingRequest validRequest;
+    private BookingRequest invalidRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        validRequest = BookingRequest.builder()
+                .flightNumber("KE017")
+                .originLocationCode("ICN")
+                .destinationLocationCode("LAX")
+                .departureDate(LocalDate.now().plusDays(30))
+                .departureTime(LocalTime.of(14, 30))
+                .passengerName("홍길동")
+                .passengerEmail("passenger@example.com")
+                .passengerPhone("010-1234-5678")
+                .apiProvider("AMADEUS")
+                .totalAmount(new BigDecimal("1254.30"))
+                .currency("USD")
+                .build();
+
+        invalidRequest = BookingRequest.builder()
+                .flightNumber("ke-017")
+                .originLocationCode("ICN")
+                .destinationLocationCode("ICN")
+                .departureDate(LocalDate.now().minusDays(1))
+                .departureTime(LocalTime.of(14, 30))
+                .returnDate(LocalDate.now().minusDays(2))
+                .passengerName("홍")
+                .passengerEmail("not-an-email")
+                .passengerPhone("phone")
+                .apiProvider("AMADEUS")
+                .totalAmount(new BigDecimal("0.00"))
+                .currency("usd")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookingRequest>> validateValidRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookingRequest>> validateInvalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+}
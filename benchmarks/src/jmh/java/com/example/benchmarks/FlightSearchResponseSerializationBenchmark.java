@@ -0,0 +1,92 @@
+package com.example.benchmarks;
+
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FlightSearchResponse Jackson 직렬화 측정 (Spring Boot 기본 설정과 동일한 ObjectMapper)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlightSearchResponseSerializationBenchmark {
+
+    private static final String[] AIRLINES = {"KE", "OZ", "DL", "UA", "AA", "JL", "NH", "SQ"};
+
+    @Param({"10", "250"})
+    int offerCount;
+
+    private ObjectWriter writer;
+    private FlightSearchResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = objectMapper.writerFor(FlightSearchResponse.class);
+
+        List<FlightSearchResponse.FlightOffer> offers = new ArrayList<>(offerCount);
+        for (int i = 0; i < offerCount; i++) {
+            double total = 700 + (i * 37 % 900) + 0.15;
+            offers.add(FlightSearchResponse.FlightOffer.builder()
+                    .id(String.valueOf(i + 1))
+                    .airline(AIRLINES[i % AIRLINES.length])
+                    .flightNumber(String.valueOf(100 + i))
+                    .originLocationCode("ICN")
+                    .destinationLocationCode("LAX")
+                    .departureDate("2026-12-20")
+                    .departureTime(String.format("%02d:%02d", i % 24, (i * 5) % 60))
+                    .arrivalDate("2026-12-20")
+                    .arrivalTime(String.format("%02d:%02d", (i + 11) % 24, (i * 5) % 60))
+                    .duration("PT11H" + (i % 60) + "M")
+                    .cabinClass(i % 5 == 0 ? "BUSINESS" : "ECONOMY")
+                    .price(FlightSearchResponse.Price.builder()
+                            .currency("USD")
+                            .total(total)
+                            .base(total * 0.8)
+                            .taxes(total * 0.2)
+                            .build())
+                    .availableSeats(1 + i % 9)
+                    .build());
+        }
+
+        response = FlightSearchResponse.builder()
+                .originLocationCode("ICN")
+                .destinationLocationCode("LAX")
+                .departureDate(LocalDate.of(2026, 12, 20))
+                .adults(1)
+                .children(0)
+                .infants(0)
+                .apiProvider("AMADEUS")
+                .status("SUCCESS")
+                .message("항공편 검색 완료 - " + offerCount + "개 항공편 발견")
+                .flightOffers(offers)
+                .searchTimestamp(LocalDateTime.of(2026, 10, 19, 12, 0))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeFlightSearchResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+}
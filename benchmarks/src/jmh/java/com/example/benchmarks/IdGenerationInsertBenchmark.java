@@ -0,0 +1,240 @@
+package com.example.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 / 검색 기록 INSERT 처리량: IDENTITY(행마다 즉시 INSERT + 생성 키 조회) vs pooled id + JDBC batch
+ * Hibernate 가 두 id 전략에서 실제로 보내는 구문 패턴을 JDBC 로 재현하여 측정 (한 번의 호출 = 한 트랜잭션)
+ *
+ * 기본은 H2(MySQL 모드) 인메모리 DB 이므로 네트워크 왕복 비용이 빠져 있음.
+ * 실제 MySQL 로 측정하려면 -Dbench.jdbc.url=jdbc:mysql://.../bench?rewriteBatchedStatements=true
+ * -Dbench.jdbc.user=... -Dbench.jdbc.password=... 지정 (bench_ 접두사 테이블만 사용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdGenerationInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"bookings", "flight_searches"})
+    String table;
+
+    // 한 트랜잭션에서 저장하는 행 수 (단건 예약 / 단체 예약)
+    @Param({"1", "50", "200"})
+    int rowsPerTransaction;
+
+    private Connection connection;
+    private Connection sequenceConnection;
+    private String insertWithoutId;
+    private String insertWithId;
+    private long sequence;
+    private long poolNext;
+    private long poolLimit;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url", "jdbc:h2:mem:insert_bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        String user = System.getProperty("bench.jdbc.user", "sa");
+        String password = System.getProperty("bench.jdbc.password", "");
+
+        connection = DriverManager.getConnection(url, user, password);
+        // Hibernate 는 id 블록을 별도 트랜잭션에서 할당
+        sequenceConnection = DriverManager.getConnection(url, user, password);
+
+        String tableName = "bench_" + table;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + tableName);
+            statement.execute("DROP TABLE IF EXISTS " + tableName + "_seq");
+            statement.execute(createTableSql(tableName));
+            statement.execute("CREATE TABLE " + tableName + "_seq (next_val BIGINT)");
+            statement.execute("INSERT INTO " + tableName + "_seq (next_val) VALUES (1)");
+        }
+        connection.setAutoCommit(false);
+        sequenceConnection.setAutoCommit(false);
+
+        String columns = "bookings".equals(table)
+                ? "booking_reference, flight_number, origin_location_code, destination_location_code, departure_date, " +
+                  "departure_time, passenger_name, passenger_email, passenger_phone, api_provider, status, " +
+                  "booking_timestamp, booking_response, total_amount, currency"
+                : "origin_location_code, destination_location_code, departure_date, adults, children, infants, " +
+                  "api_provider, search_timestamp, search_response";
+        int columnCount = columns.split(",").length;
+        String placeholders = "?" + ", ?".repeat(columnCount - 1);
+
+        insertWithoutId = "INSERT INTO " + tableName + " (" + columns + ") VALUES (" + placeholders + ")";
+        insertWithId = "INSERT INTO " + tableName + " (id, " + columns + ") VALUES (?, " + placeholders + ")";
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_" + table);
+            statement.execute("DROP TABLE IF EXISTS bench_" + table + "_seq");
+        }
+        connection.commit();
+        connection.close();
+        sequenceConnection.close();
+    }
+
+    /**
+     * GenerationType.IDENTITY: persist 마다 INSERT 를 즉시 실행하고 생성 키를 읽음 (batch 불가)
+     */
+    @Benchmark
+    public long identityPerRowInsert() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement statement = connection.prepareStatement(insertWithoutId, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rowsPerTransaction; i++) {
+                bindRow(statement, 1, ++sequence);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    /**
+     * pooled 시퀀스: id 블록(50개)을 미리 할당받고 flush 시 batch_size 단위로 묶어서 전송
+     */
+    @Benchmark
+    public long pooledBatchInsert() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement statement = connection.prepareStatement(insertWithId)) {
+            for (int i = 0; i < rowsPerTransaction; i++) {
+                lastId = nextPooledId();
+                statement.setLong(1, lastId);
+                bindRow(statement, 2, ++sequence);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    private long nextPooledId() throws SQLException {
+        if (poolNext >= poolLimit) {
+            String sequenceTable = "bench_" + table + "_seq";
+            long hi;
+            try (Statement statement = sequenceConnection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT next_val FROM " + sequenceTable + " FOR UPDATE")) {
+                rs.next();
+                hi = rs.getLong(1);
+            }
+            try (PreparedStatement update = sequenceConnection.prepareStatement(
+                    "UPDATE " + sequenceTable + " SET next_val = ? WHERE next_val = ?")) {
+                update.setLong(1, hi + ALLOCATION_SIZE);
+                update.setLong(2, hi);
+                update.executeUpdate();
+            }
+            sequenceConnection.commit();
+            // IDENTITY 측정에서 생성된 id 와 겹치지 않도록 상위 범위 사용
+            poolNext = (1L << 40) + hi;
+            poolLimit = poolNext + ALLOCATION_SIZE;
+        }
+        return poolNext++;
+    }
+
+    private void bindRow(PreparedStatement statement, int first, long n) throws SQLException {
+        LocalDate departureDate = LocalDate.now().plusDays(30);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int i = first;
+        if ("bookings".equals(table)) {
+            statement.setString(i++, "BK" + Long.toString(n, 36).toUpperCase() + "-" + first);
+            statement.setString(i++, "KE017");
+            statement.setString(i++, "ICN");
+            statement.setString(i++, "LAX");
+            statement.setDate(i++, Date.valueOf(departureDate));
+            statement.setTime(i++, Time.valueOf(LocalTime.of(14, 30)));
+            statement.setString(i++, "Passenger " + n);
+            statement.setString(i++, "passenger" + n + "@example.com");
+            statement.setString(i++, "010-1234-5678");
+            statement.setString(i++, "AMADEUS");
+            statement.setString(i++, "C");
+            statement.setTimestamp(i++, now);
+            statement.setString(i++, "Booking confirmed by AMADEUS API");
+            statement.setBigDecimal(i++, new BigDecimal("1254.30"));
+            statement.setString(i, "USD");
+        } else {
+            statement.setString(i++, "ICN");
+            statement.setString(i++, "LAX");
+            statement.setDate(i++, Date.valueOf(departureDate));
+            statement.setInt(i++, 1);
+            statement.setInt(i++, 0);
+            statement.setInt(i++, 0);
+            statement.setString(i++, "AMADEUS");
+            statement.setTimestamp(i++, now);
+            statement.setString(i, "항공편 검색 완료 - 10개 항공편 발견");
+        }
+    }
+
+    private String createTableSql(String tableName) {
+        if ("bookings".equals(table)) {
+            return "CREATE TABLE " + tableName + " (" +
+                    "id BIGINT NOT NULL AUTO_INCREMENT, " +
+                    "booking_reference VARCHAR(20) NOT NULL, " +
+                    "flight_number VARCHAR(10) NOT NULL, " +
+                    "origin_location_code VARCHAR(3) NOT NULL, " +
+                    "destination_location_code VARCHAR(3) NOT NULL, " +
+                    "departure_date DATE NOT NULL, " +
+                    "departure_time TIME NOT NULL, " +
+                    "passenger_name VARCHAR(100) NOT NULL, " +
+                    "passenger_email VARCHAR(255) NOT NULL, " +
+                    "passenger_phone VARCHAR(20) NOT NULL, " +
+                    "api_provider VARCHAR(50) NOT NULL, " +
+                    "status CHAR(1) NOT NULL, " +
+                    "version BIGINT NOT NULL DEFAULT 0, " +
+                    "booking_timestamp TIMESTAMP(6) NOT NULL, " +
+                    "booking_response TEXT NULL, " +
+                    "total_amount DECIMAL(38, 2) NULL, " +
+                    "currency VARCHAR(3) NULL, " +
+                    "PRIMARY KEY (id), " +
+                    "CONSTRAINT uk_" + tableName + "_reference UNIQUE (booking_reference))";
+        }
+        return "CREATE TABLE " + tableName + " (" +
+                "id BIGINT NOT NULL AUTO_INCREMENT, " +
+                "origin_location_code VARCHAR(3) NOT NULL, " +
+                "destination_location_code VARCHAR(3) NOT NULL, " +
+                "departure_date DATE NOT NULL, " +
+                "return_date DATE NULL, " +
+                "adults INT NOT NULL, " +
+                "children INT NULL, " +
+                "infants INT NULL, " +
+                "api_provider VARCHAR(255) NOT NULL, " +
+                "search_timestamp TIMESTAMP(6) NOT NULL, " +
+                "search_response TEXT NULL, " +
+                "PRIMARY KEY (id))";
+    }
+}
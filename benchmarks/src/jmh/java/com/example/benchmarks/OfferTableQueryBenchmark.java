@@ -0,0 +1,93 @@
+package com.example.benchmarks;
+
+import com.example.flightsearch.dto.FlightOfferQuery;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.service.OfferTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 결과 서버 정렬/필터/집계 측정 (컬럼 표현 생성 / 재조회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OfferTableQueryBenchmark {
+
+    private static final String[] AIRLINES = {"KE", "OZ", "DL", "UA", "AA", "JL", "NH", "SQ"};
+    private static final long DEPARTURE_DAY_EPOCH_MINUTE = LocalDate.of(2026, 12, 20).toEpochDay() * 24 * 60;
+
+    @Param({"250", "2000"})
+    int offerCount;
+
+    private List<FlightSearchResponse.FlightOffer> offers;
+    private OfferTable table;
+    private FlightOfferQuery sortOnly;
+    private FlightOfferQuery filteredWithFacets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        offers = new ArrayList<>(offerCount);
+        for (int i = 0; i < offerCount; i++) {
+            double total = 700 + (i * 37 % 900) + 0.15;
+            offers.add(FlightSearchResponse.FlightOffer.builder()
+                    .id(String.valueOf(i + 1))
+                    .airline(AIRLINES[i % AIRLINES.length])
+                    .flightNumber(String.valueOf(100 + i))
+                    .departureTime(String.format("%02d:%02d", i % 24, (i * 5) % 60))
+                    .duration("PT11H" + (i % 60) + "M")
+                    // AmadeusService 변환 결과와 같이 숫자 필드를 미리 채움
+                    .durationMinutes(11 * 60 + i % 60)
+                    .departureEpochMinute(DEPARTURE_DAY_EPOCH_MINUTE + (i % 24) * 60 + (i * 5) % 60)
+                    .cabinClass(i % 5 == 0 ? "BUSINESS" : "ECONOMY")
+                    .price(FlightSearchResponse.Price.builder()
+                            .currency("USD")
+                            .total(total)
+                            .totalMinor(Math.round(total * 100))
+                            .build())
+                    .build());
+        }
+        table = OfferTable.of(offers);
+
+        sortOnly = FlightOfferQuery.builder()
+                .sortBy(FlightOfferQuery.SortField.PRICE)
+                .build();
+        filteredWithFacets = FlightOfferQuery.builder()
+                .sortBy(FlightOfferQuery.SortField.DURATION)
+                .airlines(Set.of("KE", "OZ"))
+                .departureFrom(LocalTime.of(6, 0))
+                .departureTo(LocalTime.of(18, 0))
+                .maxPrice(1200.0)
+                .facets(true)
+                .build();
+    }
+
+    @Benchmark
+    public OfferTable buildTable() {
+        return OfferTable.of(offers);
+    }
+
+    @Benchmark
+    public OfferTable.Result sortByPrice() {
+        return table.query(sortOnly);
+    }
+
+    @Benchmark
+    public OfferTable.Result filterSortAndFacet() {
+        return table.query(filteredWithFacets);
+    }
+}
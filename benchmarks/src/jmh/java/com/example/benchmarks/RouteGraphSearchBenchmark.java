@@ -0,0 +1,102 @@
+package com.example.benchmarks;
+
+import com.example.flightsearch.dto.ConnectionQuery;
+import com.example.flightsearch.dto.ConnectionSearchResponse;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.model.AirportDirectory;
+import com.example.flightsearch.service.RouteGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결 항공편 탐색 (노선 그래프 생성 + 최저가/최단 도착 k 개 탐색) 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouteGraphSearchBenchmark {
+
+    private static final String[] AIRPORTS = {"ICN", "GMP", "NRT", "HND", "KIX", "PVG", "PEK", "HKG", "TPE", "BKK",
+        "SIN", "LAX", "SFO", "SEA", "JFK", "ORD", "DXB", "LHR", "CDG", "FRA", "SYD", "HNL", "MNL", "SGN", "HAN"};
+    private static final LocalDate DEPARTURE_DATE = LocalDate.of(2026, 12, 20);
+
+    // 3일간 무작위 노선의 항공편 수 (구간 수)
+    @Param({"10000", "100000"})
+    int legCount;
+
+    @Param({"CHEAPEST", "EARLIEST_ARRIVAL"})
+    ConnectionQuery.Objective objective;
+
+    private AirportDirectory directory;
+    private List<FlightSearchResponse.FlightOffer> offers;
+    private RouteGraph graph;
+    private ConnectionQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        directory = AirportDirectory.get();
+        long dayStart = DEPARTURE_DATE.toEpochDay() * 24 * 60;
+        Random random = new Random(1);
+        offers = new ArrayList<>(legCount);
+        for (int i = 0; i < legCount; i++) {
+            String origin = AIRPORTS[random.nextInt(AIRPORTS.length)];
+            String destination = AIRPORTS[random.nextInt(AIRPORTS.length)];
+            if (origin.equals(destination)) {
+                continue;
+            }
+            long departure = dayStart + random.nextInt(3 * 24 * 60);
+            long total = 10_000 + random.nextInt(200_000);
+            offers.add(FlightSearchResponse.FlightOffer.builder()
+                .id(String.valueOf(i + 1))
+                .airline("KE")
+                .flightNumber(String.valueOf(i + 1))
+                .originLocationCode(origin)
+                .destinationLocationCode(destination)
+                .cabinClass("ECONOMY")
+                .departureEpochMinute(departure)
+                .arrivalEpochMinute(departure + 120 + random.nextInt(900))
+                .price(FlightSearchResponse.Price.builder()
+                    .currency("USD")
+                    .total(total / 100.0)
+                    .totalMinor(total)
+                    .build())
+                .build());
+        }
+        graph = RouteGraph.build(offers, directory);
+        query = ConnectionQuery.builder()
+            .originLocationCode("ICN")
+            .destinationLocationCode("LHR")
+            .departureDate(DEPARTURE_DATE)
+            .objective(objective)
+            .maxStops(2)
+            .minConnectionMinutes(90)
+            .minInternationalConnectionMinutes(180)
+            .maxConnectionMinutes(24 * 60)
+            .limit(5)
+            .build();
+    }
+
+    @Benchmark
+    public List<ConnectionSearchResponse.Itinerary> search() {
+        return graph.search(query, 50, 200_000);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public RouteGraph build() {
+        return RouteGraph.build(offers, directory);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.AmadeusConfig;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AmadeusService.convertToFlightSearchResponse 측정
+ * 녹화된 Amadeus 응답(amadeus/flight-offers-icn-lax.json)의 offer 를 반복 복제하여 크기별로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AmadeusConversionBenchmark {
+
+    @Param({"3", "50", "250"})
+    int offerCount;
+
+    private AmadeusService amadeusService;
+    private LinkedHashMap<String, Object> payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        amadeusService = new AmadeusService(new AmadeusConfig(), null, ObservationRegistry.NOOP, null, null);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        LinkedHashMap<String, Object> recorded;
+        try (InputStream in = getClass().getResourceAsStream("/amadeus/flight-offers-icn-lax.json")) {
+            recorded = objectMapper.readValue(in, new TypeReference<LinkedHashMap<String, Object>>() {});
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object> recordedOffers = (List<Object>) recorded.get("data");
+        List<Object> offers = new ArrayList<>(offerCount);
+        for (int i = 0; i < offerCount; i++) {
+            // 각 offer 를 깊은 복사하여 실제 응답처럼 서로 다른 객체 그래프를 만든다
+            offers.add(objectMapper.convertValue(recordedOffers.get(i % recordedOffers.size()),
+                    new TypeReference<LinkedHashMap<String, Object>>() {}));
+        }
+
+        payload = new LinkedHashMap<>(recorded);
+        payload.put("data", offers);
+    }
+
+    @Benchmark
+    public FlightSearchResponse convertToFlightSearchResponse() {
+        return amadeusService.convertToFlightSearchResponse(payload);
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.flightbooking.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공항 국가/시간대 참조 데이터 (classpath:reference/airports.csv)
+ * - IATA 3자리 코드를 0..17575 정수로 패킹해 배열을 직접 인덱싱 (문자열 할당/해시 조회 없음)
+ * - 예약 서비스는 국제선 여부와 출발 여부 판단에만 쓰므로 코드/국가/시간대만 보관
+ * - 엔티티 메서드에서도 쓸 수 있도록 정적 홀더로 JVM 당 한 번 로드 (ReferenceDataConfig 가 기동 시 미리 로드)
+ */
+public final class AirportDirectory {
+
+    public static final String RESOURCE = "reference/airports.csv";
+    public static final int NO_CODE = -1;
+
+    private static final int CODE_SPACE = 26 * 26 * 26;
+    private static final int COLUMNS = 3;
+    private static final ZoneOffset LATEST_OFFSET = ZoneOffset.ofHours(-12);
+
+    private static final class Holder {
+        static final AirportDirectory INSTANCE = load();
+    }
+
+    // 패킹된 코드 -> 값 (미등록 코드는 0 / -1)
+    private final short[] countryByCode;   // 국가 사전 id, 0 = 미등록
+    private final short[] zoneByCode;      // 시간대 사전 id, -1 = 미등록
+
+    private final String[] countries;      // id -> ISO 3166-1 alpha-2 (0번은 비움)
+    private final ZoneId[] zones;
+    private final int size;
+
+    private AirportDirectory(List<String[]> rows, String source) {
+        countryByCode = new short[CODE_SPACE];
+        zoneByCode = new short[CODE_SPACE];
+        Arrays.fill(zoneByCode, (short) -1);
+
+        Map<String, Integer> countryIds = new HashMap<>();
+        Map<String, Integer> zoneIds = new HashMap<>();
+        List<String> countryList = new ArrayList<>();
+        List<ZoneId> zoneList = new ArrayList<>();
+        countryList.add(null);
+
+        for (String[] cols : rows) {
+            int code = pack(cols[0]);
+            if (code == NO_CODE) {
+                throw new IllegalStateException(source + ": 잘못된 공항 코드 " + cols[0]);
+            }
+            if (countryByCode[code] != 0) {
+                throw new IllegalStateException(source + ": 중복된 공항 코드 " + cols[0]);
+            }
+            String country = cols[1].trim();
+            if (country.length() != 2) {
+                throw new IllegalStateException(source + ": 잘못된 국가 코드 " + cols[0] + "/" + country);
+            }
+            int countryId = countryIds.computeIfAbsent(country, c -> {
+                countryList.add(c);
+                return countryList.size() - 1;
+            });
+            int zoneId = zoneIds.computeIfAbsent(cols[2].trim(), z -> {
+                try {
+                    zoneList.add(ZoneId.of(z));
+                } catch (DateTimeException e) {
+                    throw new IllegalStateException(source + ": 잘못된 시간대 " + cols[0] + "/" + z, e);
+                }
+                return zoneList.size() - 1;
+            });
+
+            countryByCode[code] = (short) countryId;
+            zoneByCode[code] = (short) zoneId;
+        }
+        countries = countryList.toArray(new String[0]);
+        zones = zoneList.toArray(new ZoneId[0]);
+        size = rows.size();
+    }
+
+    /**
+     * 기본 데이터셋 (최초 호출 시 1회 로드)
+     */
+    public static AirportDirectory get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * 3자리 알파벳 코드 -> 0..17575 (대소문자 무시), 형식이 맞지 않으면 NO_CODE
+     */
+    public static int pack(CharSequence code) {
+        if (code == null || code.length() != 3) {
+            return NO_CODE;
+        }
+        int packed = 0;
+        for (int i = 0; i < 3; i++) {
+            int c = code.charAt(i) | 0x20;  // 소문자로 접기
+            if (c < 'a' || c > 'z') {
+                return NO_CODE;
+            }
+            packed = packed * 26 + (c - 'a');
+        }
+        return packed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isKnown(String code) {
+        int packed = pack(code);
+        return packed != NO_CODE && countryByCode[packed] != 0;
+    }
+
+    /**
+     * 두 공항이 모두 데이터셋에 있으면 국가로 비교
+     * 한쪽이라도 없으면 판단할 근거가 없으므로 기존 규칙(코드 앞 두 글자 비교)을 그대로 사용
+     */
+    public boolean isInternational(String origin, String destination) {
+        if (origin == null || destination == null) {
+            return false;
+        }
+        int o = pack(origin);
+        int d = pack(destination);
+        if (o != NO_CODE && d != NO_CODE && countryByCode[o] != 0 && countryByCode[d] != 0) {
+            return countryByCode[o] != countryByCode[d];
+        }
+        return origin.length() >= 2 && destination.length() >= 2
+                && !origin.substring(0, 2).equals(destination.substring(0, 2));
+    }
+
+    /**
+     * ISO 3166-1 alpha-2 국가 코드, 미등록이면 null
+     */
+    public String country(String code) {
+        int packed = pack(code);
+        return packed == NO_CODE ? null : countries[countryByCode[packed]];
+    }
+
+    /**
+     * 공항 현지 시간대, 미등록이면 null
+     */
+    public ZoneId zone(String code) {
+        int packed = pack(code);
+        if (packed == NO_CODE || zoneByCode[packed] < 0) {
+            return null;
+        }
+        return zones[zoneByCode[packed]];
+    }
+
+    /**
+     * 출발 공항 현지 시각 기준으로 이미 출발했는지 여부
+     * 출발 시간이 없으면 현지 기준 출발일이 지난 경우에만 true
+     * 미등록 공항은 시간대를 모르므로 가장 늦은 시간대(UTC-12)로도 지난 경우에만 true (취소를 잘못 막지 않음)
+     */
+    public boolean isPastDeparture(String origin, LocalDate date, LocalTime time, Instant now) {
+        if (date == null) {
+            return false;
+        }
+        LocalDateTime local = time != null ? date.atTime(time) : date.plusDays(1).atStartOfDay();
+        ZoneId zone = zone(origin);
+        Instant departure = local.atZone(zone != null ? zone : LATEST_OFFSET).toInstant();
+        return departure.isBefore(now);
+    }
+
+    /**
+     * CSV 로드 ('#' 주석 줄과 헤더 줄은 건너뜀)
+     * 번들된 리소스이므로 형식 오류는 기동 실패로 드러나게 IllegalStateException 으로 던진다
+     */
+    static AirportDirectory load() {
+        try (InputStream in = AirportDirectory.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("공항 참조 데이터가 없습니다: " + RESOURCE);
+            }
+            return read(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), RESOURCE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("공항 참조 데이터 로드 실패: " + RESOURCE, e);
+        }
+    }
+
+    static AirportDirectory read(BufferedReader reader, String source) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        boolean header = true;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            if (header) {
+                header = false;
+                continue;
+            }
+            String[] cols = line.split(",", -1);
+            if (cols.length != COLUMNS) {
+                throw new IllegalStateException(source + ": 컬럼 수가 맞지 않습니다: " + line);
+            }
+            rows.add(cols);
+        }
+        if (rows.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException(source + ": 공항 수가 너무 많습니다: " + rows.size());
+        }
+        return new AirportDirectory(rows, source);
+    }
+}
@@ -6,16 +6,18 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.UUID;
 
 @Entity
 @Table(name = "bookings", indexes = {
         @Index(name = "idx_booking_reference", columnList = "bookingReference"),
         @Index(name = "idx_passenger_email", columnList = "passengerEmail"),
-        @Index(name = "idx_booking_status", columnList = "status")
+        @Index(name = "idx_booking_status", columnList = "status"),
+        @Index(name = "idx_booking_email_flight_date", columnList = "passengerEmail, flightNumber, departureDate"),
+        @Index(name = "idx_booking_status_timestamp", columnList = "status, bookingTimestamp")
 })
 @Data  // @Value 대신 @Data 사용 (JPA에는 setter 필요)
 @Builder(toBuilder = true)
@@ -24,10 +26,14 @@ import java.util.UUID;
 @EntityListeners(AuditingEntityListener.class)
 public class Booking {
 
+    // IDENTITY 는 INSERT 마다 즉시 실행되어 JDBC batch 가 불가능하므로 pooled 시퀀스 사용
+    // (MySQL 에서는 booking_seq 테이블로 에뮬레이션, 50개 단위로 미리 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "booking_seq", allocationSize = 50)
     private Long id;
 
+    // BookingReferenceGenerator 가 발급 (시간순 정렬 + 체크 문자 포함 16자)
     @Column(name = "booking_reference", unique = true, nullable = false, length = 20)
     @NotBlank(message = "예약 참조번호는 필수입니다")
     private String bookingReference;
@@ -80,12 +86,16 @@ public class Booking {
     @NotBlank(message = "API 제공자는 필수입니다")
     private String apiProvider;
 
-    @Column(nullable = false, length = 20)
-    @NotBlank(message = "예약 상태는 필수입니다")
-    @Pattern(regexp = "^(PENDING|CONFIRMED|CANCELLED|FAILED)$",
-            message = "예약 상태는 PENDING, CONFIRMED, CANCELLED, FAILED 중 하나여야 합니다")
+    // CHAR(1) 코드로 저장, 상태 변경은 BookingStateMachine 을 통해서만
+    @Column(nullable = false, length = 1)
+    @Convert(converter = BookingStatusConverter.class)
+    @NotNull(message = "예약 상태는 필수입니다")
     @Builder.Default
-    private String status = "PENDING";
+    private BookingStatus status = BookingStatus.PENDING;
+
+    // 낙관적 락 (동시 취소/상태 변경 시 나중에 커밋하는 쪽이 실패)
+    @Version
+    private Long version;
 
     @Column(name = "booking_timestamp", nullable = false)
     @CreatedDate
@@ -101,49 +111,39 @@ public class Booking {
     @Size(min = 3, max = 3, message = "통화 코드는 3자리여야 합니다")
     private String currency;
 
-    // 예약 참조번호 자동 생성
-    @PrePersist
-    protected void generateBookingReference() {
-        if (bookingReference == null || bookingReference.isEmpty()) {
-            bookingReference = "BK" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        }
-    }
-
     // 비즈니스 로직 메서드들
     public boolean isRoundTrip() {
         return returnDate != null;
     }
 
     public boolean isConfirmed() {
-        return "CONFIRMED".equals(status);
+        return status == BookingStatus.CONFIRMED;
     }
 
     public boolean isCancelled() {
-        return "CANCELLED".equals(status);
+        return status == BookingStatus.CANCELLED;
     }
 
     public boolean isPending() {
-        return "PENDING".equals(status);
+        return status == BookingStatus.PENDING;
     }
 
     public boolean isFailed() {
-        return "FAILED".equals(status);
+        return status == BookingStatus.FAILED;
     }
 
     public boolean canBeCancelled() {
-        return isConfirmed() || isPending();
+        return status != null && status.isActive();
     }
 
     public boolean isInternationalFlight() {
-        return originLocationCode != null && destinationLocationCode != null &&
-                originLocationCode.length() >= 2 && destinationLocationCode.length() >= 2 &&
-                !originLocationCode.substring(0, 2).equals(destinationLocationCode.substring(0, 2));
+        // 코드 앞 두 글자가 아니라 참조 데이터의 국가로 비교 (ICN-LAX, JFK-LAX 등)
+        return AirportDirectory.get().isInternational(originLocationCode, destinationLocationCode);
     }
 
     public boolean isPastDeparture() {
-        if (departureDate == null) return false;
-        return departureDate.isBefore(LocalDate.now()) ||
-                (departureDate.equals(LocalDate.now()) && departureTime != null &&
-                        departureTime.isBefore(LocalTime.now()));
+        // 출발일/시간은 출발 공항 현지 시각이므로 서버 시간대가 아닌 공항 시간대로 비교
+        return AirportDirectory.get().isPastDeparture(
+                originLocationCode, departureDate, departureTime, Instant.now());
     }
 }
\ No newline at end of file
@@ -1,12 +1,17 @@
 package com.example.flightbooking.repository;
 
 import com.example.flightbooking.model.Booking;
+import com.example.flightbooking.model.BookingStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,12 +27,20 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     // 이메일과 승객명으로 조회 (예약번호를 모를 때)
     List<Booking> findByPassengerEmailAndPassengerNameOrderByBookingTimestampDesc(String passengerEmail, String passengerName);
     
-    List<Booking> findByStatusOrderByBookingTimestampDesc(String status);
+    List<Booking> findByStatusOrderByBookingTimestampDesc(BookingStatus status);
     
     // 중복 예약 확인용
     List<Booking> findByPassengerEmailAndFlightNumberAndDepartureDate(
             String passengerEmail, String flightNumber, LocalDate departureDate);
     
+    // 단체 예약 중복 확인용 (승객 이메일 목록을 한 번의 IN 쿼리로 확인)
+    @Query("SELECT b.passengerEmail FROM Booking b WHERE b.flightNumber = :flightNumber AND b.departureDate = :departureDate " +
+           "AND b.passengerEmail IN :emails AND b.status IN :statuses")
+    List<String> findBookedPassengerEmails(@Param("flightNumber") String flightNumber,
+                                           @Param("departureDate") LocalDate departureDate,
+                                           @Param("emails") Collection<String> emails,
+                                           @Param("statuses") Collection<BookingStatus> statuses);
+    
     // 특정 항공편의 예약 목록
     List<Booking> findByFlightNumberAndDepartureDateOrderByBookingTimestampDesc(
             String flightNumber, LocalDate departureDate);
@@ -37,5 +50,17 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findBookingsByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
     // 상태별 개수 조회
-    long countByStatus(String status);
+    long countByStatus(BookingStatus status);
+    
+    // 아카이브 대상 예약 (종료 상태 + 보존 기간 경과), id 순 keyset 조회
+    @Query("SELECT b FROM Booking b WHERE b.status IN :statuses AND b.bookingTimestamp < :cutoff AND b.id > :afterId ORDER BY b.id")
+    List<Booking> findArchivableBookings(@Param("statuses") Collection<BookingStatus> statuses,
+                                         @Param("cutoff") LocalDateTime cutoff,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+    
+    // 아카이브 완료된 예약 일괄 삭제 (행 단위 remove 대신 단일 DELETE)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Booking b WHERE b.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
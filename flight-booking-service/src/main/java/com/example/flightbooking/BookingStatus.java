@@ -0,0 +1,56 @@
+package com.example.flightbooking.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 예약 상태
+ * DB 에는 CHAR(1) 코드로 저장 (ordinal 이 아닌 고정 코드를 사용하므로 상수 순서를 바꿔도 안전)
+ */
+public enum BookingStatus {
+    PENDING('P'),
+    CONFIRMED('C'),
+    CANCELLED('X'),
+    FAILED('F');
+
+    // 중복 예약으로 간주하는 상태
+    public static final Set<BookingStatus> ACTIVE = Collections.unmodifiableSet(EnumSet.of(PENDING, CONFIRMED));
+
+    private final char code;
+
+    BookingStatus(char code) {
+        this.code = code;
+    }
+
+    public char getCode() {
+        return code;
+    }
+
+    public boolean isActive() {
+        return ACTIVE.contains(this);
+    }
+
+    public static BookingStatus fromCode(char code) {
+        for (BookingStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 예약 상태 코드입니다: " + code);
+    }
+
+    /**
+     * API 입력값(상태 이름, 대소문자 무시) 변환
+     */
+    public static Optional<BookingStatus> fromName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values())
+                .filter(status -> status.name().equalsIgnoreCase(name.trim()))
+                .findFirst();
+    }
+}
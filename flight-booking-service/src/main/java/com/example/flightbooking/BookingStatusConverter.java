@@ -0,0 +1,21 @@
+package com.example.flightbooking.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * BookingStatus <-> CHAR(1) 코드 변환
+ */
+@Converter
+public class BookingStatusConverter implements AttributeConverter<BookingStatus, Character> {
+
+    @Override
+    public Character convertToDatabaseColumn(BookingStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public BookingStatus convertToEntityAttribute(Character code) {
+        return code == null ? null : BookingStatus.fromCode(code);
+    }
+}
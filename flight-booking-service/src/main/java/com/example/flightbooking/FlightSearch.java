@@ -18,8 +18,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class FlightSearch {
     
+    // pooled 시퀀스 (MySQL 에서는 flight_search_seq 테이블로 에뮬레이션), IDENTITY 와 달리 JDBC batch 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "flight_search_seq")
+    @SequenceGenerator(name = "flight_search_seq", sequenceName = "flight_search_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "origin_location_code", nullable = false, length = 3)
@@ -86,8 +88,7 @@ public class FlightSearch {
     }
     
     public boolean isInternationalFlight() {
-        return originLocationCode != null && destinationLocationCode != null &&
-               originLocationCode.length() >= 2 && destinationLocationCode.length() >= 2 &&
-               !originLocationCode.substring(0, 2).equals(destinationLocationCode.substring(0, 2));
+        // 코드 앞 두 글자가 아니라 참조 데이터의 국가로 비교 (ICN-LAX, JFK-LAX 등)
+        return AirportDirectory.get().isInternational(originLocationCode, destinationLocationCode);
     }
 }
\ No newline at end of file
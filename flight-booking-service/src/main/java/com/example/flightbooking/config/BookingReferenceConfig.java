@@ -0,0 +1,23 @@
+package com.example.flightbooking.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 예약 참조번호 발급 설정
+ * 인스턴스마다 서로 다른 node-id 를 지정해야 DB 조회 없이도 충돌이 발생하지 않음
+ */
+@Component
+@ConfigurationProperties(prefix = "booking-reference")
+@Getter
+@Setter
+public class BookingReferenceConfig {
+    // 0 ~ 1023, 지정하지 않으면 호스트명에서 유도 (단일 호스트/개발 환경용)
+    private Integer nodeId;
+    // 타임스탬프 기준 시각 (변경 금지: 바꾸면 이미 발급된 번호와 순서/충돌 보장이 깨짐)
+    private Instant epoch = Instant.parse("2024-01-01T00:00:00Z");
+}
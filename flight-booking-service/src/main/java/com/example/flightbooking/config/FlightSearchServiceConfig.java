@@ -0,0 +1,30 @@
+package com.example.flightbooking.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Flight Search Service 연동 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "services.flight-search")
+@Getter
+@Setter
+public class FlightSearchServiceConfig {
+    private String url;
+    private int connectTimeoutMs = 2000;
+    private int responseTimeoutMs = 3000;
+    // 커넥션 풀 설정
+    private int maxConnections = 50;
+    private int pendingAcquireTimeoutMs = 2000;
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    // 가용성 캐시 설정 (항공편+날짜 단위)
+    private Duration availabilityCacheTtl = Duration.ofSeconds(60);
+    private int availabilityCacheMaxSize = 10000;
+    // Search Service 장애 시 예약 허용 여부 (true: fail-open, false: fail-closed)
+    private boolean failOpen = true;
+}
@@ -0,0 +1,27 @@
+package com.example.flightbooking.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 로그 샘플링 설정
+ * 샘플링에서 제외된 요청은 INFO 이하 로그를 남기지 않음 (WARN/ERROR 는 항상 기록)
+ * 부하 테스트로 효과를 확인하기 전까지 기본 비활성 (LOG_SAMPLING_ENABLED=true 로 켬)
+ * LogSampling* 클래스는 flight-search-service 에도 같은 내용으로 있음 (공유 모듈 없이 서비스별로 빌드/배포), 수정 시 함께 변경
+ */
+@Component
+@ConfigurationProperties(prefix = "log-sampling")
+@Getter
+@Setter
+public class LogSamplingConfig {
+    private boolean enabled = false;
+    // 매칭되는 규칙이 없는 요청의 샘플링 비율 (0.0 ~ 1.0)
+    private double defaultRate = 1.0;
+    // 경로 패턴(Ant) -> 샘플링 비율, 먼저 선언된 패턴이 우선
+    private Map<String, Double> endpoints = new LinkedHashMap<>();
+}
@@ -0,0 +1,26 @@
+package com.example.flightbooking.config;
+
+import com.example.flightbooking.model.BookingStatus;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 종료 상태(CANCELLED/FAILED) 예약 아카이브 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "retention.booking")
+@Getter
+@Setter
+public class RetentionConfig {
+    private boolean enabled;
+    // 예약 시점 기준 보존 개월 수
+    private int retainMonths = 12;
+    private List<BookingStatus> statuses = List.of(BookingStatus.CANCELLED, BookingStatus.FAILED);
+    // 한 번에 아카이브/삭제할 행 수
+    private int chunkSize = 1000;
+    private String archiveDir = "./archive/bookings";
+}
@@ -1,16 +1,56 @@
 package com.example.flightbooking.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
+    private final FlightSearchServiceConfig flightSearchServiceConfig;
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public WebClient webClient(WebClient.Builder webClientBuilder) {
+        return webClientBuilder
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024))
+                .build();
+    }
+
+    /**
+     * Flight Search Service 호출용 WebClient (커넥션 풀 + 타임아웃)
+     * 자동 구성된 Builder 를 사용하므로 호출마다 client span 이 생성되고 traceparent 헤더가 전파됨
+     */
+    @Bean("flightSearchWebClient")
+    public WebClient flightSearchWebClient(WebClient.Builder webClientBuilder) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("flight-search")
+                .maxConnections(flightSearchServiceConfig.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(flightSearchServiceConfig.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(flightSearchServiceConfig.getMaxIdleTime())
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, flightSearchServiceConfig.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(flightSearchServiceConfig.getResponseTimeoutMs()))
+                .doOnConnected(conn ->
+                        conn.addHandlerLast(new ReadTimeoutHandler(flightSearchServiceConfig.getResponseTimeoutMs(), TimeUnit.MILLISECONDS))
+                );
+
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl(flightSearchServiceConfig.getUrl())
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024))
+                .defaultHeader("Content-Type", "application/json")
+                .defaultHeader("Accept", "application/json")
                 .build();
     }
 } 
\ No newline at end of file
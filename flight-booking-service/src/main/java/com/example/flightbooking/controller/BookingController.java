@@ -2,6 +2,8 @@ package com.example.flightbooking.controller;
 
 import com.example.flightbooking.dto.BookingRequest;
 import com.example.flightbooking.dto.BookingResponse;
+import com.example.flightbooking.dto.BulkBookingRequest;
+import com.example.flightbooking.dto.BulkBookingResponse;
 import com.example.flightbooking.service.BookingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -60,6 +62,27 @@ public class BookingController {
         }
     }
 
+    @Operation(summary = "단체 예약 생성", description = "동일 항공편에 최대 200명의 승객을 한 번에 예약합니다. 승객별 결과를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "전체 승객 예약 성공",
+                    content = @Content(schema = @Schema(implementation = BulkBookingResponse.class))),
+            @ApiResponse(responseCode = "207", description = "일부 승객만 예약 성공 (항목별 결과 확인)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+            @ApiResponse(responseCode = "409", description = "항공편 예약 불가 또는 비즈니스 규칙 위반")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkBookingResponse> createBulkBooking(
+            @Valid @RequestBody BulkBookingRequest request) {
+        
+        log.info("Bulk booking request received: {} ({} passengers)", 
+                request.getFlightNumber(), request.getPassengers().size());
+        
+        BulkBookingResponse response = bookingService.createBulkBooking(request);
+        HttpStatus status = response.isAllSucceeded() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        
+        return ResponseEntity.status(status).body(response);
+    }
+
     @Operation(summary = "예약 참조번호로 조회", description = "예약 참조번호를 사용하여 예약 정보를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "예약 조회 성공",
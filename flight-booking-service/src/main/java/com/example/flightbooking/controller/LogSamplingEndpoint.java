@@ -0,0 +1,38 @@
+package com.example.flightbooking.controller;
+
+import com.example.flightbooking.config.LogSamplingFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 요청 로그 샘플링 비율 조회/변경 Actuator 엔드포인트
+ * (로거 레벨 변경은 기본 제공되는 /actuator/loggers 사용)
+ *
+ * GET  /actuator/logsampling
+ * POST /actuator/logsampling {"pattern": "/api/bookings/reference/**", "rate": 0.05}
+ */
+@Component
+@Endpoint(id = "logsampling")
+@RequiredArgsConstructor
+public class LogSamplingEndpoint {
+
+    private final LogSamplingFilter logSamplingFilter;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return logSamplingFilter.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Boolean enabled, @Nullable Double defaultRate,
+                                      @Nullable String pattern, @Nullable Double rate) {
+        logSamplingFilter.update(enabled, defaultRate, pattern, rate);
+        return logSamplingFilter.status();
+    }
+}
@@ -89,7 +89,7 @@ public class BookingResponse {
                 .passengerEmail(entity.getPassengerEmail())
                 .passengerPhone(entity.getPassengerPhone())
                 .apiProvider(entity.getApiProvider())
-                .status(entity.getStatus())
+                .status(entity.getStatus().name())
                 .bookingTimestamp(entity.getBookingTimestamp())
                 .totalAmount(entity.getTotalAmount())
                 .currency(entity.getCurrency())
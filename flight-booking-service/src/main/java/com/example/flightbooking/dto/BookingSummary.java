@@ -61,7 +61,7 @@ public class BookingSummary {
                 .departureTime(entity.getDepartureTime())
                 .returnDate(entity.getReturnDate())
                 .passengerName(entity.getPassengerName())
-                .status(entity.getStatus())
+                .status(entity.getStatus().name())
                 .bookingTimestamp(entity.getBookingTimestamp())
                 .totalAmount(entity.getTotalAmount())
                 .currency(entity.getCurrency())
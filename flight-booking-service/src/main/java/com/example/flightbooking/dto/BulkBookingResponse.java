@@ -0,0 +1,58 @@
+package com.example.flightbooking.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 단체/기업 예약 결과 (요청 순서대로 항목별 결과 포함)
+ */
+@Value
+@Builder
+public class BulkBookingResponse {
+
+    String flightNumber;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate departureDate;
+
+    int requested;
+
+    int succeeded;
+
+    int failed;
+
+    List<ItemResult> results;
+
+    @JsonIgnore
+    public boolean isAllSucceeded() {
+        return failed == 0;
+    }
+
+    @Value
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+
+        // 요청의 passengers 목록 내 위치 (0부터)
+        int index;
+
+        String passengerName;
+
+        String passengerEmail;
+
+        // CONFIRMED, INVALID, DUPLICATE, FAILED
+        String status;
+
+        Long bookingId;
+
+        String bookingReference;
+
+        String message;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.flightbooking.service;
+
+import com.example.flightbooking.config.RetentionConfig;
+import com.example.flightbooking.dto.BookingResponse;
+import com.example.flightbooking.model.Booking;
+import com.example.flightbooking.repository.BookingRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 종료 상태 예약 아카이브 서비스
+ * 보존 기간이 지난 CANCELLED/FAILED 예약을 gzip NDJSON 파일에 모두 기록해 확정한 뒤
+ * 청크별 단일 DELETE 로 제거하여 bookings 테이블 크기를 일정하게 유지
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingArchiveService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final BookingRepository bookingRepository;
+    private final RetentionConfig retentionConfig;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${retention.booking.cron:0 0 4 * * *}")
+    public void runArchive() {
+        if (!retentionConfig.isEnabled()) {
+            return;
+        }
+
+        try {
+            long archived = archiveTerminalBookings(LocalDateTime.now().minusMonths(retentionConfig.getRetainMonths()));
+            log.info("Booking archive finished: {} bookings archived", archived);
+        } catch (Exception e) {
+            log.error("Booking archive failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * cutoff 이전의 종료 상태 예약을 아카이브
+     * 1) 대상 전체를 임시 파일에 기록하고 fsync 후 최종 이름으로 원자적 이동
+     * 2) 파일이 확정된 뒤에만 기록한 id 를 청크 단위로 삭제
+     * 기록 중 실패하면 삭제한 행이 없으므로 임시 파일만 지우고, 삭제 중 실패하면 남은 행은 다음 실행에서 다시 아카이브됨
+     */
+    public long archiveTerminalBookings(LocalDateTime cutoff) throws IOException {
+        Path directory = Paths.get(retentionConfig.getArchiveDir());
+        Files.createDirectories(directory);
+
+        Path target = directory.resolve("bookings-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".ndjson.gz");
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        int chunkSize = Math.max(1, retentionConfig.getChunkSize());
+
+        long[] ids;
+        try {
+            ids = writeArchive(temp, cutoff, chunkSize);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        if (ids.length == 0) {
+            Files.deleteIfExists(temp);
+            return 0;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(directory);
+        log.info("Booking archive written: {} ({} bookings)", target, ids.length);
+
+        long deleted = 0;
+        for (int from = 0; from < ids.length; from += chunkSize) {
+            List<Long> chunk = Arrays.stream(ids, from, Math.min(from + chunkSize, ids.length)).boxed().toList();
+            Integer count = transactionTemplate.execute(status -> bookingRepository.deleteAllByIdIn(chunk));
+            deleted += count != null ? count : 0;
+            log.debug("Deleted archived booking chunk up to id {}", chunk.get(chunk.size() - 1));
+        }
+        return deleted;
+    }
+
+    /**
+     * 대상 예약을 id 순으로 gzip NDJSON 파일에 기록하고 디스크까지 동기화
+     *
+     * @return 기록한 예약 id (오름차순)
+     */
+    private long[] writeArchive(Path file, LocalDateTime cutoff, int chunkSize) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(BookingResponse.class);
+        long[] ids = new long[chunkSize];
+        int count = 0;
+        long lastId = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             GZIPOutputStream out = new GZIPOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            while (true) {
+                List<Booking> chunk = bookingRepository.findArchivableBookings(
+                        retentionConfig.getStatuses(), cutoff, lastId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                for (Booking booking : chunk) {
+                    out.write(writer.writeValueAsBytes(BookingResponse.from(booking)));
+                    out.write('\n');
+                    if (count == ids.length) {
+                        ids = Arrays.copyOf(ids, count * 2);
+                    }
+                    ids[count++] = booking.getId();
+                }
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+
+            out.finish();
+            out.flush();
+            channel.force(true);
+        }
+        return Arrays.copyOf(ids, count);
+    }
+
+    // 이동(rename) 자체가 디스크에 남도록 디렉터리도 동기화 (지원하지 않는 파일 시스템은 생략)
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("Directory sync not supported for {}: {}", directory, e.getMessage());
+        }
+    }
+}
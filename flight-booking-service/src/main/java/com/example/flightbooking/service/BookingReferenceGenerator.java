@@ -0,0 +1,125 @@
+package com.example.flightbooking.service;
+
+import com.example.flightbooking.config.BookingReferenceConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 예약 참조번호 발급기
+ *
+ * 형식: "BK" + Crockford base32 13자리 + 체크 문자 1자리 (총 16자)
+ * - 63비트 = 타임스탬프(ms, 41비트) | 노드 id(10비트) | 밀리초 내 순번(12비트)
+ * - 노드 id 가 인스턴스마다 다르면 DB 조회 없이 전역 유일
+ * - 고정 길이 + 오름차순 알파벳이므로 문자열 정렬 = 발급 순서 (인덱스 끝부분에 추가되어 B-tree 분할이 적음)
+ * - 체크 문자(mod 37)로 오타 입력은 DB 조회 전에 걸러냄
+ */
+@Component
+@Slf4j
+public class BookingReferenceGenerator {
+
+    public static final String PREFIX = "BK";
+    public static final int LENGTH = PREFIX.length() + 13 + 1;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final char[] CHECK_SYMBOLS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ*~$=U".toCharArray();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long epochMillis;
+    private final long nodeId;
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public BookingReferenceGenerator(BookingReferenceConfig bookingReferenceConfig) {
+        this.epochMillis = bookingReferenceConfig.getEpoch().toEpochMilli();
+        this.nodeId = resolveNodeId(bookingReferenceConfig.getNodeId());
+        log.info("Booking reference generator initialized: nodeId={}", nodeId);
+    }
+
+    /**
+     * 새 참조번호 발급
+     */
+    public String next() {
+        long id = nextId();
+
+        char[] chars = new char[LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        long value = id;
+        for (int i = LENGTH - 2; i >= PREFIX.length(); i--) {
+            chars[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        chars[LENGTH - 1] = CHECK_SYMBOLS[(int) Long.remainderUnsigned(id, CHECK_SYMBOLS.length)];
+        return new String(chars);
+    }
+
+    /**
+     * 현재 형식의 참조번호인데 체크 문자가 맞지 않는 경우 (이전 형식 참조번호는 false)
+     */
+    public boolean isMistyped(String reference) {
+        if (reference == null || reference.length() != LENGTH || !reference.startsWith(PREFIX)) {
+            return false;
+        }
+        long id = 0;
+        for (int i = PREFIX.length(); i < LENGTH - 1; i++) {
+            int digit = decode(reference.charAt(i));
+            if (digit < 0) {
+                return true;
+            }
+            id = (id << 5) | digit;
+        }
+        return reference.charAt(LENGTH - 1) != CHECK_SYMBOLS[(int) Long.remainderUnsigned(id, CHECK_SYMBOLS.length)];
+    }
+
+    private synchronized long nextId() {
+        long timestamp = Math.max(System.currentTimeMillis() - epochMillis, lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 밀리초에 4096건 초과: 다음 밀리초로 넘어감 (시계 역행 시에도 마지막 시각 기준으로 단조 증가)
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    private static int decode(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long resolveNodeId(Integer configured) {
+        if (configured != null) {
+            if (configured < 0 || configured > MAX_NODE_ID) {
+                throw new IllegalArgumentException("booking-reference.node-id 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + configured);
+            }
+            return configured;
+        }
+
+        try {
+            String hostName = InetAddress.getLocalHost().getHostName();
+            long derived = (hostName.hashCode() & 0x7fffffffL) % (MAX_NODE_ID + 1);
+            log.warn("booking-reference.node-id 가 지정되지 않아 호스트명({})에서 유도합니다: {} " +
+                    "(여러 인스턴스 운영 시 BOOKING_NODE_ID 를 인스턴스마다 다르게 지정하세요)", hostName, derived);
+            return derived;
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("booking-reference.node-id 를 지정해야 합니다", e);
+        }
+    }
+}
@@ -2,32 +2,46 @@ package com.example.flightbooking.service;
 
 import com.example.flightbooking.dto.BookingRequest;
 import com.example.flightbooking.dto.BookingResponse;
+import com.example.flightbooking.dto.BulkBookingRequest;
+import com.example.flightbooking.dto.BulkBookingResponse;
 import com.example.flightbooking.model.Booking;
+import com.example.flightbooking.model.BookingStatus;
 import com.example.flightbooking.repository.BookingRepository;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.bind.annotation.ResponseStatus;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Observed(name = "booking.service")
 public class BookingService {
 
     private final BookingRepository bookingRepository;
-    private final WebClient webClient;
-    
-    @Value("${services.flight-search.url}")
-    private String searchServiceUrl;
+    private final FlightAvailabilityService flightAvailabilityService;
+    private final Validator validator;
+    private final BookingReferenceGenerator bookingReferenceGenerator;
+    private final BookingStateMachine bookingStateMachine;
 
     /**
      * 새 예약 생성
@@ -42,7 +56,7 @@ public class BookingService {
             validateBookingRequest(request);
 
             // 2. 항공편 존재 여부 확인 (실제 API 호출)
-            validateFlightAvailability(request);
+            validateFlightAvailability(request, 1);
 
             // 3. 중복 예약 확인
             checkDuplicateBooking(request);
@@ -64,7 +78,7 @@ public class BookingService {
             
             // 실패한 예약 기록도 저장 (문제 추적용)
             Booking failedBooking = createBookingEntity(request);
-            failedBooking.setStatus("FAILED");
+            bookingStateMachine.transition(failedBooking, BookingStatus.FAILED);
             failedBooking.setBookingResponse("Booking failed: " + e.getMessage());
             bookingRepository.save(failedBooking);
             
@@ -72,12 +86,112 @@ public class BookingService {
         }
     }
 
+    /**
+     * 단체/기업 예약 생성 (동일 항공편, 최대 200명)
+     * - 승객별 검증 후 유효한 항목만 진행, 결과는 항목별로 반환
+     * - 중복 예약은 한 번의 집합 쿼리로 확인
+     * - 항공편 가용성 확인과 외부 예약 API 호출은 요청당 한 번
+     * - 저장은 하나의 트랜잭션에서 JDBC batch insert
+     */
+    @Transactional
+    public BulkBookingResponse createBulkBooking(BulkBookingRequest request) {
+        List<BulkBookingRequest.Passenger> passengers = request.getPassengers();
+        log.info("Creating bulk booking for flight: {} ({} passengers)", request.getFlightNumber(), passengers.size());
+
+        BulkBookingResponse.ItemResult[] results = new BulkBookingResponse.ItemResult[passengers.size()];
+        Map<Integer, BookingRequest> accepted = new LinkedHashMap<>();
+
+        // 1. 승객별 검증 + 요청 내 중복 이메일 제거
+        Set<String> emailsInRequest = new HashSet<>();
+        for (int i = 0; i < passengers.size(); i++) {
+            BulkBookingRequest.Passenger passenger = passengers.get(i);
+            Set<ConstraintViolation<BulkBookingRequest.Passenger>> violations = validator.validate(passenger);
+            if (!violations.isEmpty()) {
+                results[i] = itemResult(i, passenger, "INVALID", null, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            } else if (!emailsInRequest.add(normalizeEmail(passenger.getPassengerEmail()))) {
+                results[i] = itemResult(i, passenger, "DUPLICATE", null, "요청 내에 동일한 승객이 포함되어 있습니다.");
+            } else {
+                accepted.put(i, request.toBookingRequest(passenger));
+            }
+        }
+
+        // 2. 기존 예약과의 중복 확인 (단일 IN 쿼리)
+        if (!accepted.isEmpty()) {
+            Set<String> alreadyBooked = bookingRepository.findBookedPassengerEmails(
+                            request.getFlightNumber(), request.getDepartureDate(),
+                            accepted.values().stream().map(BookingRequest::getPassengerEmail).toList(),
+                            BookingStatus.ACTIVE)
+                    .stream()
+                    .map(this::normalizeEmail)
+                    .collect(Collectors.toSet());
+
+            accepted.entrySet().removeIf(entry -> {
+                if (!alreadyBooked.contains(normalizeEmail(entry.getValue().getPassengerEmail()))) {
+                    return false;
+                }
+                int index = entry.getKey();
+                results[index] = itemResult(index, passengers.get(index), "DUPLICATE", null,
+                        "이미 해당 항공편에 대한 예약이 존재합니다.");
+                return true;
+            });
+        }
+
+        if (!accepted.isEmpty()) {
+            // 3. 항공편 가용성 확인 (요청당 1회, 좌석이 단체 인원보다 적으면 전체 실패)
+            validateFlightAvailability(accepted.values().iterator().next(), accepted.size());
+
+            // 4. 엔티티 생성 + 외부 API 호출 (요청당 1회)
+            List<Booking> bookings = accepted.values().stream()
+                    .map(this::createBookingEntity)
+                    .toList();
+            try {
+                simulateExternalGroupBookingApi(bookings, request.getApiProvider());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BookingException("단체 예약 처리 중 중단되었습니다.", e);
+            }
+
+            // 5. 일괄 저장 (pooled id 할당 + hibernate.jdbc.batch_size 단위 batch insert)
+            List<Booking> saved = bookingRepository.saveAll(bookings);
+
+            int position = 0;
+            for (Integer index : accepted.keySet()) {
+                Booking booking = saved.get(position++);
+                results[index] = itemResult(index, passengers.get(index), booking.getStatus().name(), booking, null);
+            }
+        }
+
+        List<BulkBookingResponse.ItemResult> resultList = List.of(results);
+        int succeeded = (int) resultList.stream().filter(result -> BookingStatus.CONFIRMED.name().equals(result.getStatus())).count();
+
+        log.info("Bulk booking completed for flight: {} ({} succeeded, {} failed)",
+                request.getFlightNumber(), succeeded, resultList.size() - succeeded);
+
+        return BulkBookingResponse.builder()
+                .flightNumber(request.getFlightNumber())
+                .departureDate(request.getDepartureDate())
+                .requested(resultList.size())
+                .succeeded(succeeded)
+                .failed(resultList.size() - succeeded)
+                .results(resultList)
+                .build();
+    }
+
     /**
      * 예약 참조번호로 조회
      */
     public Optional<BookingResponse> getBookingByReference(String bookingReference) {
         log.info("Retrieving booking by reference: {}", bookingReference);
-        
+
+        // 체크 문자가 맞지 않는 참조번호는 DB 조회 없이 바로 미존재 처리
+        if (bookingReferenceGenerator.isMistyped(bookingReference)) {
+            log.info("Mistyped booking reference rejected: {}", bookingReference);
+            return Optional.empty();
+        }
+
         return bookingRepository.findByBookingReference(bookingReference)
                 .map(BookingResponse::from);
     }
@@ -136,29 +250,30 @@ public class BookingService {
         Booking booking = bookingRepository.findByBookingReference(bookingReference)
                 .orElseThrow(() -> new BookingNotFoundException("예약을 찾을 수 없습니다: " + bookingReference));
 
-        // 취소 가능 여부 확인
+        // 취소 가능 여부 확인 (현재 상태 + 출발 전인지, 외부 API 호출 전에 확인)
         if (!booking.canBeCancelled()) {
             throw new BookingException("취소할 수 없는 예약입니다. 현재 상태: " + booking.getStatus());
         }
-
-        // 출발 시간 확인 (출발 24시간 전까지만 취소 가능)
-        if (booking.isPastDeparture()) {
-            throw new BookingException("이미 출발한 항공편은 취소할 수 없습니다.");
-        }
+        bookingStateMachine.verify(booking, BookingStatus.CANCELLED);
 
         try {
             // 외부 API 취소 호출 시뮬레이션
             simulateExternalCancellationApi(booking);
 
             // 상태 업데이트
-            booking.setStatus("CANCELLED");
+            bookingStateMachine.transition(booking, BookingStatus.CANCELLED);
             booking.setBookingResponse(booking.getBookingResponse() + "\nCancelled at: " + LocalDateTime.now());
 
-            Booking cancelledBooking = bookingRepository.save(booking);
+            // 즉시 flush 하여 version 충돌을 이 메서드 안에서 감지
+            Booking cancelledBooking = bookingRepository.saveAndFlush(booking);
             
             log.info("Booking cancelled successfully: {}", bookingReference);
             return BookingResponse.from(cancelledBooking);
 
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Concurrent modification while cancelling booking: {}", bookingReference);
+            throw new BookingConflictException("다른 요청에 의해 예약이 변경되었습니다. 다시 조회 후 시도해주세요: " + bookingReference, e);
+
         } catch (Exception e) {
             log.error("Failed to cancel booking: {}", bookingReference, e);
             throw new BookingException("예약 취소에 실패했습니다: " + e.getMessage(), e);
@@ -175,11 +290,19 @@ public class BookingService {
         Booking booking = bookingRepository.findByBookingReference(bookingReference)
                 .orElseThrow(() -> new BookingNotFoundException("예약을 찾을 수 없습니다: " + bookingReference));
 
-        // 상태 변경 유효성 검증
-        validateStatusChange(booking.getStatus(), newStatus);
+        BookingStatus targetStatus = BookingStatus.fromName(newStatus)
+                .orElseThrow(() -> new BookingException("알 수 없는 예약 상태입니다: " + newStatus));
 
-        booking.setStatus(newStatus);
-        Booking updatedBooking = bookingRepository.save(booking);
+        // 상태 변경 유효성 검증 (전이 규칙은 BookingStateMachine)
+        bookingStateMachine.transition(booking, targetStatus);
+
+        Booking updatedBooking;
+        try {
+            updatedBooking = bookingRepository.saveAndFlush(booking);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Concurrent modification while updating booking status: {}", bookingReference);
+            throw new BookingConflictException("다른 요청에 의해 예약이 변경되었습니다. 다시 조회 후 시도해주세요: " + bookingReference, e);
+        }
 
         log.info("Booking status updated successfully: {} -> {}", bookingReference, newStatus);
         return BookingResponse.from(updatedBooking);
@@ -204,35 +327,21 @@ public class BookingService {
         }
     }
 
-    private void validateFlightAvailability(BookingRequest request) {
-        try {
-            // TODO: MSA 환경에서 Search Service로 HTTP 호출하여 항공편 유효성 검증
-            // 현재는 검증을 스킵하고 나중에 구현
-            log.info("Flight availability validation skipped for MSA - to be implemented");
-            /*
-            // 실제 항공편 검색 API 호출해서 존재하는지 확인
-            FlightSearchResponse searchResponse = flightService.searchFlights(
-                    com.example.flightbooking.dto.FlightSearchRequest.builder()
-                            .originLocationCode(request.getOriginLocationCode())
-                            .destinationLocationCode(request.getDestinationLocationCode())
-                            .departureDate(request.getDepartureDate())
-                            .adults(1)
-                            .build()
-            ).block(); // Mono를 동기적으로 변환
-
-            if (searchResponse != null && searchResponse.getFlightOffers() != null) {
-                boolean flightExists = searchResponse.getFlightOffers().stream()
-                        .anyMatch(flight -> flight.getFlightNumber().equals(request.getFlightNumber()));
-
-                if (!flightExists) {
-                    throw new BookingException("해당 항공편을 찾을 수 없습니다: " + request.getFlightNumber());
-                }
+    private void validateFlightAvailability(BookingRequest request, int seatsRequired) {
+        // Search Service 에서 항공편 존재 및 잔여 좌석 확인 (캐시/장애 정책은 FlightAvailabilityService 에서 처리)
+        FlightAvailabilityService.FlightAvailability availability = flightAvailabilityService.checkAvailability(request);
+
+        if (!availability.available()) {
+            if (availability.verified()) {
+                throw new BookingException("해당 항공편을 찾을 수 없거나 잔여 좌석이 없습니다: " + request.getFlightNumber());
             }
-            */
+            throw new BookingException("항공편 가용성을 확인할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
 
-        } catch (Exception e) {
-            log.warn("Could not validate flight availability: {}", e.getMessage());
-            // 항공편 검색 실패 시에도 예약은 진행 (실제 운영에서는 더 엄격하게 처리)
+        // 확인된 잔여 좌석 수가 있으면 요청 인원과 비교 (fail-open 으로 통과한 경우는 좌석 수를 모르므로 건너뜀)
+        if (availability.verified() && availability.seats() != null && availability.seats() < seatsRequired) {
+            throw new BookingException("잔여 좌석이 부족합니다: " + request.getFlightNumber()
+                    + " (요청 " + seatsRequired + "석, 잔여 " + availability.seats() + "석)");
         }
     }
 
@@ -245,7 +354,7 @@ public class BookingService {
         );
 
         boolean hasPendingOrConfirmedBooking = existingBookings.stream()
-                .anyMatch(booking -> "PENDING".equals(booking.getStatus()) || "CONFIRMED".equals(booking.getStatus()));
+                .anyMatch(booking -> booking.getStatus().isActive());
 
         if (hasPendingOrConfirmedBooking) {
             throw new BookingException("이미 해당 항공편에 대한 예약이 존재합니다.");
@@ -254,6 +363,7 @@ public class BookingService {
 
     private Booking createBookingEntity(BookingRequest request) {
         return Booking.builder()
+                .bookingReference(bookingReferenceGenerator.next())
                 .flightNumber(request.getFlightNumber())
                 .originLocationCode(request.getOriginLocationCode())
                 .destinationLocationCode(request.getDestinationLocationCode())
@@ -267,7 +377,7 @@ public class BookingService {
                 .apiProvider(request.getApiProvider())
                 .totalAmount(request.getTotalAmount())
                 .currency(request.getCurrency())
-                .status("PENDING")
+                .status(BookingStatus.PENDING)
                 .bookingTimestamp(LocalDateTime.now())
                 .build();
     }
@@ -289,10 +399,47 @@ public class BookingService {
                 booking.getBookingReference()
         );
         
-        booking.setStatus("CONFIRMED");
+        bookingStateMachine.transition(booking, BookingStatus.CONFIRMED);
         booking.setBookingResponse(apiResponse);
     }
 
+    private void simulateExternalGroupBookingApi(List<Booking> bookings, String apiProvider) throws InterruptedException {
+        // 단체 예약은 외부 API 한 번의 호출로 전체 승객을 처리 (실제로는 Amadeus/Sabre 그룹 PNR)
+        log.info("Calling external group booking API for provider: {} ({} passengers)", apiProvider, bookings.size());
+        
+        // API 호출 지연 시뮬레이션
+        Thread.sleep(1000);
+        
+        String apiResponse = String.format(
+                "Group booking confirmed by %s API at %s. Group size: %d",
+                apiProvider,
+                LocalDateTime.now(),
+                bookings.size()
+        );
+        
+        for (Booking booking : bookings) {
+            bookingStateMachine.transition(booking, BookingStatus.CONFIRMED);
+            booking.setBookingResponse(apiResponse);
+        }
+    }
+
+    private BulkBookingResponse.ItemResult itemResult(int index, BulkBookingRequest.Passenger passenger, String status,
+                                                       Booking booking, String message) {
+        return BulkBookingResponse.ItemResult.builder()
+                .index(index)
+                .passengerName(passenger.getPassengerName())
+                .passengerEmail(passenger.getPassengerEmail())
+                .status(status)
+                .bookingId(booking != null ? booking.getId() : null)
+                .bookingReference(booking != null ? booking.getBookingReference() : null)
+                .message(message)
+                .build();
+    }
+
+    private String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase();
+    }
+
     private void simulateExternalCancellationApi(Booking booking) throws InterruptedException {
         log.info("Calling external cancellation API for provider: {}", booking.getApiProvider());
         
@@ -305,22 +452,6 @@ public class BookingService {
         }
     }
 
-    private void validateStatusChange(String currentStatus, String newStatus) {
-        // 상태 변경 규칙 정의
-        boolean isValidChange = switch (currentStatus) {
-            case "PENDING" -> "CONFIRMED".equals(newStatus) || "CANCELLED".equals(newStatus) || "FAILED".equals(newStatus);
-            case "CONFIRMED" -> "CANCELLED".equals(newStatus);
-            case "CANCELLED", "FAILED" -> false; // 최종 상태에서는 변경 불가
-            default -> false;
-        };
-
-        if (!isValidChange) {
-            throw new BookingException(
-                    String.format("잘못된 상태 변경입니다: %s -> %s", currentStatus, newStatus)
-            );
-        }
-    }
-
     // === Exception Classes ===
     
     public static class BookingException extends RuntimeException {
@@ -333,6 +464,14 @@ public class BookingService {
         }
     }
 
+    // 동시 변경으로 version 이 맞지 않는 경우 (409)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public static class BookingConflictException extends BookingException {
+        public BookingConflictException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
     public static class BookingNotFoundException extends RuntimeException {
         public BookingNotFoundException(String message) {
             super(message);
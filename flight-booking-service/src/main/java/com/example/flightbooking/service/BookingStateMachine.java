@@ -0,0 +1,75 @@
+package com.example.flightbooking.service;
+
+import com.example.flightbooking.model.Booking;
+import com.example.flightbooking.model.BookingStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 예약 상태 전이 규칙
+ *
+ * PENDING   -> CONFIRMED, CANCELLED, FAILED
+ * CONFIRMED -> CANCELLED
+ * CANCELLED, FAILED: 최종 상태
+ *
+ * 취소는 출발 전까지만 허용 (가드), 전이마다 로그와 booking.status.transitions 카운터를 남김 (훅)
+ */
+@Component
+@Slf4j
+public class BookingStateMachine {
+
+    private final StateMachine<BookingStatus, Booking> stateMachine;
+
+    public BookingStateMachine(MeterRegistry meterRegistry) {
+        StateMachine.Guard<Booking> beforeDeparture =
+                booking -> booking.isPastDeparture() ? "이미 출발한 항공편은 취소할 수 없습니다." : null;
+
+        this.stateMachine = StateMachine.builder(BookingStatus.class, Booking::getStatus, Booking::setStatus)
+                .permit(BookingStatus.PENDING, BookingStatus.CONFIRMED)
+                .permit(BookingStatus.PENDING, BookingStatus.CANCELLED, beforeDeparture)
+                .permit(BookingStatus.PENDING, BookingStatus.FAILED)
+                .permit(BookingStatus.CONFIRMED, BookingStatus.CANCELLED, beforeDeparture)
+                .onTransition((booking, from, to) ->
+                        log.debug("Booking status changed: {} {} -> {}", booking.getBookingReference(), from, to))
+                .onTransition((booking, from, to) -> Counter.builder("booking.status.transitions")
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .register(meterRegistry)
+                        .increment())
+                .build();
+    }
+
+    /**
+     * 상태 변경 (허용되지 않은 전이/가드 거부 시 BookingException)
+     */
+    public void transition(Booking booking, BookingStatus to) {
+        try {
+            stateMachine.fire(booking, to);
+        } catch (StateMachine.TransitionRejectedException e) {
+            throw new BookingService.BookingException(e.getMessage());
+        }
+    }
+
+    /**
+     * 외부 API 호출 전 사전 확인 (상태는 바꾸지 않음)
+     */
+    public void verify(Booking booking, BookingStatus to) {
+        try {
+            stateMachine.verify(booking, to);
+        } catch (StateMachine.TransitionRejectedException e) {
+            throw new BookingService.BookingException(e.getMessage());
+        }
+    }
+
+    public Set<BookingStatus> nextStates(BookingStatus from) {
+        return stateMachine.nextStates(from);
+    }
+
+    public boolean isTerminal(BookingStatus status) {
+        return stateMachine.isTerminal(status);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.flightbooking.service;
+
+import com.example.flightbooking.config.FlightSearchServiceConfig;
+import com.example.flightbooking.dto.BookingRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Flight Search Service 를 통한 항공편 가용성 확인
+ * - 항공편+날짜 단위 단기 TTL 캐시
+ * - 동일 키에 대한 동시 요청은 하나의 호출로 합침 (request coalescing)
+ * - Search Service 장애 시 fail-open / fail-closed 정책 적용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlightAvailabilityService {
+
+    private final WebClient flightSearchWebClient;
+    private final FlightSearchServiceConfig flightSearchServiceConfig;
+
+    private final Map<AvailabilityKey, Mono<FlightAvailability>> availabilityCache = new ConcurrentHashMap<>();
+
+    /**
+     * 예약 요청의 항공편 가용성 확인
+     */
+    @Observed(name = "flight.availability")
+    public FlightAvailability checkAvailability(BookingRequest request) {
+        AvailabilityKey key = new AvailabilityKey(request.getFlightNumber(), request.getDepartureDate());
+
+        try {
+            FlightAvailability availability = lookup(key, request)
+                    .block(Duration.ofMillis(flightSearchServiceConfig.getResponseTimeoutMs()));
+            return availability != null ? availability : unavailableService(key, "empty response");
+
+        } catch (Exception e) {
+            return unavailableService(key, e.getMessage());
+        }
+    }
+
+    private Mono<FlightAvailability> lookup(AvailabilityKey key, BookingRequest request) {
+        if (availabilityCache.size() >= flightSearchServiceConfig.getAvailabilityCacheMaxSize()
+                && !availabilityCache.containsKey(key)) {
+            evictExpiredDates();
+        }
+
+        // cache(): 진행 중인 호출은 공유하고, 확인된 결과만 TTL 동안 재사용 (확인 불가/오류는 캐시하지 않음)
+        return availabilityCache.computeIfAbsent(key, k -> fetchAvailability(k, request)
+                .cache(result -> result.verified() ? flightSearchServiceConfig.getAvailabilityCacheTtl() : Duration.ZERO,
+                        error -> Duration.ZERO,
+                        () -> Duration.ZERO));
+    }
+
+    private Mono<FlightAvailability> fetchAvailability(AvailabilityKey key, BookingRequest request) {
+        log.debug("Fetching flight availability from search service: {} on {}", key.flightNumber(), key.departureDate());
+
+        // Search Service 의 단건 조회 API (메모리 인덱스 우선, 미스일 때만 노선 재조회)
+        return flightSearchWebClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/flights/offers/{flightNumber}")
+                        .queryParam("date", key.departureDate())
+                        .queryParam("origin", request.getOriginLocationCode())
+                        .queryParam("destination", request.getDestinationLocationCode())
+                        .build(key.flightNumber()))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(response -> {
+                    // 제한된 노선 재조회에서 찾지 못한 경우 (없다고 단정할 수 없음)
+                    if (!response.path("verified").asBoolean(true)) {
+                        return unverified(key, "not found in a limited route search");
+                    }
+                    // 항공편은 있지만 좌석 수가 없으면 확인되지 않은 것으로 보고 장애 정책을 따름
+                    JsonNode seatsNode = response.path("availableSeats");
+                    if (!seatsNode.isNumber()) {
+                        return unverified(key, "seat count not provided");
+                    }
+                    int seats = seatsNode.asInt();
+                    return new FlightAvailability(seats > 0, true, seats);
+                })
+                // 404 는 노선 전체를 조회하고도 없는 경우에만 반환됨 (5xx 는 오류로 전파되어 장애 정책 적용)
+                .onErrorResume(WebClientResponseException.NotFound.class,
+                        e -> Mono.just(new FlightAvailability(false, true, 0)));
+    }
+
+    private FlightAvailability unverified(AvailabilityKey key, String reason) {
+        log.debug("Flight availability for {} on {} is unverified ({}), fail-open={}",
+                key.flightNumber(), key.departureDate(), reason, flightSearchServiceConfig.isFailOpen());
+        return new FlightAvailability(flightSearchServiceConfig.isFailOpen(), false, null);
+    }
+
+    private FlightAvailability unavailableService(AvailabilityKey key, String reason) {
+        log.warn("Could not verify flight availability for {} on {} ({}), fail-open={}",
+                key.flightNumber(), key.departureDate(), reason, flightSearchServiceConfig.isFailOpen());
+        return new FlightAvailability(flightSearchServiceConfig.isFailOpen(), false, null);
+    }
+
+    /**
+     * 이미 지난 날짜의 캐시 항목 정리
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void evictExpiredDates() {
+        LocalDate today = LocalDate.now();
+        availabilityCache.keySet().removeIf(key -> key.departureDate().isBefore(today));
+
+        // 그래도 최대 크기를 넘으면 전체 비움 (TTL 이 짧아 재조회 비용이 작음)
+        if (availabilityCache.size() >= flightSearchServiceConfig.getAvailabilityCacheMaxSize()) {
+            availabilityCache.clear();
+        }
+    }
+
+    private record AvailabilityKey(String flightNumber, LocalDate departureDate) {
+    }
+
+    /**
+     * 가용성 확인 결과
+     *
+     * @param available 예약 진행 가능 여부
+     * @param verified  Search Service 에서 실제로 확인되었는지 여부 (false 면 장애 정책에 따른 결과)
+     * @param seats     확인된 잔여 좌석 수
+     */
+    public record FlightAvailability(boolean available, boolean verified, Integer seats) {
+    }
+}
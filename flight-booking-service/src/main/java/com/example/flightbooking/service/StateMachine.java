@@ -0,0 +1,139 @@
+package com.example.flightbooking.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * enum 상태 전이 테이블
+ * - 등록된 전이만 허용, 전이별 가드(거부 사유 반환)와 전이 후 공통 훅 실행
+ * - 빌드 후 불변이므로 여러 스레드에서 공유 가능
+ *
+ * @param <S> 상태 enum
+ * @param <T> 상태를 가진 대상 (엔티티 등)
+ */
+public final class StateMachine<S extends Enum<S>, T> {
+
+    /**
+     * 전이 가드: 거부할 경우 사유, 허용이면 null
+     */
+    @FunctionalInterface
+    public interface Guard<T> {
+        String reject(T target);
+    }
+
+    /**
+     * 전이 후 훅 (상태가 바뀐 뒤 호출)
+     */
+    @FunctionalInterface
+    public interface Hook<S, T> {
+        void afterTransition(T target, S from, S to);
+    }
+
+    public static class TransitionRejectedException extends RuntimeException {
+        public TransitionRejectedException(String message) {
+            super(message);
+        }
+    }
+
+    private final Map<S, Map<S, List<Guard<T>>>> transitions;
+    private final List<Hook<S, T>> hooks;
+    private final Function<T, S> stateGetter;
+    private final BiConsumer<T, S> stateSetter;
+
+    private StateMachine(Builder<S, T> builder) {
+        this.transitions = new EnumMap<>(builder.stateType);
+        builder.transitions.forEach((from, targets) -> {
+            Map<S, List<Guard<T>>> copy = new EnumMap<>(builder.stateType);
+            targets.forEach((to, guards) -> copy.put(to, List.copyOf(guards)));
+            this.transitions.put(from, copy);
+        });
+        this.hooks = List.copyOf(builder.hooks);
+        this.stateGetter = builder.stateGetter;
+        this.stateSetter = builder.stateSetter;
+    }
+
+    public static <S extends Enum<S>, T> Builder<S, T> builder(Class<S> stateType,
+                                                              Function<T, S> stateGetter,
+                                                              BiConsumer<T, S> stateSetter) {
+        return new Builder<>(stateType, stateGetter, stateSetter);
+    }
+
+    public boolean canTransition(S from, S to) {
+        return transitions.getOrDefault(from, Map.of()).containsKey(to);
+    }
+
+    public Set<S> nextStates(S from) {
+        return Collections.unmodifiableSet(transitions.getOrDefault(from, Map.of()).keySet());
+    }
+
+    public boolean isTerminal(S state) {
+        return nextStates(state).isEmpty();
+    }
+
+    /**
+     * 전이 가능 여부 확인 (상태는 바꾸지 않음)
+     */
+    public void verify(T target, S to) {
+        S from = stateGetter.apply(target);
+        List<Guard<T>> guards = transitions.getOrDefault(from, Map.of()).get(to);
+        if (guards == null) {
+            throw new TransitionRejectedException(String.format("잘못된 상태 변경입니다: %s -> %s", from, to));
+        }
+        for (Guard<T> guard : guards) {
+            String reason = guard.reject(target);
+            if (reason != null) {
+                throw new TransitionRejectedException(reason);
+            }
+        }
+    }
+
+    /**
+     * 가드 확인 후 상태 변경 + 훅 실행
+     */
+    public void fire(T target, S to) {
+        verify(target, to);
+        S from = stateGetter.apply(target);
+        stateSetter.accept(target, to);
+        for (Hook<S, T> hook : hooks) {
+            hook.afterTransition(target, from, to);
+        }
+    }
+
+    public static final class Builder<S extends Enum<S>, T> {
+        private final Class<S> stateType;
+        private final Function<T, S> stateGetter;
+        private final BiConsumer<T, S> stateSetter;
+        private final Map<S, Map<S, List<Guard<T>>>> transitions;
+        private final List<Hook<S, T>> hooks = new ArrayList<>();
+
+        private Builder(Class<S> stateType, Function<T, S> stateGetter, BiConsumer<T, S> stateSetter) {
+            this.stateType = stateType;
+            this.stateGetter = stateGetter;
+            this.stateSetter = stateSetter;
+            this.transitions = new EnumMap<>(stateType);
+        }
+
+        @SafeVarargs
+        public final Builder<S, T> permit(S from, S to, Guard<T>... guards) {
+            transitions.computeIfAbsent(from, key -> new EnumMap<>(stateType))
+                    .computeIfAbsent(to, key -> new ArrayList<>())
+                    .addAll(List.of(guards));
+            return this;
+        }
+
+        public Builder<S, T> onTransition(Hook<S, T> hook) {
+            hooks.add(hook);
+            return this;
+        }
+
+        public StateMachine<S, T> build() {
+            return new StateMachine<>(this);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+-- Flight Booking Service 기준 스키마
+-- 기존 ddl-auto: update 로 생성된 bookings / flight_searches 테이블과 동일한 구조
+-- (이미 테이블이 있는 DB는 baseline-on-migrate 로 이 버전을 건너뜀)
+
+CREATE TABLE IF NOT EXISTS bookings (
+    id                        BIGINT         NOT NULL AUTO_INCREMENT,
+    booking_reference         VARCHAR(20)    NOT NULL,
+    flight_number             VARCHAR(10)    NOT NULL,
+    origin_location_code      VARCHAR(3)     NOT NULL,
+    destination_location_code VARCHAR(3)     NOT NULL,
+    departure_date            DATE           NOT NULL,
+    departure_time            TIME           NOT NULL,
+    return_date               DATE           NULL,
+    return_time               TIME           NULL,
+    passenger_name            VARCHAR(100)   NOT NULL,
+    passenger_email           VARCHAR(255)   NOT NULL,
+    passenger_phone           VARCHAR(20)    NOT NULL,
+    api_provider              VARCHAR(50)    NOT NULL,
+    status                    VARCHAR(20)    NOT NULL,
+    booking_timestamp         DATETIME(6)    NOT NULL,
+    booking_response          TEXT           NULL,
+    total_amount              DECIMAL(38, 2) NULL,
+    currency                  VARCHAR(3)     NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_booking_reference UNIQUE (booking_reference),
+    INDEX idx_booking_reference (booking_reference),
+    INDEX idx_passenger_email (passenger_email),
+    INDEX idx_booking_status (status)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS flight_searches (
+    id                        BIGINT       NOT NULL AUTO_INCREMENT,
+    origin_location_code      VARCHAR(3)   NOT NULL,
+    destination_location_code VARCHAR(3)   NOT NULL,
+    departure_date            DATE         NOT NULL,
+    return_date               DATE         NULL,
+    adults                    INT          NOT NULL,
+    children                  INT          NULL,
+    infants                   INT          NULL,
+    api_provider              VARCHAR(255) NOT NULL,
+    search_timestamp          DATETIME(6)  NOT NULL,
+    search_response           TEXT         NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,32 @@
+-- 중복 예약 확인 / 아카이브 조회용 인덱스
+-- ALGORITHM=INPLACE, LOCK=NONE 으로 온라인 생성 (생성 중에도 INSERT/SELECT 가능)
+
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'bookings'
+      AND INDEX_NAME = 'idx_booking_email_flight_date'
+);
+
+SET @ddl := IF(@index_exists = 0,
+    'ALTER TABLE bookings ADD INDEX idx_booking_email_flight_date (passenger_email, flight_number, departure_date), ALGORITHM=INPLACE, LOCK=NONE',
+    'DO 0');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'bookings'
+      AND INDEX_NAME = 'idx_booking_status_timestamp'
+);
+
+SET @ddl := IF(@index_exists = 0,
+    'ALTER TABLE bookings ADD INDEX idx_booking_status_timestamp (status, booking_timestamp), ALGORITHM=INPLACE, LOCK=NONE',
+    'DO 0');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,13 @@
+-- flight_searches.id 발급을 AUTO_INCREMENT(IDENTITY) 에서 pooled 시퀀스로 전환
+-- MySQL 은 시퀀스가 없으므로 Hibernate 가 flight_search_seq 테이블(next_val)로 에뮬레이션
+-- 기존 AUTO_INCREMENT 속성은 남겨두어 수동 INSERT 와의 호환을 유지
+
+CREATE TABLE IF NOT EXISTS flight_search_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+-- 현재 최대 id 보다 allocationSize(50) 이상 큰 값에서 시작하여 기존 id 와 겹치지 않도록 함
+INSERT INTO flight_search_seq (next_val)
+SELECT seed.next_val
+FROM (SELECT COALESCE(MAX(id), 0) + 100 AS next_val FROM flight_searches) seed
+WHERE NOT EXISTS (SELECT 1 FROM flight_search_seq);
@@ -0,0 +1,19 @@
+-- 예약 상태를 VARCHAR(20) 문자열에서 CHAR(1) 코드로 축소하고, 낙관적 락용 version 컬럼 추가
+-- 코드는 BookingStatus 와 일치해야 함: P=PENDING, C=CONFIRMED, X=CANCELLED, F=FAILED
+-- 컬럼 타입 변경은 테이블 재작성(ALGORITHM=COPY)이 필요하므로 점검 시간에 적용
+-- (이전 버전 인스턴스는 코드 값을 읽지 못하므로 롤링 배포 대신 일괄 교체)
+
+UPDATE bookings
+SET status = CASE status
+    WHEN 'PENDING' THEN 'P'
+    WHEN 'CONFIRMED' THEN 'C'
+    WHEN 'CANCELLED' THEN 'X'
+    WHEN 'FAILED' THEN 'F'
+    ELSE status
+END;
+
+-- 알 수 없는 값이 남아 있으면 CHAR(1) 변환에서 실패하여 마이그레이션이 중단됨
+-- idx_booking_status / idx_booking_status_timestamp 는 컬럼 변경과 함께 재작성됨
+ALTER TABLE bookings
+    MODIFY COLUMN status CHAR(1) NOT NULL,
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
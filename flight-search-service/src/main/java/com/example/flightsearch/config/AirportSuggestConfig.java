@@ -0,0 +1,35 @@
+package com.example.flightsearch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 공항/도시 자동완성 설정
+ * 색인은 공항 참조 데이터로 만들고, 순위는 검색 기록의 노선 인기도로 주기적으로 갱신
+ */
+@Component
+@ConfigurationProperties(prefix = "airport-suggest")
+@Getter
+@Setter
+public class AirportSuggestConfig {
+    private int defaultLimit = 8;
+    private int maxLimit = 20;
+    // 이보다 긴 질의는 잘라서 처리
+    private int maxQueryLength = 50;
+
+    private Popularity popularity = new Popularity();
+
+    @Getter
+    @Setter
+    public static class Popularity {
+        private String cron = "0 */10 * * * *";
+        // 노선 인기도 집계 기간
+        private Duration lookback = Duration.ofDays(30);
+        // 집계할 상위 노선 수 (출발지/도착지 공항 점수로 합산)
+        private int topRoutes = 5000;
+    }
+}
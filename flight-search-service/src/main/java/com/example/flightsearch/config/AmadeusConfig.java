@@ -16,6 +16,8 @@ public class AmadeusConfig {
     private String authUrl;
     private int timeout;
     private int maxRetries;
+    // 일반 검색 1회당 요청할 최대 항공편 수 (세션 검색은 search-session.max-offers)
+    private int maxOffers = 10;
     
     // API 엔드포인트들
     public String getFlightOffersSearchUrl() {
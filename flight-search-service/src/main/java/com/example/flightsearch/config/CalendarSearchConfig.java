@@ -0,0 +1,22 @@
+package com.example.flightsearch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날짜 유연 검색(±N일 캘린더) 설정
+ */
+@Component
+@ConfigurationProperties(prefix = "calendar-search")
+@Getter
+@Setter
+public class CalendarSearchConfig {
+    // 요청에 days 가 없을 때 기준일 앞뒤로 조회할 일수
+    private int defaultDays = 3;
+    // 허용하는 최대 일수 (초과 시 이 값으로 제한)
+    private int maxDays = 15;
+    // 날짜별 외부 API 동시 호출 수 (업스트림 rate limit 보호)
+    private int concurrency = 4;
+}
@@ -0,0 +1,39 @@
+package com.example.flightsearch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 연결 항공편 탐색 설정
+ * 편도 검색 결과의 항공편을 구간으로 모아 노선 그래프를 만들고, 여러 구간을 잇는 여정을 메모리에서 탐색
+ */
+@Component
+@ConfigurationProperties(prefix = "connection-search")
+@Getter
+@Setter
+public class ConnectionSearchConfig {
+    private boolean enabled = true;
+    // 관측 후 이 시간이 지난 구간은 운임이 바뀌었을 수 있으므로 제외
+    private Duration legTtl = Duration.ofHours(2);
+    // 보관 구간 상한 (초과 시 오래된 관측부터 제거, 최대 1,048,576)
+    private int maxLegs = 200_000;
+    // 검색 이벤트 대기열 (가득 차면 버림)
+    private int queueCapacity = 1000;
+
+    private int defaultMaxStops = 1;
+    private int maxStops = 3;
+    // 별도 항공권 환승이므로 수하물 재위탁 시간을 포함한 기본값
+    private Duration minConnection = Duration.ofMinutes(90);
+    private Duration minInternationalConnection = Duration.ofHours(3);
+    private Duration maxConnection = Duration.ofHours(24);
+
+    private int defaultLimit = 5;
+    private int maxLimit = 20;
+    // 탐색 상한 (공항별 확정 경로 수 / 질의당 전체 경로 수)
+    private int maxLabelsPerAirport = 50;
+    private int maxLabels = 200_000;
+}
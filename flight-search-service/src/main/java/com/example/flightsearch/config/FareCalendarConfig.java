@@ -0,0 +1,42 @@
+package com.example.flightsearch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 노선별 최저가 캘린더 (메모리) 설정
+ * 실시간 검색 결과는 항상 반영하고, 인기 노선의 빈/오래된 날짜는 주기 작업으로 미리 채움
+ */
+@Component
+@ConfigurationProperties(prefix = "fare-calendar")
+@Getter
+@Setter
+public class FareCalendarConfig {
+    // 오늘부터 보관할 일수 (노선당 배열 크기)
+    private int horizonDays = 60;
+    // 이 시간이 지난 날짜는 캘린더 응답에 쓰지 않고 실시간 조회
+    private Duration ttl = Duration.ofHours(6);
+    // 보관할 최대 노선 수 (초과 시 가장 오래 갱신되지 않은 노선부터 제거)
+    private int maxRoutes = 1000;
+
+    private Precompute precompute = new Precompute();
+
+    @Getter
+    @Setter
+    public static class Precompute {
+        // 외부 API 호출이 발생하므로 기본 비활성화
+        private boolean enabled;
+        private String cron = "0 */30 * * * *";
+        // 검색 기록 기준 상위 N개 노선
+        private int topRoutes = 20;
+        // 인기 노선 집계 기간
+        private Duration lookback = Duration.ofDays(7);
+        // 1회 실행당 최대 외부 API 호출 수 (오래된 날짜부터 순서대로 채움)
+        private int maxCallsPerRun = 200;
+        private int concurrency = 2;
+    }
+}
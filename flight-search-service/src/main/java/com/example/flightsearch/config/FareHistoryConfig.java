@@ -0,0 +1,31 @@
+package com.example.flightsearch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 운임 이력 시계열 저장소 설정
+ * 검색 결과의 항공편별 가격 관측치를 세그먼트 파일로 누적 (DB 에는 저장하지 않음)
+ */
+@Component
+@ConfigurationProperties(prefix = "fare-history")
+@Getter
+@Setter
+public class FareHistoryConfig {
+    private boolean enabled = true;
+    private String directory = "./data/fare-history";
+    // 메모리 버퍼가 이 건수에 도달하면 세그먼트 파일로 기록
+    private int segmentPoints = 500_000;
+    // 건수와 무관하게 이 시간이 지나면 세그먼트로 기록 (재시작 시 유실 범위 제한)
+    private Duration sealInterval = Duration.ofMinutes(10);
+    // 기록 대기열 크기, 가득 차면 새 관측치는 버림 (요청 스레드는 대기하지 않음)
+    private int queueCapacity = 10_000;
+    // 관측 시각 기준 보관 일수 (0 이면 삭제하지 않음)
+    private int retainDays = 400;
+    // 추이 조회 최대 기간
+    private int maxQueryDays = 365;
+}
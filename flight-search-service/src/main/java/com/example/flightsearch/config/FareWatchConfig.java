@@ -0,0 +1,42 @@
+package com.example.flightsearch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 운임 알림 (fare watch) 설정
+ * 검색 결과가 들어올 때마다 노선 + 출발일 인덱스로 등록된 알림과 비교하고,
+ * 아무도 검색하지 않는 감시 날짜는 주기 작업으로 낮은 빈도로 조회
+ */
+@Component
+@ConfigurationProperties(prefix = "fare-watch")
+@Getter
+@Setter
+public class FareWatchConfig {
+    // 알림 하나가 감시할 수 있는 최대 출발일 범위 (인덱스 항목 수 = 범위 일수)
+    private int maxRangeDays = 31;
+    // 알림 전달 방식 (log: 로그로만 기록하는 로컬 대체 구현)
+    private String notifier = "log";
+    // 알림 전달 대기열 크기, 가득 차면 새 알림은 버림 (검색 요청 스레드는 대기하지 않음)
+    private int queueCapacity = 1000;
+
+    private Refresh refresh = new Refresh();
+
+    @Getter
+    @Setter
+    public static class Refresh {
+        // 외부 API 호출이 발생하므로 기본 비활성화
+        private boolean enabled;
+        private String cron = "0 15 * * * *";
+        // 마지막 관측(일반 검색 포함) 후 이 시간이 지난 감시 날짜만 조회
+        private Duration staleAfter = Duration.ofHours(6);
+        // 1회 실행당 최대 외부 API 호출 수 (가까운 출발일부터)
+        private int maxCallsPerRun = 50;
+        // 하루 최대 외부 API 호출 수 (일반 검색 할당량 보호)
+        private int maxCallsPerDay = 500;
+    }
+}
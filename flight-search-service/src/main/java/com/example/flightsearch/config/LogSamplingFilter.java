@@ -0,0 +1,110 @@
+package com.example.flightsearch.config;
+
+import io.micrometer.context.ContextRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 진입 시 엔드포인트별 비율로 로그 샘플링 여부를 결정하여 MDC 에 기록
+ * 샘플링 판단은 Reactor 연산자 스레드로도 전파됨 (spring.reactor.context-propagation=auto)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class LogSamplingFilter extends OncePerRequestFilter {
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(LogSamplingTurboFilter.MDC_KEY,
+                () -> MDC.get(LogSamplingTurboFilter.MDC_KEY),
+                value -> MDC.put(LogSamplingTurboFilter.MDC_KEY, value),
+                () -> MDC.remove(LogSamplingTurboFilter.MDC_KEY));
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private volatile boolean enabled;
+    private volatile double defaultRate;
+    private volatile Map<String, Double> endpointRates;
+
+    public LogSamplingFilter(LogSamplingConfig logSamplingConfig) {
+        this.enabled = logSamplingConfig.isEnabled();
+        this.defaultRate = logSamplingConfig.getDefaultRate();
+        this.endpointRates = Collections.unmodifiableMap(new LinkedHashMap<>(logSamplingConfig.getEndpoints()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled || sampled(request.getRequestURI())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        MDC.put(LogSamplingTurboFilter.MDC_KEY, LogSamplingTurboFilter.NOT_SAMPLED);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(LogSamplingTurboFilter.MDC_KEY);
+        }
+    }
+
+    private boolean sampled(String path) {
+        double rate = rateFor(path);
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private double rateFor(String path) {
+        for (Map.Entry<String, Double> entry : endpointRates.entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) {
+                return entry.getValue();
+            }
+        }
+        return defaultRate;
+    }
+
+    /**
+     * 런타임 설정 변경 (null 인 항목은 유지, rate 가 null 이면 해당 패턴 규칙 삭제)
+     */
+    public synchronized void update(Boolean enabled, Double defaultRate, String pattern, Double rate) {
+        if (enabled != null) {
+            this.enabled = enabled;
+        }
+        if (defaultRate != null) {
+            this.defaultRate = clamp(defaultRate);
+        }
+        if (pattern != null) {
+            Map<String, Double> rates = new LinkedHashMap<>(endpointRates);
+            if (rate == null) {
+                rates.remove(pattern);
+            } else {
+                rates.put(pattern, clamp(rate));
+            }
+            this.endpointRates = Collections.unmodifiableMap(rates);
+        }
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("defaultRate", defaultRate);
+        status.put("endpoints", endpointRates);
+        return status;
+    }
+
+    private static double clamp(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+}
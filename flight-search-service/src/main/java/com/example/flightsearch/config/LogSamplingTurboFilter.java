@@ -0,0 +1,26 @@
+package com.example.flightsearch.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * 샘플링에서 제외된 요청의 INFO 이하 로그를 이벤트 생성 전에 차단
+ * (logback-spring.xml 에 등록, 판단 값은 LogSamplingFilter 가 MDC 에 기록)
+ */
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    public static final String MDC_KEY = "logSampled";
+    public static final String NOT_SAMPLED = "false";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        return NOT_SAMPLED.equals(MDC.get(MDC_KEY)) ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+}
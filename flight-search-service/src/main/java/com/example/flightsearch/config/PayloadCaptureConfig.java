@@ -0,0 +1,30 @@
+package com.example.flightsearch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 외부 API 응답 진단 캡처 설정
+ * 기본값은 비활성화이며, 운영 중에는 /actuator/payloadcapture 로 켜고 끌 수 있음
+ */
+@Component
+@ConfigurationProperties(prefix = "payload-capture")
+@Getter
+@Setter
+public class PayloadCaptureConfig {
+    private boolean enabled;
+    // N 건 중 1 건 샘플링 (0 이면 샘플링 캡처 안 함)
+    private int sampleRate = 100;
+    // 변환 실패 / 업스트림 오류 응답은 샘플링과 무관하게 캡처
+    private boolean captureOnError = true;
+    private String directory = "./diagnostics/payloads";
+    // 파일 하나의 최대 크기, 넘으면 회전
+    private DataSize maxFileSize = DataSize.ofMegabytes(10);
+    // 보관할 회전 파일 수 (현재 파일 제외)
+    private int maxFiles = 5;
+    // 기록 대기열 크기, 가득 차면 새 캡처는 버림 (요청 스레드는 절대 대기하지 않음)
+    private int queueCapacity = 64;
+}
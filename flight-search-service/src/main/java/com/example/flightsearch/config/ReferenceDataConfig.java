@@ -0,0 +1,22 @@
+package com.example.flightsearch.config;
+
+import com.example.flightsearch.model.AirportDirectory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 번들된 참조 데이터 설정
+ * 첫 요청이 아니라 기동 시점에 로드되도록 빈으로 등록 (형식 오류는 기동 실패로 드러남)
+ */
+@Configuration
+@Slf4j
+public class ReferenceDataConfig {
+
+    @Bean
+    public AirportDirectory airportDirectory() {
+        AirportDirectory directory = AirportDirectory.get();
+        log.info("공항 참조 데이터 로드: {}개 ({})", directory.size(), AirportDirectory.RESOURCE);
+        return directory;
+    }
+}
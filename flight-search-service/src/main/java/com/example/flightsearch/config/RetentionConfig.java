@@ -0,0 +1,76 @@
+package com.example.flightsearch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * flight_searches 보존 정책 설정
+ * 시간 단위 파티션으로 저장하고, 보존 기간이 지난 파티션은 통째로 아카이브 후 삭제
+ */
+@Component
+@ConfigurationProperties(prefix = "retention.search")
+@Getter
+@Setter
+public class RetentionConfig {
+    private boolean enabled;
+    // 파티션이 없는 테이블을 처음 발견했을 때 자동으로 파티션 테이블로 전환할지 여부
+    private boolean autoPartition;
+    private Granularity granularity = Granularity.MONTHLY;
+    // 현재 파티션을 제외하고 유지할 과거 파티션 수
+    private int retainPartitions = 6;
+    // 미리 만들어 둘 미래 파티션 수
+    private int premakePartitions = 2;
+    private boolean archiveEnabled = true;
+    private String archiveDir = "./archive/flight-searches";
+    
+    public enum Granularity {
+        DAILY(DateTimeFormatter.ofPattern("yyyyMMdd")),
+        MONTHLY(DateTimeFormatter.ofPattern("yyyyMM"));
+        
+        private final DateTimeFormatter nameFormat;
+        
+        Granularity(DateTimeFormatter nameFormat) {
+            this.nameFormat = nameFormat;
+        }
+        
+        public LocalDate periodStart(LocalDate date) {
+            return this == DAILY ? date : date.withDayOfMonth(1);
+        }
+        
+        public LocalDate next(LocalDate periodStart) {
+            return this == DAILY ? periodStart.plusDays(1) : periodStart.plusMonths(1);
+        }
+        
+        public LocalDate minus(LocalDate periodStart, int periods) {
+            return this == DAILY ? periodStart.minusDays(periods) : periodStart.minusMonths(periods);
+        }
+        
+        public String partitionName(LocalDate periodStart) {
+            return "p" + periodStart.format(nameFormat);
+        }
+        
+        /**
+         * 파티션 이름에서 기간 시작일 복원 (형식이 다르면 null)
+         */
+        public LocalDate parsePartitionName(String partitionName) {
+            if (partitionName == null || !partitionName.startsWith("p")) {
+                return null;
+            }
+            String value = partitionName.substring(1);
+            try {
+                if (this == DAILY) {
+                    return value.length() == 8 ? LocalDate.parse(value, nameFormat) : null;
+                }
+                return value.length() == 6 ? LocalDate.parse(value + "01", DateTimeFormatter.ofPattern("yyyyMMdd")) : null;
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+}
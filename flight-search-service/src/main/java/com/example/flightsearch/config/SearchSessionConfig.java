@@ -0,0 +1,29 @@
+package com.example.flightsearch.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 검색 세션 설정
+ * 세션 검색은 외부 API 에서 한 번에 많은 항공편을 받아 메모리에 보관하고, 이후 페이지/정렬/필터는 세션에서 처리
+ */
+@Component
+@ConfigurationProperties(prefix = "search-session")
+@Getter
+@Setter
+public class SearchSessionConfig {
+    // 세션 생성 시 외부 API 에 요청할 최대 항공편 수 (Amadeus 최대 250)
+    private int maxOffers = 250;
+    // 생성 시점 기준 보관 시간 (조회해도 연장하지 않음, 오래된 운임을 계속 보여주지 않도록)
+    private Duration ttl = Duration.ofMinutes(15);
+    // 보관 상한 (둘 중 하나라도 넘으면 가장 오래 조회되지 않은 세션부터 제거)
+    private int maxSessions = 5000;
+    private DataSize maxMemory = DataSize.ofMegabytes(64);
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+}
@@ -16,6 +16,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * WebClient 설정
  * Amadeus API 호출을 위한 HTTP 클라이언트 설정
+ * (자동 구성된 WebClient.Builder 를 사용하여 http.client.requests 관측과 traceparent 전파를 적용)
  */
 @Configuration
 @RequiredArgsConstructor
@@ -27,7 +28,7 @@ public class WebClientConfig {
      * Amadeus API용 WebClient
      */
     @Bean("amadeusWebClient")
-    public WebClient amadeusWebClient() {
+    public WebClient amadeusWebClient(WebClient.Builder webClientBuilder) {
         HttpClient httpClient = HttpClient.create()
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, amadeusConfig.getTimeout())
             .responseTimeout(Duration.ofMillis(amadeusConfig.getTimeout()))
@@ -36,7 +37,7 @@ public class WebClientConfig {
                     .addHandlerLast(new WriteTimeoutHandler(amadeusConfig.getTimeout(), TimeUnit.MILLISECONDS))
             );
         
-        return WebClient.builder()
+        return webClientBuilder
             .clientConnector(new ReactorClientHttpConnector(httpClient))
             .baseUrl(amadeusConfig.getBaseUrl())
             .defaultHeader("Content-Type", "application/json")
@@ -48,7 +49,7 @@ public class WebClientConfig {
      * 일반적인 HTTP 요청용 WebClient
      */
     @Bean("defaultWebClient")
-    public WebClient defaultWebClient() {
+    public WebClient defaultWebClient(WebClient.Builder webClientBuilder) {
         HttpClient httpClient = HttpClient.create()
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
             .responseTimeout(Duration.ofSeconds(10))
@@ -57,7 +58,7 @@ public class WebClientConfig {
                     .addHandlerLast(new WriteTimeoutHandler(10, TimeUnit.SECONDS))
             );
         
-        return WebClient.builder()
+        return webClientBuilder
             .clientConnector(new ReactorClientHttpConnector(httpClient))
             .defaultHeader("Content-Type", "application/json")
             .defaultHeader("Accept", "application/json")
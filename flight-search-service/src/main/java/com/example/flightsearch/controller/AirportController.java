@@ -0,0 +1,37 @@
+package com.example.flightsearch.controller;
+
+import com.example.flightsearch.dto.AirportSuggestResponse;
+import com.example.flightsearch.service.AirportSuggestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 공항/도시 참조 데이터 API
+ */
+@RestController
+@RequestMapping("/api/airports")
+@RequiredArgsConstructor
+public class AirportController {
+
+    private final AirportSuggestService airportSuggestService;
+
+    /**
+     * 공항/도시 자동완성 (코드, 영문/한글 공항명과 도시명의 접두사, 인기 노선 순)
+     * 입력마다 호출되므로 로그는 남기지 않고 짧게 캐시 허용
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<AirportSuggestResponse> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+            .body(airportSuggestService.suggest(q, limit));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.flightsearch.controller;
+
+import com.example.flightsearch.dto.FareWatchRequest;
+import com.example.flightsearch.dto.FareWatchResponse;
+import com.example.flightsearch.service.FareWatchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 운임 알림 (fare watch) API
+ */
+@RestController
+@RequestMapping("/api/flights/fare-watches")
+@RequiredArgsConstructor
+@Slf4j
+public class FareWatchController {
+    
+    private final FareWatchService fareWatchService;
+    
+    /**
+     * 운임 알림 등록 (노선 + 출발일 범위에서 기준가 이하 운임이 관측되면 알림)
+     */
+    @PostMapping
+    public ResponseEntity<FareWatchResponse> registerWatch(@Valid @RequestBody FareWatchRequest request) {
+        log.info("운임 알림 등록 API 호출: {} -> {}", request.getOriginLocationCode(), request.getDestinationLocationCode());
+        
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(fareWatchService.register(request));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<FareWatchResponse> getWatch(@PathVariable Long id) {
+        return fareWatchService.getWatch(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * 운임 알림 해지 (이미 해지된 알림은 그대로 반환)
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<FareWatchResponse> cancelWatch(@PathVariable Long id) {
+        log.info("운임 알림 해지 API 호출: {}", id);
+        
+        return fareWatchService.cancel(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+}
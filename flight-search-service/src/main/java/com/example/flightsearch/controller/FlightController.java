@@ -1,15 +1,34 @@
 package com.example.flightsearch.controller;
 
+import com.example.flightsearch.dto.ConnectionSearchResponse;
+import com.example.flightsearch.dto.FareTrendResponse;
+import com.example.flightsearch.dto.FlightCalendarResponse;
+import com.example.flightsearch.dto.FlightOfferLookupResponse;
+import com.example.flightsearch.dto.FlightOfferQuery;
+import com.example.flightsearch.dto.FlightSearchHistoryResponse;
 import com.example.flightsearch.dto.FlightSearchRequest;
 import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.service.ConnectionSearchService;
+import com.example.flightsearch.service.FareHistoryStore;
+import com.example.flightsearch.service.FlightCalendarService;
 import com.example.flightsearch.service.FlightService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 import jakarta.validation.Valid;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
 /**
  * 항공편 검색 API 컨트롤러
  * 실제 프로덕션용 API 엔드포인트
@@ -21,28 +40,216 @@ import jakarta.validation.Valid;
 public class FlightController {
     
     private final FlightService flightService;
+    private final FlightCalendarService flightCalendarService;
+    private final FareHistoryStore fareHistoryStore;
+    private final ConnectionSearchService connectionSearchService;
     
     /**
      * 항공편 검색 API
+     * sort(price, duration, departure, '-' 접두사는 내림차순), airline/cabin/departureFrom/departureTo/maxPrice 필터,
+     * facets=true 이면 항공사/좌석 등급/출발 시간대/가격 분포 집계 포함
      */
     @PostMapping("/search")
-    public ResponseEntity<FlightSearchResponse> searchFlights(@Valid @RequestBody FlightSearchRequest request) {
+    public ResponseEntity<FlightSearchResponse> searchFlights(
+            @Valid @RequestBody FlightSearchRequest request,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Set<String> airline,
+            @RequestParam(required = false) Set<String> cabin,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime departureFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime departureTo,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "false") boolean facets) {
         log.info("항공편 검색 API 호출: {} -> {}", 
                 request.getOriginLocationCode(), request.getDestinationLocationCode());
         
-        return flightService.searchFlights(request)
+        FlightOfferQuery query;
+        try {
+            query = offerQuery(sort, airline, cabin, departureFrom, departureTo, maxPrice, facets);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return flightService.searchFlights(request, query)
             .map(ResponseEntity::ok)
-            .onErrorReturn(ResponseEntity.status(500)
-                .body(FlightSearchResponse.builder()
-                    .apiProvider(request.getApiProvider())
-                    .status("ERROR")
-                    .message("항공편 검색 중 오류가 발생했습니다.")
-                    .searchTimestamp(java.time.LocalDateTime.now())
-                    .flightOffers(java.util.List.of())
-                    .build()))
+            .onErrorReturn(searchErrorResponse(request))
             .block();
     }
     
+    /**
+     * 검색 세션 시작 API
+     * 외부 API 결과를 최대 250건까지 받아 세션에 보관하고 첫 페이지를 반환 (응답의 searchId 로 이후 페이지 조회)
+     */
+    @PostMapping("/search-sessions")
+    public ResponseEntity<FlightSearchResponse> startSearchSession(
+            @Valid @RequestBody FlightSearchRequest request,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Set<String> airline,
+            @RequestParam(required = false) Set<String> cabin,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime departureFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime departureTo,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "false") boolean facets) {
+        log.info("검색 세션 시작 API 호출: {} -> {}",
+                request.getOriginLocationCode(), request.getDestinationLocationCode());
+        
+        FlightOfferQuery query;
+        try {
+            query = offerQuery(sort, airline, cabin, departureFrom, departureTo, maxPrice, facets);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return flightService.startSearchSession(request, query, size)
+            .map(response -> response.getSearchId() != null
+                ? ResponseEntity.status(HttpStatus.CREATED).body(response)
+                : ResponseEntity.ok(response))
+            .onErrorReturn(searchErrorResponse(request))
+            .block();
+    }
+    
+    /**
+     * 검색 세션 페이지 조회 API (외부 API 재호출 없음, 세션 만료 시 404 - 새 세션으로 다시 검색)
+     */
+    @GetMapping("/search-sessions/{searchId}")
+    public ResponseEntity<FlightSearchResponse> getSearchSessionPage(
+            @PathVariable String searchId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Set<String> airline,
+            @RequestParam(required = false) Set<String> cabin,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime departureFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime departureTo,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(defaultValue = "false") boolean facets) {
+        FlightOfferQuery query;
+        try {
+            query = offerQuery(sort, airline, cabin, departureFrom, departureTo, maxPrice, facets);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return flightService.getSearchSessionPage(searchId, query, page, size)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    private static FlightOfferQuery offerQuery(String sort, Set<String> airline, Set<String> cabin,
+                                               LocalTime departureFrom, LocalTime departureTo, Double maxPrice,
+                                               boolean facets) {
+        return FlightOfferQuery.sorted(sort)
+            .airlines(airline)
+            .cabinClasses(cabin)
+            .departureFrom(departureFrom)
+            .departureTo(departureTo)
+            .maxPrice(maxPrice)
+            .facets(facets)
+            .build();
+    }
+    
+    private static ResponseEntity<FlightSearchResponse> searchErrorResponse(FlightSearchRequest request) {
+        return ResponseEntity.status(500)
+            .body(FlightSearchResponse.builder()
+                .apiProvider(request.getApiProvider())
+                .status("ERROR")
+                .message("항공편 검색 중 오류가 발생했습니다.")
+                .searchTimestamp(java.time.LocalDateTime.now())
+                .flightOffers(java.util.List.of())
+                .build());
+    }
+    
+    /**
+     * 날짜 유연 검색 API (출발일 ±days 일별 최저가)
+     */
+    @PostMapping(value = "/calendar", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<FlightCalendarResponse> searchCalendar(
+            @Valid @RequestBody FlightSearchRequest request,
+            @RequestParam(required = false) Integer days) {
+        log.info("캘린더 검색 API 호출: {} -> {} ({} ±{}일)", request.getOriginLocationCode(),
+                request.getDestinationLocationCode(), request.getDepartureDate(), days);
+        
+        return flightCalendarService.searchCalendar(request, days)
+            .map(ResponseEntity::ok)
+            .onErrorReturn(ResponseEntity.status(500).build())
+            .block();
+    }
+    
+    /**
+     * 날짜 유연 검색 API (NDJSON 스트리밍, 조회가 끝난 날짜부터 한 줄씩 전송)
+     */
+    @PostMapping(value = "/calendar", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<FlightCalendarResponse.Day>> streamCalendar(
+            @Valid @RequestBody FlightSearchRequest request,
+            @RequestParam(required = false) Integer days) {
+        log.info("캘린더 스트리밍 검색 API 호출: {} -> {} ({} ±{}일)", request.getOriginLocationCode(),
+                request.getDestinationLocationCode(), request.getDepartureDate(), days);
+        
+        // nginx 게이트웨이가 응답을 모아서 보내지 않도록 버퍼링 해제
+        return ResponseEntity.ok()
+            .header("X-Accel-Buffering", "no")
+            .body(flightCalendarService.streamCalendar(request, days));
+    }
+    
+    /**
+     * 항공편 단건 조회 API (서비스 간 가용성 검증용)
+     * origin/destination 은 인덱스 미스 시 외부 API 재조회에만 사용
+     * 404: 항공편 없음, 200 + verified=false: 확인 불가, 502: 외부 API 오류
+     */
+    @GetMapping("/offers/{flightNumber}")
+    public ResponseEntity<FlightOfferLookupResponse> lookupFlightOffer(
+            @PathVariable String flightNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String origin,
+            @RequestParam(required = false) String destination) {
+        log.debug("항공편 단건 조회 API 호출: {} ({})", flightNumber, date);
+        
+        return flightService.lookupFlightOffer(flightNumber, date, origin, destination)
+            .map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.notFound().build())
+            .onErrorReturn(ResponseEntity.status(502).build())
+            .block();
+    }
+    
+    /**
+     * 운임 추이 조회 API (노선 + 출발일, 최근 days 일 관측치의 일별 집계)
+     */
+    @GetMapping("/fare-history")
+    public ResponseEntity<FareTrendResponse> getFareTrend(
+            @RequestParam String origin,
+            @RequestParam String destination,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "30") int days) {
+        log.debug("운임 추이 조회 API 호출: {} -> {} ({}, {}일)", origin, destination, date, days);
+        
+        return ResponseEntity.ok(fareHistoryStore.trend(origin, destination, date, days));
+    }
+    
+    /**
+     * 연결 항공편 탐색 API (최근 검색된 항공편을 이어 붙인 여정, 외부 API 호출 없음)
+     * objective: cheapest (최저가) / earliest (최단 도착)
+     */
+    @GetMapping("/connections")
+    public ResponseEntity<ConnectionSearchResponse> searchConnections(
+            @RequestParam String origin,
+            @RequestParam String destination,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String via,
+            @RequestParam(required = false) Integer maxStops,
+            @RequestParam(required = false) Integer minConnection,
+            @RequestParam(defaultValue = "cheapest") String objective,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String currency) {
+        log.debug("연결 항공편 탐색 API 호출: {} -> {} (경유 {}) {}", origin, destination, via, date);
+        
+        try {
+            return ResponseEntity.ok(connectionSearchService.search(origin, destination, via, date,
+                maxStops, minConnection, objective, limit, currency));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+    
     /**
      * 검색 기록 조회 API
      */
@@ -63,6 +270,49 @@ public class FlightController {
             .block();
     }
     
+    /**
+     * 검색 기록 목록 조회 API (커서 기반 페이징, 기간 필터)
+     */
+    @GetMapping("/search-history/{apiProvider}/searches")
+    public ResponseEntity<FlightSearchHistoryResponse> getSearchHistoryPage(
+            @PathVariable String apiProvider,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("검색 기록 목록 조회 API 호출: API Provider = {}, cursor = {}", apiProvider, cursor);
+        
+        return flightService.getSearchHistoryPage(apiProvider, from, to, cursor, size)
+            .map(ResponseEntity::ok)
+            .onErrorReturn(ResponseEntity.status(500)
+                .body(FlightSearchHistoryResponse.builder()
+                    .apiProvider(apiProvider)
+                    .from(from)
+                    .to(to)
+                    .searches(java.util.List.of())
+                    .hasNext(false)
+                    .build()))
+            .block();
+    }
+    
+    /**
+     * 검색 기록 내보내기 API (NDJSON 스트리밍)
+     */
+    @GetMapping(value = "/search-history/{apiProvider}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSearchHistory(
+            @PathVariable String apiProvider,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("검색 기록 내보내기 API 호출: API Provider = {}, 기간 = {} ~ {}", apiProvider, from, to);
+        
+        StreamingResponseBody body = out -> flightService.exportSearchHistory(apiProvider, from, to, out);
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header("Content-Disposition", "attachment; filename=\"search-history-" + apiProvider + ".ndjson\"")
+            .body(body);
+    }
+    
     /**
      * 간단한 항공편 검색 테스트 (GET 요청)
      */
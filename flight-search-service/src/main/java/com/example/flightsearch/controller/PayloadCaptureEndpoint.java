@@ -0,0 +1,37 @@
+package com.example.flightsearch.controller;
+
+import com.example.flightsearch.service.PayloadCaptureService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 응답 진단 캡처 on/off Actuator 엔드포인트
+ *
+ * GET  /actuator/payloadcapture
+ * POST /actuator/payloadcapture {"enabled": true, "sampleRate": 50, "captureOnError": true}
+ */
+@Component
+@Endpoint(id = "payloadcapture")
+@RequiredArgsConstructor
+public class PayloadCaptureEndpoint {
+
+    private final PayloadCaptureService payloadCaptureService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return payloadCaptureService.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Boolean enabled, @Nullable Integer sampleRate,
+                                      @Nullable Boolean captureOnError) {
+        payloadCaptureService.update(enabled, sampleRate, captureOnError);
+        return payloadCaptureService.status();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.flightsearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 공항/도시 자동완성 결과 (인기 순)
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AirportSuggestResponse {
+
+    String query;
+
+    List<Airport> airports;
+
+    @Value
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Airport {
+
+        // IATA 코드 (검색 요청의 originLocationCode / destinationLocationCode 에 그대로 사용)
+        String code;
+
+        String name;
+
+        String city;
+
+        String nameKo;
+
+        String cityKo;
+
+        // ISO 3166-1 alpha-2
+        String countryCode;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.flightsearch.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * 연결 항공편 탐색 조건 (기본값은 ConnectionSearchConfig 에서 채움)
+ */
+@Value
+@Builder(toBuilder = true)
+public class ConnectionQuery {
+    
+    String originLocationCode;
+    
+    String destinationLocationCode;
+    
+    // 지정 시 반드시 경유할 공항
+    String viaLocationCode;
+    
+    // 출발 공항 현지 날짜
+    LocalDate departureDate;
+    
+    Objective objective;
+    
+    // 0 이면 직항만
+    int maxStops;
+    
+    // 환승 최소/최대 대기 시간 (분), 국제선이 포함된 환승은 minInternationalConnectionMinutes 적용
+    int minConnectionMinutes;
+    
+    int minInternationalConnectionMinutes;
+    
+    int maxConnectionMinutes;
+    
+    // 반환할 여정 수 (k)
+    int limit;
+    
+    // 지정 시 해당 통화 운임만 사용 (미지정이면 첫 구간 통화와 같은 구간끼리만 연결)
+    String currency;
+    
+    public enum Objective {
+        CHEAPEST, EARLIEST_ARRIVAL;
+        
+        /**
+         * "cheapest", "earliest" (또는 "earliest_arrival")
+         */
+        public static Objective parse(String value) {
+            if (value == null || value.isBlank()) {
+                return CHEAPEST;
+            }
+            String normalized = value.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+            if (normalized.equals("EARLIEST")) {
+                return EARLIEST_ARRIVAL;
+            }
+            try {
+                return valueOf(normalized);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 탐색 기준입니다: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.flightsearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 연결 항공편 탐색 결과 (최근 검색 결과로 만든 노선 그래프 기준, 외부 API 호출 없음)
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConnectionSearchResponse {
+    
+    String originLocationCode;
+    
+    String destinationLocationCode;
+    
+    String viaLocationCode;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate departureDate;
+    
+    String objective;
+    
+    // 탐색에 사용한 그래프의 구간(항공편) 수
+    Integer legCount;
+    
+    // 목적 기준 오름차순
+    List<Itinerary> itineraries;
+    
+    @Value
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Itinerary {
+        
+        Integer stops;
+        
+        Double totalPrice;
+        
+        String currency;
+        
+        // 첫 출발 ~ 마지막 도착 (공항 시간대 반영)
+        Integer totalDurationMinutes;
+        
+        // 구간 사이 대기 시간 (legs 보다 하나 적음)
+        List<Integer> layoverMinutes;
+        
+        // 각 구간은 별도 검색 결과의 항공편이므로 환승 시 수하물 재위탁/재탑승 수속 필요
+        Boolean selfTransfer;
+        
+        List<FlightSearchResponse.FlightOffer> legs;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.flightsearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 노선 + 출발일의 운임 추이 (관측일별 최저/최고/평균)
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FareTrendResponse {
+
+    String originLocationCode;
+
+    String destinationLocationCode;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate departureDate;
+
+    // 관측 기간
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate to;
+
+    // 관측치가 가장 많은 통화 기준 (다른 통화 관측치는 제외)
+    String currency;
+
+    long observations;
+
+    // 관측일 오름차순
+    List<DailyFare> days;
+
+    @Value
+    @Builder
+    public static class DailyFare {
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate date;
+
+        Double minPrice;
+
+        Double maxPrice;
+
+        Double avgPrice;
+
+        Integer samples;
+
+        // 해당 일 최저가 항공편
+        String cheapestFlight;
+    }
+}
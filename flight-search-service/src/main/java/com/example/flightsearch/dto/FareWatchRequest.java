@@ -0,0 +1,56 @@
+package com.example.flightsearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.*;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Value
+@Builder
+public class FareWatchRequest {
+    
+    @NotBlank(message = "출발지 코드는 필수입니다")
+    @Pattern(regexp = "^[A-Z]{3}$", message = "공항 코드는 3자리 대문자 알파벳이어야 합니다")
+    String originLocationCode;
+    
+    @NotBlank(message = "도착지 코드는 필수입니다")
+    @Pattern(regexp = "^[A-Z]{3}$", message = "공항 코드는 3자리 대문자 알파벳이어야 합니다")
+    String destinationLocationCode;
+    
+    // 감시할 출발일 범위 (양 끝 포함)
+    @NotNull(message = "시작일은 필수입니다")
+    @FutureOrPresent(message = "시작일은 오늘 이후여야 합니다")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate fromDate;
+    
+    @NotNull(message = "종료일은 필수입니다")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate toDate;
+    
+    @NotNull(message = "기준 금액은 필수입니다")
+    @Positive(message = "기준 금액은 0보다 커야 합니다")
+    @Digits(integer = 10, fraction = 2, message = "기준 금액 형식이 올바르지 않습니다")
+    BigDecimal maxPrice;
+    
+    @NotBlank(message = "통화는 필수입니다")
+    @Pattern(regexp = "^[A-Z]{3}$", message = "통화는 3자리 대문자 코드여야 합니다")
+    String currency;
+    
+    @NotBlank(message = "알림 수신자는 필수입니다")
+    @Size(max = 255, message = "알림 수신자는 255자 이하여야 합니다")
+    String subscriber;
+    
+    @AssertTrue(message = "출발지와 도착지는 달라야 합니다")
+    private boolean isValidRoute() {
+        return originLocationCode == null || destinationLocationCode == null ||
+               !originLocationCode.equals(destinationLocationCode);
+    }
+    
+    @AssertTrue(message = "종료일은 시작일 이후여야 합니다")
+    private boolean isValidDateRange() {
+        return fromDate == null || toDate == null || !toDate.isBefore(fromDate);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.flightsearch.dto;
+
+import com.example.flightsearch.model.FareWatch;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FareWatchResponse {
+    
+    Long id;
+    
+    String originLocationCode;
+    
+    String destinationLocationCode;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate fromDate;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate toDate;
+    
+    BigDecimal maxPrice;
+    
+    String currency;
+    
+    String subscriber;
+    
+    boolean active;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime createdAt;
+    
+    BigDecimal lastNotifiedPrice;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime lastNotifiedAt;
+    
+    public static FareWatchResponse from(FareWatch entity) {
+        return FareWatchResponse.builder()
+            .id(entity.getId())
+            .originLocationCode(entity.getOriginLocationCode())
+            .destinationLocationCode(entity.getDestinationLocationCode())
+            .fromDate(entity.getFromDate())
+            .toDate(entity.getToDate())
+            .maxPrice(entity.getMaxPrice())
+            .currency(entity.getCurrency())
+            .subscriber(entity.getSubscriber())
+            .active(entity.isActive())
+            .createdAt(entity.getCreatedAt())
+            .lastNotifiedPrice(entity.getLastNotifiedPrice())
+            .lastNotifiedAt(entity.getLastNotifiedAt())
+            .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.flightsearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 날짜별 최저가 캘린더 응답
+ * 날짜마다 최저가 항공편 하나만 담아 전체 검색 결과보다 훨씬 작게 유지
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FlightCalendarResponse {
+
+    String originLocationCode;
+
+    String destinationLocationCode;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate to;
+
+    String apiProvider;
+
+    // 날짜 오름차순
+    List<Day> days;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime searchTimestamp;
+
+    @Value
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Day {
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate date;
+
+        // SUCCESS: 최저가 있음, NO_FLIGHTS: 항공편 없음, ERROR: 해당 날짜 조회 실패
+        String status;
+
+        Double lowestPrice;
+
+        String currency;
+
+        // 최저가 항공편 (항공사 코드 + 편명)
+        String flightNumber;
+
+        Integer offerCount;
+
+        // LIVE: 실시간 조회, PRECOMPUTED: 최저가 캘린더(메모리)에서 응답
+        String source;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.flightsearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * 항공편 단건 조회 응답 (서비스 간 가용성 검증용)
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FlightOfferLookupResponse {
+
+    String flightNumber;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate departureDate;
+
+    // INDEX: 메모리 인덱스에서 조회, UPSTREAM: 인덱스 미스로 외부 API 재조회
+    String source;
+
+    Integer availableSeats;
+
+    // false: 노선 재조회 결과가 최대 건수에 걸려 항공편이 없다고 단정할 수 없음 (offer 없음)
+    Boolean verified;
+
+    FlightSearchResponse.FlightOffer offer;
+}
@@ -0,0 +1,68 @@
+package com.example.flightsearch.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalTime;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 결과 정렬/필터 조건 (서버에서 적용, 지정하지 않은 조건은 무시)
+ */
+@Value
+@Builder(toBuilder = true)
+public class FlightOfferQuery {
+    
+    SortField sortBy;
+    
+    boolean descending;
+    
+    // 항공사 코드 (하나라도 일치하면 통과)
+    Set<String> airlines;
+    
+    Set<String> cabinClasses;
+    
+    // 출발 시각 범위 (양 끝 포함, from > to 이면 자정을 넘는 범위)
+    LocalTime departureFrom;
+    
+    LocalTime departureTo;
+    
+    // 총액 상한 (응답 통화 기준)
+    Double maxPrice;
+    
+    // 필터와 함께 항공사/좌석 등급/출발 시간대/가격 분포 집계 포함
+    boolean facets;
+    
+    public enum SortField {
+        PRICE, DURATION, DEPARTURE
+    }
+    
+    /**
+     * "price", "-duration" 처럼 '-' 접두사는 내림차순
+     */
+    public static FlightOfferQueryBuilder sorted(String sort) {
+        FlightOfferQueryBuilder builder = FlightOfferQuery.builder();
+        if (sort == null || sort.isBlank()) {
+            return builder;
+        }
+        boolean descending = sort.startsWith("-");
+        String field = descending ? sort.substring(1) : sort;
+        try {
+            return builder.sortBy(SortField.valueOf(field.trim().toUpperCase(Locale.ROOT))).descending(descending);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
+        }
+    }
+    
+    public boolean hasFilter() {
+        return (airlines != null && !airlines.isEmpty())
+            || (cabinClasses != null && !cabinClasses.isEmpty())
+            || departureFrom != null || departureTo != null
+            || maxPrice != null;
+    }
+    
+    public boolean isEmpty() {
+        return sortBy == null && !hasFilter() && !facets;
+    }
+}
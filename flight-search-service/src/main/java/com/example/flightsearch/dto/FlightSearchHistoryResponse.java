@@ -0,0 +1,36 @@
+package com.example.flightsearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 검색 기록 페이지 응답 (커서 기반)
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FlightSearchHistoryResponse {
+
+    String apiProvider;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    LocalDate to;
+
+    // 조건에 맞는 전체 기록 수 (count 쿼리, 첫 페이지에만 포함)
+    Long totalCount;
+
+    List<FlightSearchSummaryDto> searches;
+
+    // 다음 페이지 요청 시 cursor 파라미터로 전달
+    Long nextCursor;
+
+    Boolean hasNext;
+}
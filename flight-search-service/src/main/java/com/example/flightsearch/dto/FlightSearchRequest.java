@@ -8,7 +8,7 @@ import lombok.Value;
 import java.time.LocalDate;
 
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class FlightSearchRequest {
     
     @NotBlank(message = "출발지 코드는 필수입니다")
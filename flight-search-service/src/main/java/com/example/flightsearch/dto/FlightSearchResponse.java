@@ -1,6 +1,7 @@
 package com.example.flightsearch.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Value;
@@ -10,7 +11,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Value
-@Builder
+@Builder(toBuilder = true)
 @JsonInclude(JsonInclude.Include.NON_NULL)  // null 값 제외
 public class FlightSearchResponse {
     
@@ -40,6 +41,18 @@ public class FlightSearchResponse {
     
     List<FlightOffer> flightOffers;
     
+    // 정렬/필터 요청 시: 필터 통과 항공편 수와 집계 (요청하지 않으면 생략)
+    Integer matchedOfferCount;
+    
+    OfferFacets facets;
+    
+    // 검색 세션 응답일 때만: 세션 id 와 현재 페이지 (0부터)
+    String searchId;
+    
+    Integer page;
+    
+    Integer pageSize;
+    
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     LocalDateTime searchTimestamp;
     
@@ -90,6 +103,25 @@ public class FlightSearchResponse {
         String cabinClass;
         Price price;
         Integer availableSeats;
+        
+        // 변환 시 한 번만 계산한 비교/정렬용 값 (JSON 에는 포함하지 않음, 값이 없으면 -1)
+        @JsonIgnore
+        @Builder.Default
+        int durationMinutes = -1;
+        
+        // 현지 출발/도착 시각을 UTC 로 간주한 epoch 분 (공항 간 시차는 반영하지 않으므로 소요시간은 durationMinutes 사용)
+        @JsonIgnore
+        @Builder.Default
+        long departureEpochMinute = -1;
+        
+        @JsonIgnore
+        @Builder.Default
+        long arrivalEpochMinute = -1;
+        
+        // 출발 시각의 하루 중 분 (0 ~ 1439, 값이 없으면 -1)
+        public int departureMinuteOfDay() {
+            return departureEpochMinute < 0 ? -1 : (int) (departureEpochMinute % (24 * 60));
+        }
     }
     
     @Value
@@ -99,5 +131,10 @@ public class FlightSearchResponse {
         Double total;
         Double base;
         Double taxes;
+        
+        // 통화 최소 단위 총액 (응답 금액 문자열에서 직접 변환, 합계/비교에 사용, 값이 없으면 -1)
+        @JsonIgnore
+        @Builder.Default
+        long totalMinor = -1;
     }
 }
\ No newline at end of file
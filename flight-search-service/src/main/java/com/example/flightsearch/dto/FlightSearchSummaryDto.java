@@ -1,5 +1,7 @@
-package com.example.flightbooking.dto;
+package com.example.flightsearch.dto;
 
+import com.example.flightsearch.model.AirportDirectory;
+import com.example.flightsearch.repository.FlightSearchHistoryView;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Builder;
 import lombok.Value;
@@ -49,4 +51,26 @@ public class FlightSearchSummaryDto {
                 .internationalFlight(entity.isInternationalFlight())
                 .build();
     }
-}
\ No newline at end of file
+
+    // 프로젝션 -> DTO 변환 (search_response 컬럼 없이 생성)
+    public static FlightSearchSummaryDto from(FlightSearchHistoryView view) {
+        String origin = view.getOriginLocationCode();
+        String destination = view.getDestinationLocationCode();
+        int totalPassengers = (view.getAdults() != null ? view.getAdults() : 0) +
+                (view.getChildren() != null ? view.getChildren() : 0) +
+                (view.getInfants() != null ? view.getInfants() : 0);
+
+        return FlightSearchSummaryDto.builder()
+                .id(view.getId())
+                .originLocationCode(origin)
+                .destinationLocationCode(destination)
+                .departureDate(view.getDepartureDate())
+                .returnDate(view.getReturnDate())
+                .totalPassengers(totalPassengers)
+                .apiProvider(view.getApiProvider())
+                .searchTimestamp(view.getSearchTimestamp())
+                .roundTrip(view.getReturnDate() != null)
+                .internationalFlight(AirportDirectory.get().isInternational(origin, destination))
+                .build();
+    }
+}
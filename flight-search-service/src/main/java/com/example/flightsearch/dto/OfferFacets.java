@@ -0,0 +1,54 @@
+package com.example.flightsearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 검색 결과 집계 (필터 UI 용)
+ * 각 항목은 자기 자신의 필터를 뺀 나머지 필터를 통과한 항공편 기준으로 집계
+ * (예: 항공사 A 를 선택해도 다른 항공사 개수가 그대로 보임)
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OfferFacets {
+    
+    // 항공편 수 내림차순
+    List<ValueCount> airlines;
+    
+    List<ValueCount> cabinClasses;
+    
+    // 출발 시각(시) 기준, 항공편이 있는 시간대만
+    List<HourCount> departureHours;
+    
+    // 전체 결과의 최저~최고가를 같은 폭으로 나눈 구간 (필터와 무관하게 구간 경계 고정)
+    List<PriceBucket> priceHistogram;
+    
+    String currency;
+    
+    @Value
+    @Builder
+    public static class ValueCount {
+        String value;
+        int count;
+    }
+    
+    @Value
+    @Builder
+    public static class HourCount {
+        int hour;
+        int count;
+    }
+    
+    @Value
+    @Builder
+    public static class PriceBucket {
+        // 하한 포함, 상한은 마지막 구간만 포함
+        Double min;
+        Double max;
+        int count;
+    }
+}
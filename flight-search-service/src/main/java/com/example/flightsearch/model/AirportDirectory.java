@@ -0,0 +1,322 @@
+package com.example.flightsearch.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공항/도시/국가 참조 데이터 (classpath:reference/airports.csv)
+ * - IATA 3자리 코드를 0..17575 정수로 패킹해 배열을 직접 인덱싱 (문자열 할당/해시 조회 없음)
+ * - 국가/시간대는 코드 인덱스 배열, 좌표/이름은 행(row) 배열에 보관
+ * - 엔티티 메서드에서도 쓸 수 있도록 정적 홀더로 JVM 당 한 번 로드 (ReferenceDataConfig 가 기동 시 미리 로드)
+ */
+public final class AirportDirectory {
+
+    public static final String RESOURCE = "reference/airports.csv";
+    public static final int NO_CODE = -1;
+
+    private static final int CODE_SPACE = 26 * 26 * 26;
+    private static final int COLUMNS = 9;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final ZoneOffset LATEST_OFFSET = ZoneOffset.ofHours(-12);
+
+    private static final class Holder {
+        static final AirportDirectory INSTANCE = load();
+    }
+
+    // 패킹된 코드 -> 값 (미등록 코드는 0 / -1)
+    private final short[] countryByCode;   // 국가 사전 id, 0 = 미등록
+    private final short[] zoneByCode;      // 시간대 사전 id, -1 = 미등록
+    private final short[] rowByCode;       // 행 번호, -1 = 미등록
+
+    private final String[] countries;      // id -> ISO 3166-1 alpha-2 (0번은 비움)
+    private final ZoneId[] zones;
+
+    // 행 -> 값
+    private final int[] codes;
+    private final float[] latitudes;
+    private final float[] longitudes;
+    private final String[] names;
+    private final String[] cities;
+    private final String[] namesKo;
+    private final String[] citiesKo;
+
+    private AirportDirectory(List<String[]> rows, String source) {
+        int n = rows.size();
+        countryByCode = new short[CODE_SPACE];
+        zoneByCode = new short[CODE_SPACE];
+        rowByCode = new short[CODE_SPACE];
+        Arrays.fill(zoneByCode, (short) -1);
+        Arrays.fill(rowByCode, (short) -1);
+
+        codes = new int[n];
+        latitudes = new float[n];
+        longitudes = new float[n];
+        names = new String[n];
+        cities = new String[n];
+        namesKo = new String[n];
+        citiesKo = new String[n];
+
+        Map<String, Integer> countryIds = new HashMap<>();
+        Map<String, Integer> zoneIds = new HashMap<>();
+        List<String> countryList = new ArrayList<>();
+        List<ZoneId> zoneList = new ArrayList<>();
+        countryList.add(null);
+
+        for (int row = 0; row < n; row++) {
+            String[] cols = rows.get(row);
+            int code = pack(cols[0]);
+            if (code == NO_CODE) {
+                throw new IllegalStateException(source + ": 잘못된 공항 코드 " + cols[0]);
+            }
+            if (rowByCode[code] >= 0) {
+                throw new IllegalStateException(source + ": 중복된 공항 코드 " + cols[0]);
+            }
+            String country = cols[1].trim();
+            if (country.length() != 2) {
+                throw new IllegalStateException(source + ": 잘못된 국가 코드 " + cols[0] + "/" + country);
+            }
+            int countryId = countryIds.computeIfAbsent(country, c -> {
+                countryList.add(c);
+                return countryList.size() - 1;
+            });
+            int zoneId = zoneIds.computeIfAbsent(cols[2].trim(), z -> {
+                try {
+                    zoneList.add(ZoneId.of(z));
+                } catch (DateTimeException e) {
+                    throw new IllegalStateException(source + ": 잘못된 시간대 " + cols[0] + "/" + z, e);
+                }
+                return zoneList.size() - 1;
+            });
+
+            rowByCode[code] = (short) row;
+            countryByCode[code] = (short) countryId;
+            zoneByCode[code] = (short) zoneId;
+            codes[row] = code;
+            latitudes[row] = Float.parseFloat(cols[3].trim());
+            longitudes[row] = Float.parseFloat(cols[4].trim());
+            names[row] = cols[5].trim();
+            cities[row] = cols[6].trim();
+            namesKo[row] = cols[7].trim();
+            citiesKo[row] = cols[8].trim();
+        }
+        countries = countryList.toArray(new String[0]);
+        zones = zoneList.toArray(new ZoneId[0]);
+    }
+
+    /**
+     * 기본 데이터셋 (최초 호출 시 1회 로드)
+     */
+    public static AirportDirectory get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * 3자리 알파벳 코드 -> 0..17575 (대소문자 무시), 형식이 맞지 않으면 NO_CODE
+     */
+    public static int pack(CharSequence code) {
+        if (code == null || code.length() != 3) {
+            return NO_CODE;
+        }
+        int packed = 0;
+        for (int i = 0; i < 3; i++) {
+            int c = code.charAt(i) | 0x20;  // 소문자로 접기
+            if (c < 'a' || c > 'z') {
+                return NO_CODE;
+            }
+            packed = packed * 26 + (c - 'a');
+        }
+        return packed;
+    }
+
+    public static String unpack(int code) {
+        return new String(new char[] {
+                (char) ('A' + code / 676), (char) ('A' + code / 26 % 26), (char) ('A' + code % 26)});
+    }
+
+    public boolean isKnown(String code) {
+        int packed = pack(code);
+        return packed != NO_CODE && rowByCode[packed] >= 0;
+    }
+
+    /**
+     * 두 공항이 모두 데이터셋에 있으면 국가로 비교
+     * 한쪽이라도 없으면 판단할 근거가 없으므로 기존 규칙(코드 앞 두 글자 비교)을 그대로 사용
+     */
+    public boolean isInternational(String origin, String destination) {
+        if (origin == null || destination == null) {
+            return false;
+        }
+        int o = pack(origin);
+        int d = pack(destination);
+        if (o != NO_CODE && d != NO_CODE && countryByCode[o] != 0 && countryByCode[d] != 0) {
+            return countryByCode[o] != countryByCode[d];
+        }
+        return origin.length() >= 2 && destination.length() >= 2
+                && !origin.substring(0, 2).equals(destination.substring(0, 2));
+    }
+
+    /**
+     * ISO 3166-1 alpha-2 국가 코드, 미등록이면 null
+     */
+    public String country(String code) {
+        int packed = pack(code);
+        return packed == NO_CODE ? null : countries[countryByCode[packed]];
+    }
+
+    /**
+     * 공항 현지 시간대, 미등록이면 null
+     */
+    public ZoneId zone(String code) {
+        int packed = pack(code);
+        if (packed == NO_CODE || zoneByCode[packed] < 0) {
+            return null;
+        }
+        return zones[zoneByCode[packed]];
+    }
+
+    /**
+     * 공항 현지 일시 -> Instant, 미등록 공항이면 null
+     */
+    public Instant toInstant(String code, LocalDate date, LocalTime time) {
+        ZoneId zone = zone(code);
+        return zone != null ? date.atTime(time).atZone(zone).toInstant() : null;
+    }
+
+    /**
+     * 출발 공항 현지 시각 기준으로 이미 출발했는지 여부
+     * 출발 시간이 없으면 현지 기준 출발일이 지난 경우에만 true
+     * 미등록 공항은 시간대를 모르므로 가장 늦은 시간대(UTC-12)로도 지난 경우에만 true (취소를 잘못 막지 않음)
+     */
+    public boolean isPastDeparture(String origin, LocalDate date, LocalTime time, Instant now) {
+        if (date == null) {
+            return false;
+        }
+        LocalDateTime local = time != null ? date.atTime(time) : date.plusDays(1).atStartOfDay();
+        ZoneId zone = zone(origin);
+        Instant departure = local.atZone(zone != null ? zone : LATEST_OFFSET).toInstant();
+        return departure.isBefore(now);
+    }
+
+    /**
+     * 두 공항 간 대권 거리 (km), 한쪽이라도 미등록이면 NaN
+     */
+    public double distanceKm(String origin, String destination) {
+        int o = row(origin);
+        int d = row(destination);
+        if (o < 0 || d < 0) {
+            return Double.NaN;
+        }
+        double lat1 = Math.toRadians(latitudes[o]);
+        double lat2 = Math.toRadians(latitudes[d]);
+        double dLat = lat2 - lat1;
+        double dLon = Math.toRadians(longitudes[d] - longitudes[o]);
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(h)));
+    }
+
+    // 행 단위 접근 (자동완성 색인 등 전체 순회용)
+
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * 코드 -> 행 번호, 미등록이면 -1
+     */
+    public int row(String code) {
+        int packed = pack(code);
+        return packed == NO_CODE ? -1 : rowByCode[packed];
+    }
+
+    public String code(int row) {
+        return unpack(codes[row]);
+    }
+
+    public String country(int row) {
+        return countries[countryByCode[codes[row]]];
+    }
+
+    public ZoneId zone(int row) {
+        return zones[zoneByCode[codes[row]]];
+    }
+
+    public float latitude(int row) {
+        return latitudes[row];
+    }
+
+    public float longitude(int row) {
+        return longitudes[row];
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public String city(int row) {
+        return cities[row];
+    }
+
+    public String nameKo(int row) {
+        return namesKo[row];
+    }
+
+    public String cityKo(int row) {
+        return citiesKo[row];
+    }
+
+    /**
+     * CSV 로드 ('#' 주석 줄과 헤더 줄은 건너뜀)
+     * 번들된 리소스이므로 형식 오류는 기동 실패로 드러나게 IllegalStateException 으로 던진다
+     */
+    static AirportDirectory load() {
+        try (InputStream in = AirportDirectory.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("공항 참조 데이터가 없습니다: " + RESOURCE);
+            }
+            return read(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), RESOURCE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("공항 참조 데이터 로드 실패: " + RESOURCE, e);
+        }
+    }
+
+    static AirportDirectory read(BufferedReader reader, String source) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        boolean header = true;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            if (header) {
+                header = false;
+                continue;
+            }
+            String[] cols = line.split(",", -1);
+            if (cols.length != COLUMNS) {
+                throw new IllegalStateException(source + ": 컬럼 수가 맞지 않습니다: " + line);
+            }
+            rows.add(cols);
+        }
+        if (rows.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException(source + ": 공항 수가 너무 많습니다: " + rows.size());
+        }
+        return new AirportDirectory(rows, source);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.flightsearch.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 운임 알림 등록 정보 (노선 + 출발일 범위 + 기준가)
+ */
+@Entity
+@Table(name = "fare_watches", indexes = {
+        @Index(name = "idx_fare_watch_active", columnList = "cancelled_at, to_date")
+})
+@Data  // JPA 에는 setter 필요
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class FareWatch {
+    
+    // 등록 빈도가 낮아 IDENTITY 사용 (batch insert 불필요)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "origin_location_code", nullable = false, length = 3)
+    @NotBlank(message = "출발지 코드는 필수입니다")
+    private String originLocationCode;
+    
+    @Column(name = "destination_location_code", nullable = false, length = 3)
+    @NotBlank(message = "도착지 코드는 필수입니다")
+    private String destinationLocationCode;
+    
+    @Column(name = "from_date", nullable = false)
+    @NotNull
+    private LocalDate fromDate;
+    
+    @Column(name = "to_date", nullable = false)
+    @NotNull
+    private LocalDate toDate;
+    
+    // 이 금액 이하 운임이 관측되면 알림
+    @Column(name = "max_price", nullable = false, precision = 12, scale = 2)
+    @NotNull
+    private BigDecimal maxPrice;
+    
+    @Column(nullable = false, length = 3)
+    @NotBlank
+    private String currency;
+    
+    // 알림 수신자 (이메일 / 웹훅 식별자 등, 전달 방식은 notifier 구현에 따름)
+    @Column(nullable = false)
+    @NotBlank
+    private String subscriber;
+    
+    @Column(name = "created_at", nullable = false)
+    @CreatedDate
+    private LocalDateTime createdAt;
+    
+    // 마지막으로 알린 운임, 이보다 낮은 운임이 나올 때만 다시 알림
+    @Column(name = "last_notified_price", precision = 12, scale = 2)
+    private BigDecimal lastNotifiedPrice;
+    
+    @Column(name = "last_notified_at")
+    private LocalDateTime lastNotifiedAt;
+    
+    // 해지 또는 기간 만료 시각 (null 이면 활성)
+    @Column(name = "cancelled_at")
+    private LocalDateTime cancelledAt;
+    
+    public boolean isActive() {
+        return cancelledAt == null;
+    }
+}
@@ -10,7 +10,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "flight_searches")
+@Table(name = "flight_searches", indexes = {
+        @Index(name = "idx_search_provider_timestamp", columnList = "api_provider, search_timestamp"),
+        @Index(name = "idx_search_provider_id", columnList = "api_provider, id")
+})
 @Data  // @Value 대신 @Data 사용 (JPA에는 setter 필요)
 @Builder(toBuilder = true)
 @NoArgsConstructor
@@ -18,8 +21,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class FlightSearch {
     
+    // pooled 시퀀스 (MySQL 에서는 flight_search_seq 테이블로 에뮬레이션), IDENTITY 와 달리 JDBC batch 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "flight_search_seq")
+    @SequenceGenerator(name = "flight_search_seq", sequenceName = "flight_search_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "origin_location_code", nullable = false, length = 3)
@@ -86,8 +91,7 @@ public class FlightSearch {
     }
     
     public boolean isInternationalFlight() {
-        return originLocationCode != null && destinationLocationCode != null &&
-               originLocationCode.length() >= 2 && destinationLocationCode.length() >= 2 &&
-               !originLocationCode.substring(0, 2).equals(destinationLocationCode.substring(0, 2));
+        // 코드 앞 두 글자가 아니라 참조 데이터의 국가로 비교 (ICN-LAX, JFK-LAX 등)
+        return AirportDirectory.get().isInternational(originLocationCode, destinationLocationCode);
     }
 }
\ No newline at end of file
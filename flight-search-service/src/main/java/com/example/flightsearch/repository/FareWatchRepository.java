@@ -0,0 +1,36 @@
+package com.example.flightsearch.repository;
+
+import com.example.flightsearch.model.FareWatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FareWatchRepository extends JpaRepository<FareWatch, Long> {
+    
+    // 기동 시 인덱스 적재용 (활성 + 기간 미만료)
+    List<FareWatch> findByCancelledAtIsNullAndToDateGreaterThanEqual(LocalDate today);
+    
+    // 활성 알림이고 더 낮은 운임일 때만 갱신 (동시 알림 시 높은 금액이 덮어쓰지 않도록)
+    @Modifying
+    @Transactional
+    @Query("UPDATE FareWatch w SET w.lastNotifiedPrice = :price, w.lastNotifiedAt = :notifiedAt " +
+           "WHERE w.id = :id AND w.cancelledAt IS NULL " +
+           "AND (w.lastNotifiedPrice IS NULL OR w.lastNotifiedPrice > :price)")
+    int markNotified(@Param("id") Long id,
+                     @Param("price") BigDecimal price,
+                     @Param("notifiedAt") LocalDateTime notifiedAt);
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE FareWatch w SET w.cancelledAt = :now WHERE w.cancelledAt IS NULL AND w.toDate < :today")
+    int expire(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+}
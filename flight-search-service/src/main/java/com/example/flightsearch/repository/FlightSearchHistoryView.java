@@ -0,0 +1,31 @@
+package com.example.flightsearch.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 기록 조회용 경량 프로젝션
+ * 대용량 search_response(TEXT) 컬럼을 읽지 않도록 필요한 컬럼만 조회
+ */
+public interface FlightSearchHistoryView {
+
+    Long getId();
+
+    String getOriginLocationCode();
+
+    String getDestinationLocationCode();
+
+    LocalDate getDepartureDate();
+
+    LocalDate getReturnDate();
+
+    Integer getAdults();
+
+    Integer getChildren();
+
+    Integer getInfants();
+
+    String getApiProvider();
+
+    LocalDateTime getSearchTimestamp();
+}
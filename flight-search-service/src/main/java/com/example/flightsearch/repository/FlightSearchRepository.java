@@ -1,9 +1,18 @@
 package com.example.flightsearch.repository;
 
 import com.example.flightsearch.model.FlightSearch;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface FlightSearchRepository extends JpaRepository<FlightSearch, Long> {
@@ -12,4 +21,54 @@ public interface FlightSearchRepository extends JpaRepository<FlightSearch, Long
     
     List<FlightSearch> findByOriginLocationCodeAndDestinationLocationCodeOrderBySearchTimestampDesc(
         String originLocationCode, String destinationLocationCode);
+    
+    // 검색 기록 개수 (엔티티를 로딩하지 않음)
+    long countByApiProvider(String apiProvider);
+    
+    long countByApiProviderAndSearchTimestampGreaterThanEqualAndSearchTimestampLessThan(
+        String apiProvider, LocalDateTime from, LocalDateTime to);
+    
+    // 커서 기반 검색 기록 조회 (id 내림차순, cursor 보다 작은 id 부터, idx_search_provider_id 역순 탐색)
+    @Query("SELECT f.id AS id, f.originLocationCode AS originLocationCode, " +
+           "f.destinationLocationCode AS destinationLocationCode, f.departureDate AS departureDate, " +
+           "f.returnDate AS returnDate, f.adults AS adults, f.children AS children, f.infants AS infants, " +
+           "f.apiProvider AS apiProvider, f.searchTimestamp AS searchTimestamp " +
+           "FROM FlightSearch f " +
+           "WHERE f.apiProvider = :apiProvider " +
+           "AND f.searchTimestamp >= :from AND f.searchTimestamp < :to " +
+           "AND f.id < :cursor " +
+           "ORDER BY f.id DESC")
+    List<FlightSearchHistoryView> findHistoryPage(@Param("apiProvider") String apiProvider,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to,
+                                                  @Param("cursor") Long cursor,
+                                                  Pageable pageable);
+    
+    // 대량 내보내기용 스트리밍 조회 (MySQL 드라이버는 fetch size MIN_VALUE 일 때 행 단위 스트리밍)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT f.id AS id, f.originLocationCode AS originLocationCode, " +
+           "f.destinationLocationCode AS destinationLocationCode, f.departureDate AS departureDate, " +
+           "f.returnDate AS returnDate, f.adults AS adults, f.children AS children, f.infants AS infants, " +
+           "f.apiProvider AS apiProvider, f.searchTimestamp AS searchTimestamp " +
+           "FROM FlightSearch f " +
+           "WHERE f.apiProvider = :apiProvider " +
+           "AND f.searchTimestamp >= :from AND f.searchTimestamp < :to " +
+           "ORDER BY f.id DESC")
+    Stream<FlightSearchHistoryView> streamHistory(@Param("apiProvider") String apiProvider,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+    
+    // 최근 검색이 많은 노선 (최저가 캘린더 사전 계산 대상)
+    @Query("SELECT f.originLocationCode AS originLocationCode, " +
+           "f.destinationLocationCode AS destinationLocationCode, COUNT(f) AS searchCount " +
+           "FROM FlightSearch f " +
+           "WHERE f.apiProvider = :apiProvider AND f.searchTimestamp >= :since " +
+           "GROUP BY f.originLocationCode, f.destinationLocationCode " +
+           "ORDER BY COUNT(f) DESC")
+    List<RouteSearchCountView> findTopRoutes(@Param("apiProvider") String apiProvider,
+                                             @Param("since") LocalDateTime since,
+                                             Pageable pageable);
 }
@@ -0,0 +1,13 @@
+package com.example.flightsearch.repository;
+
+/**
+ * 노선별 검색 횟수 집계 프로젝션
+ */
+public interface RouteSearchCountView {
+
+    String getOriginLocationCode();
+
+    String getDestinationLocationCode();
+
+    Long getSearchCount();
+}
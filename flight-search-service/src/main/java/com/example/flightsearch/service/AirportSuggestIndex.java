@@ -0,0 +1,224 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.dto.AirportSuggestResponse;
+import com.example.flightsearch.model.AirportDirectory;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 공항/도시 자동완성용 접두사 색인 (불변, 인기도가 바뀌면 새로 만들어 교체)
+ * - 코드, 영문/한글 공항명과 도시명 (전체 및 단어별) 을 정규화한 키를 정렬 배열로 보관
+ * - 질의는 이진 탐색으로 접두사 구간의 시작을 찾고 구간을 순회하며 인기 상위 limit 개만 유지
+ * - 응답 DTO 는 색인 생성 시 미리 만들어 두어 질의마다 목록 하나만 할당
+ */
+public final class AirportSuggestIndex {
+
+    // 정렬된 키 -> 공항 행 (같은 키가 여러 공항을 가리킬 수 있음: "seoul" -> ICN, GMP)
+    private final String[] keys;
+    private final int[] keyRows;
+
+    // 행 -> 인기 순위 (0 이 가장 인기), 동점은 코드 알파벳 순
+    private final int[] rankOfRow;
+    private final AirportSuggestResponse.Airport[] airports;
+    private final AirportDirectory directory;
+
+    private AirportSuggestIndex(AirportDirectory directory, String[] keys, int[] keyRows,
+                                int[] rankOfRow, AirportSuggestResponse.Airport[] airports) {
+        this.directory = directory;
+        this.keys = keys;
+        this.keyRows = keyRows;
+        this.rankOfRow = rankOfRow;
+        this.airports = airports;
+    }
+
+    /**
+     * @param popularity 행별 인기 점수 (길이가 공항 수보다 짧거나 null 이면 부족한 행은 0)
+     */
+    public static AirportSuggestIndex build(AirportDirectory directory, long[] popularity) {
+        int n = directory.size();
+        List<Key> entries = new ArrayList<>(n * 8);
+        AirportSuggestResponse.Airport[] airports = new AirportSuggestResponse.Airport[n];
+
+        for (int row = 0; row < n; row++) {
+            addKeys(entries, row, directory.code(row));
+            addKeys(entries, row, directory.name(row));
+            addKeys(entries, row, directory.city(row));
+            addKeys(entries, row, directory.nameKo(row));
+            addKeys(entries, row, directory.cityKo(row));
+
+            airports[row] = AirportSuggestResponse.Airport.builder()
+                .code(directory.code(row))
+                .name(directory.name(row))
+                .city(directory.city(row))
+                .nameKo(directory.nameKo(row))
+                .cityKo(directory.cityKo(row))
+                .countryCode(directory.country(row))
+                .build();
+        }
+
+        entries.sort(Comparator.comparing(Key::text).thenComparingInt(Key::row));
+        String[] keys = new String[entries.size()];
+        int[] keyRows = new int[entries.size()];
+        int size = 0;
+        for (Key entry : entries) {
+            if (size > 0 && keys[size - 1].equals(entry.text()) && keyRows[size - 1] == entry.row()) {
+                continue;
+            }
+            keys[size] = entry.text();
+            keyRows[size] = entry.row();
+            size++;
+        }
+
+        Integer[] byPopularity = new Integer[n];
+        for (int row = 0; row < n; row++) {
+            byPopularity[row] = row;
+        }
+        Arrays.sort(byPopularity, Comparator.<Integer>comparingLong(row -> -score(popularity, row))
+            .thenComparing(directory::code));
+        int[] rankOfRow = new int[n];
+        for (int rank = 0; rank < n; rank++) {
+            rankOfRow[byPopularity[rank]] = rank;
+        }
+
+        return new AirportSuggestIndex(directory, Arrays.copyOf(keys, size), Arrays.copyOf(keyRows, size),
+            rankOfRow, airports);
+    }
+
+    /**
+     * 접두사 일치 공항 (코드가 정확히 일치하면 맨 앞, 나머지는 인기 순)
+     */
+    public List<AirportSuggestResponse.Airport> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int exactRow = prefix.length() == 3 ? directory.row(prefix) : -1;
+        int capacity = Math.min(limit, airports.length);
+        int[] top = new int[capacity];  // 인기 순위 오름차순으로 유지
+        int count = 0;
+        if (exactRow >= 0) {
+            top[count++] = exactRow;
+        }
+        int from = count;  // 정확히 일치한 코드는 순위와 관계없이 맨 앞에 고정
+
+        for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            int row = keyRows[i];
+            if (row == exactRow || contains(top, count, row)) {
+                continue;
+            }
+            int rank = rankOfRow[row];
+            if (count == capacity && (count == from || rankOfRow[top[count - 1]] <= rank)) {
+                continue;
+            }
+            // 삽입 위치까지 한 칸씩 밀기 (가득 찼으면 마지막 원소가 밀려남)
+            int pos = count < capacity ? count++ : count - 1;
+            while (pos > from && rankOfRow[top[pos - 1]] > rank) {
+                top[pos] = top[pos - 1];
+                pos--;
+            }
+            top[pos] = row;
+        }
+
+        AirportSuggestResponse.Airport[] result = new AirportSuggestResponse.Airport[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = airports[top[i]];
+        }
+        return Arrays.asList(result);
+    }
+
+    public int keyCount() {
+        return keys.length;
+    }
+
+    /**
+     * 소문자화 + 공백/구두점 제거 + 라틴 문자 발음 구별 기호 제거 (한글 음절은 그대로)
+     * "New York" -> "newyork", "O'Hare" -> "ohare", "São Paulo" -> "saopaulo"
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                if (c >= 'A' && c <= 'Z') {
+                    sb.append((char) (c | 0x20));
+                } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                    sb.append(c);
+                }
+            } else if (isHangul(c)) {
+                sb.append(c);
+            } else if (Character.isLetterOrDigit(c)) {
+                // 드문 경로: 비 ASCII 라틴 문자 등은 분해 후 결합 기호를 제거
+                String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+                for (int j = 0; j < decomposed.length(); j++) {
+                    char d = decomposed.charAt(j);
+                    if (Character.getType(d) != Character.NON_SPACING_MARK) {
+                        sb.append(Character.toLowerCase(d));
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+
+    /**
+     * 전체 문자열과 단어별 키 ("Incheon International Airport" -> incheoninternationalairport, incheon,
+     * international, airport), 한 글자 단어는 전체 키로만 찾음
+     */
+    private static void addKeys(List<Key> entries, int row, String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String whole = normalize(text);
+        if (!whole.isEmpty()) {
+            entries.add(new Key(whole, row));
+        }
+        for (String word : text.split("[\\s\\-]+")) {
+            String key = normalize(word);
+            if (key.length() > 1 && !key.equals(whole)) {
+                entries.add(new Key(key, row));
+            }
+        }
+    }
+
+    private static long score(long[] popularity, int row) {
+        return popularity != null && row < popularity.length ? popularity[row] : 0L;
+    }
+
+    private static boolean contains(int[] rows, int count, int row) {
+        for (int i = 0; i < count; i++) {
+            if (rows[i] == row) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = keys.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private record Key(String text, int row) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.AirportSuggestConfig;
+import com.example.flightsearch.dto.AirportSuggestResponse;
+import com.example.flightsearch.model.AirportDirectory;
+import com.example.flightsearch.repository.FlightSearchRepository;
+import com.example.flightsearch.repository.RouteSearchCountView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공항/도시 자동완성
+ * - 질의는 메모리 접두사 색인(AirportSuggestIndex)만 사용 (DB/외부 API 호출 없음)
+ * - 공항 순위는 최근 검색 기록의 노선 인기도 (출발지/도착지로 검색된 횟수 합) 로 주기적으로 갱신
+ */
+@Service
+@Slf4j
+public class AirportSuggestService {
+
+    private static final String PROVIDER = "AMADEUS";
+
+    private final AirportSuggestConfig airportSuggestConfig;
+    private final AirportDirectory airportDirectory;
+    private final FlightSearchRepository flightSearchRepository;
+
+    // 갱신 시 통째로 교체 (질의 스레드는 잠금 없이 읽기만)
+    private volatile AirportSuggestIndex index;
+
+    public AirportSuggestService(AirportSuggestConfig airportSuggestConfig, AirportDirectory airportDirectory,
+                                 FlightSearchRepository flightSearchRepository) {
+        this.airportSuggestConfig = airportSuggestConfig;
+        this.airportDirectory = airportDirectory;
+        this.flightSearchRepository = flightSearchRepository;
+        // 인기도 집계 전에는 코드 순
+        this.index = AirportSuggestIndex.build(airportDirectory, null);
+    }
+
+    public AirportSuggestResponse suggest(String query, Integer limit) {
+        String q = query == null ? "" : query.strip();
+        if (q.length() > airportSuggestConfig.getMaxQueryLength()) {
+            q = q.substring(0, airportSuggestConfig.getMaxQueryLength());
+        }
+        int size = limit == null ? airportSuggestConfig.getDefaultLimit()
+            : Math.max(1, Math.min(limit, airportSuggestConfig.getMaxLimit()));
+
+        return AirportSuggestResponse.builder()
+            .query(q)
+            .airports(index.suggest(q, size))
+            .build();
+    }
+
+    /**
+     * 노선 인기도로 순위 재계산 (기동 직후 1회 + 주기 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${airport-suggest.popularity.cron:0 */10 * * * *}")
+    public void refreshPopularity() {
+        AirportSuggestConfig.Popularity popularity = airportSuggestConfig.getPopularity();
+        try {
+            List<RouteSearchCountView> routes = flightSearchRepository.findTopRoutes(PROVIDER,
+                LocalDateTime.now().minus(popularity.getLookback()),
+                PageRequest.of(0, Math.max(1, popularity.getTopRoutes())));
+
+            long[] scores = new long[airportDirectory.size()];
+            for (RouteSearchCountView route : routes) {
+                long count = route.getSearchCount() != null ? route.getSearchCount() : 0L;
+                addScore(scores, route.getOriginLocationCode(), count);
+                addScore(scores, route.getDestinationLocationCode(), count);
+            }
+            index = AirportSuggestIndex.build(airportDirectory, scores);
+            log.debug("자동완성 순위 갱신: 노선 {}개, 공항 {}개, 키 {}개", routes.size(),
+                airportDirectory.size(), index.keyCount());
+        } catch (Exception e) {
+            // 이전 순위를 그대로 사용
+            log.warn("자동완성 순위 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void addScore(long[] scores, String code, long count) {
+        int row = airportDirectory.row(code);
+        if (row >= 0) {
+            scores[row] += count;
+        }
+    }
+}
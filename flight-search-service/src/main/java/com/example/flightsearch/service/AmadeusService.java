@@ -3,13 +3,22 @@ package com.example.flightsearch.service;
 import com.example.flightsearch.config.AmadeusConfig;
 import com.example.flightsearch.dto.FlightSearchRequest;
 import com.example.flightsearch.dto.FlightSearchResponse;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.core.ParameterizedTypeReference;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.LinkedHashMap;
@@ -19,6 +28,7 @@ import java.util.ArrayList;
 /**
  * Amadeus API 호출 서비스
  * 실제 Amadeus API와 통신하여 항공편 검색 및 예약 기능 제공
+ * (토큰 발급 / 항공편 검색 / 응답 변환 구간을 각각 관측하여 타이머로 기록)
  */
 @Service
 @RequiredArgsConstructor
@@ -27,11 +37,31 @@ public class AmadeusService {
     
     private final AmadeusConfig amadeusConfig;
     private final WebClient amadeusWebClient;
+    private final ObservationRegistry observationRegistry;
+    private final PayloadCaptureService payloadCaptureService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private static final String PROVIDER = "AMADEUS";
+    private static final String FLIGHT_OFFERS_SOURCE = "amadeus.flight-offers";
+    private static final Duration DEFAULT_TOKEN_TTL = Duration.ofMinutes(29);
+    private static final Duration TOKEN_EXPIRY_MARGIN = Duration.ofSeconds(60);
+    
+    // 동시 요청은 하나의 발급 요청을 공유 (캘린더 검색처럼 병렬로 여러 날짜를 조회해도 토큰은 1회 발급)
+    private final Mono<String> accessToken = Mono.defer(this::requestAccessToken)
+        .cache(this::tokenCacheTtl, error -> Duration.ZERO, () -> Duration.ZERO)
+        .map(AccessToken::value);
     
     /**
-     * Amadeus API 인증 토큰 발급
+     * Amadeus API 인증 토큰 (만료 전까지 캐시하여 검색마다 재발급하지 않음)
      */
     public Mono<String> getAccessToken() {
+        return accessToken;
+    }
+    
+    /**
+     * Amadeus API 인증 토큰 발급
+     */
+    private Mono<AccessToken> requestAccessToken() {
         log.info("Amadeus API 인증 토큰 발급 시작");
         
         Map<String, String> authRequest = new HashMap<>();
@@ -39,7 +69,8 @@ public class AmadeusService {
         authRequest.put("client_id", amadeusConfig.getClientId());
         authRequest.put("client_secret", amadeusConfig.getClientSecret());
         
-        return WebClient.create()
+        // 절대 URL 이므로 baseUrl 과 무관하게 인증 서버로 요청 (타임아웃/트레이싱 설정 공유)
+        return amadeusWebClient
             .post()
             .uri(amadeusConfig.getAuthUrl())
             .header("Content-Type", "application/x-www-form-urlencoded")
@@ -48,18 +79,37 @@ public class AmadeusService {
             .bodyToMono(new ParameterizedTypeReference<LinkedHashMap<String, Object>>() {})
             .map(response -> {
                 String accessToken = (String) response.get("access_token");
+                Object expiresIn = response.get("expires_in");
                 log.info("Amadeus API 인증 토큰 발급 성공");
-                return accessToken;
+                return new AccessToken(accessToken, expiresIn != null
+                    ? Duration.ofSeconds(Long.parseLong(expiresIn.toString()))
+                    : DEFAULT_TOKEN_TTL);
             })
-            .doOnError(error -> log.error("Amadeus API 인증 실패: {}", error.getMessage()));
+            .doOnError(error -> log.error("Amadeus API 인증 실패: {}", error.getMessage()))
+            .name("amadeus.token")
+            .tag("provider", PROVIDER)
+            .tap(Micrometer.observation(observationRegistry));
+    }
+    
+    // 만료 직전 토큰으로 요청하지 않도록 여유 시간을 두고 재발급 (실패 시에는 캐시하지 않음)
+    private Duration tokenCacheTtl(AccessToken token) {
+        Duration ttl = token.expiresIn().minus(TOKEN_EXPIRY_MARGIN);
+        return ttl.isNegative() ? Duration.ZERO : ttl;
     }
     
     /**
      * 항공편 검색
      */
     public Mono<FlightSearchResponse> searchFlights(FlightSearchRequest request) {
-        log.info("Amadeus API 항공편 검색 시작: {} -> {}", 
-                request.getOriginLocationCode(), request.getDestinationLocationCode());
+        return searchFlights(request, amadeusConfig.getMaxOffers());
+    }
+    
+    /**
+     * 항공편 검색 (최대 항공편 수 지정, 검색 세션처럼 한 번에 많이 받아 재사용할 때)
+     */
+    public Mono<FlightSearchResponse> searchFlights(FlightSearchRequest request, int maxOffers) {
+        log.info("Amadeus API 항공편 검색 시작: {} -> {} (max {})", 
+                request.getOriginLocationCode(), request.getDestinationLocationCode(), maxOffers);
         
         return getAccessToken()
             .flatMap(token -> {
@@ -70,7 +120,7 @@ public class AmadeusService {
                     "&adults=" + request.getAdults() +
                     "&children=" + request.getChildren() +
                     "&infants=" + request.getInfants() +
-                    "&max=10";
+                    "&max=" + maxOffers;
                 
                 if (request.isRoundTrip()) {
                     searchUrl += "&returnDate=" + request.getReturnDate();
@@ -82,66 +132,55 @@ public class AmadeusService {
                     .header("Authorization", "Bearer " + token)
                     .retrieve()
                     .bodyToMono(new ParameterizedTypeReference<LinkedHashMap<String, Object>>() {})
-                    .map(this::convertToFlightSearchResponse)
+                    .map(this::observeConversion)
                     .doOnSuccess(response -> log.info("Amadeus API 항공편 검색 성공: {}개 항공편", 
                             response.getFlightOffers().size()))
-                    .doOnError(error -> log.error("Amadeus API 항공편 검색 실패: {}", error.getMessage()));
-            });
+                    .doOnNext(response -> {
+                        if ("SUCCESS".equals(response.getStatus())) {
+                            eventPublisher.publishEvent(new FlightSearchCompletedEvent(request, response));
+                        }
+                    })
+                    .doOnError(error -> log.error("Amadeus API 항공편 검색 실패: {}", error.getMessage()))
+                    .doOnError(WebClientResponseException.class, error -> {
+                        if (payloadCaptureService.shouldCaptureError()) {
+                            payloadCaptureService.capture("UPSTREAM_ERROR", FLIGHT_OFFERS_SOURCE,
+                                    error.getStatusCode().value() + " " + error.getResponseBodyAsString());
+                        }
+                    });
+            })
+            .name("amadeus.search")
+            .tag("provider", PROVIDER)
+            .tap(Micrometer.observation(observationRegistry));
     }
     
     /**
-     * Amadeus API 응답을 FlightSearchResponse로 변환
+     * 응답 변환 구간 관측 (outcome: 변환 결과 status)
+     * 원본 응답은 진단 캡처가 켜져 있을 때만 샘플링/오류 시 비동기로 기록 (로그로 출력하지 않음)
      */
-    private FlightSearchResponse convertToFlightSearchResponse(LinkedHashMap<String, Object> amadeusResponse) {
-        log.info("=== Amadeus API 응답 구조 분석 ===");
-        log.info("응답 키들: {}", amadeusResponse.keySet());
-        log.info("전체 응답: {}", amadeusResponse);
+    private FlightSearchResponse observeConversion(LinkedHashMap<String, Object> amadeusResponse) {
+        Observation observation = Observation.createNotStarted("amadeus.response.conversion", observationRegistry)
+            .lowCardinalityKeyValue("provider", PROVIDER);
+        FlightSearchResponse response = observation.observe(() -> {
+            FlightSearchResponse converted = convertToFlightSearchResponse(amadeusResponse);
+            observation.lowCardinalityKeyValue("outcome", converted.getStatus());
+            return converted;
+        });
         
-        // 첫 번째 항공편의 상세 구조 로깅
-        @SuppressWarnings("unchecked")
-        List<LinkedHashMap<String, Object>> offersData = (List<LinkedHashMap<String, Object>>) amadeusResponse.get("data");
-        if (offersData != null && !offersData.isEmpty()) {
-            LinkedHashMap<String, Object> firstOffer = offersData.get(0);
-            log.info("=== 첫 번째 항공편 상세 구조 ===");
-            log.info("첫 번째 항공편 키들: {}", firstOffer.keySet());
-            log.info("첫 번째 항공편 전체: {}", firstOffer);
-            
-            // itineraries 구조 확인
-            @SuppressWarnings("unchecked")
-            List<LinkedHashMap<String, Object>> itineraries = (List<LinkedHashMap<String, Object>>) firstOffer.get("itineraries");
-            if (itineraries != null && !itineraries.isEmpty()) {
-                LinkedHashMap<String, Object> firstItinerary = itineraries.get(0);
-                log.info("=== 첫 번째 itinerary 구조 ===");
-                log.info("itinerary 키들: {}", firstItinerary.keySet());
-                log.info("itinerary 전체: {}", firstItinerary);
-                
-                @SuppressWarnings("unchecked")
-                List<LinkedHashMap<String, Object>> segments = (List<LinkedHashMap<String, Object>>) firstItinerary.get("segments");
-                if (segments != null && !segments.isEmpty()) {
-                    LinkedHashMap<String, Object> firstSegment = segments.get(0);
-                    log.info("=== 첫 번째 segment 구조 ===");
-                    log.info("segment 키들: {}", firstSegment.keySet());
-                    log.info("segment 전체: {}", firstSegment);
-                    
-                    // departure 구조 확인
-                    LinkedHashMap<String, Object> departure = (LinkedHashMap<String, Object>) firstSegment.get("departure");
-                    if (departure != null) {
-                        log.info("=== departure 구조 ===");
-                        log.info("departure 키들: {}", departure.keySet());
-                        log.info("departure 전체: {}", departure);
-                    }
-                    
-                    // arrival 구조 확인
-                    LinkedHashMap<String, Object> arrival = (LinkedHashMap<String, Object>) firstSegment.get("arrival");
-                    if (arrival != null) {
-                        log.info("=== arrival 구조 ===");
-                        log.info("arrival 키들: {}", arrival.keySet());
-                        log.info("arrival 전체: {}", arrival);
-                    }
-                }
+        if ("ERROR".equals(response.getStatus())) {
+            if (payloadCaptureService.shouldCaptureError()) {
+                payloadCaptureService.capture("CONVERSION_ERROR", FLIGHT_OFFERS_SOURCE, amadeusResponse);
             }
+        } else if (payloadCaptureService.shouldSample()) {
+            payloadCaptureService.capture("SAMPLE", FLIGHT_OFFERS_SOURCE, amadeusResponse);
         }
-        
+        return response;
+    }
+    
+    /**
+     * Amadeus API 응답을 FlightSearchResponse로 변환
+     * (benchmarks 모듈에서 직접 측정할 수 있도록 package-private)
+     */
+    FlightSearchResponse convertToFlightSearchResponse(LinkedHashMap<String, Object> amadeusResponse) {
         try {
             // Amadeus API 응답 구조 파싱
             @SuppressWarnings("unchecked")
@@ -191,10 +230,10 @@ public class AmadeusService {
             // 출발/도착 정보
             String originLocationCode = extractOriginLocationCode(offer);
             String destinationLocationCode = extractDestinationLocationCode(offer);
-            String departureDate = extractDepartureDate(offer);
-            String departureTime = extractDepartureTime(offer);
-            String arrivalDate = extractArrivalDate(offer);
-            String arrivalTime = extractArrivalTime(offer);
+            // 출발/도착 시각과 소요시간은 한 번만 추출하여 문자열(JSON 용)과 숫자(비교용)를 함께 채움
+            String departureAt = extractDepartureAt(offer);
+            String arrivalAt = extractArrivalAt(offer);
+            String duration = extractDuration(offer);
             
             // 가격 정보
             FlightSearchResponse.Price price = extractPrice(offer);
@@ -205,11 +244,14 @@ public class AmadeusService {
                 .flightNumber(flightNumber)
                 .originLocationCode(originLocationCode)
                 .destinationLocationCode(destinationLocationCode)
-                .departureDate(departureDate)
-                .departureTime(departureTime)
-                .arrivalDate(arrivalDate)
-                .arrivalTime(arrivalTime)
-                .duration(extractDuration(offer))
+                .departureDate(datePart(departureAt))
+                .departureTime(timePart(departureAt))
+                .arrivalDate(datePart(arrivalAt))
+                .arrivalTime(timePart(arrivalAt))
+                .duration(duration)
+                .durationMinutes(durationMinutes(duration))
+                .departureEpochMinute(epochMinute(departureAt))
+                .arrivalEpochMinute(epochMinute(arrivalAt))
                 .cabinClass(extractCabinClass(offer))
                 .price(price)
                 .availableSeats(extractAvailableSeats(offer))
@@ -315,7 +357,8 @@ public class AmadeusService {
         return null;
     }
     
-    private String extractDepartureDate(LinkedHashMap<String, Object> offer) {
+    // 첫 구간 출발 시각 (현지 시각, 예: 2026-12-20T14:30:00)
+    private String extractDepartureAt(LinkedHashMap<String, Object> offer) {
         try {
             @SuppressWarnings("unchecked")
             List<LinkedHashMap<String, Object>> itineraries = (List<LinkedHashMap<String, Object>>) offer.get("itineraries");
@@ -326,17 +369,17 @@ public class AmadeusService {
                 if (segments != null && !segments.isEmpty()) {
                     LinkedHashMap<String, Object> firstSegment = segments.get(0);
                     LinkedHashMap<String, Object> departure = (LinkedHashMap<String, Object>) firstSegment.get("departure");
-                    String dateTime = departure != null ? (String) departure.get("at") : null;
-                    return dateTime != null ? dateTime.substring(0, 10) : null;
+                    return departure != null ? (String) departure.get("at") : null;
                 }
             }
         } catch (Exception e) {
-            log.warn("출발일 추출 실패: {}", e.getMessage());
+            log.warn("출발 시각 추출 실패: {}", e.getMessage());
         }
         return null;
     }
 
-    private String extractDepartureTime(LinkedHashMap<String, Object> offer) {
+    // 마지막 구간 도착 시각 (현지 시각)
+    private String extractArrivalAt(LinkedHashMap<String, Object> offer) {
         try {
             @SuppressWarnings("unchecked")
             List<LinkedHashMap<String, Object>> itineraries = (List<LinkedHashMap<String, Object>>) offer.get("itineraries");
@@ -345,58 +388,47 @@ public class AmadeusService {
                 @SuppressWarnings("unchecked")
                 List<LinkedHashMap<String, Object>> segments = (List<LinkedHashMap<String, Object>>) firstItinerary.get("segments");
                 if (segments != null && !segments.isEmpty()) {
-                    LinkedHashMap<String, Object> firstSegment = segments.get(0);
-                    LinkedHashMap<String, Object> departure = (LinkedHashMap<String, Object>) firstSegment.get("departure");
-                    String dateTime = departure != null ? (String) departure.get("at") : null;
-                    return dateTime != null ? dateTime.substring(11, 16) : null;
+                    LinkedHashMap<String, Object> lastSegment = segments.get(segments.size() - 1);
+                    LinkedHashMap<String, Object> arrival = (LinkedHashMap<String, Object>) lastSegment.get("arrival");
+                    return arrival != null ? (String) arrival.get("at") : null;
                 }
             }
         } catch (Exception e) {
-            log.warn("출발시간 추출 실패: {}", e.getMessage());
+            log.warn("도착 시각 추출 실패: {}", e.getMessage());
         }
         return null;
     }
 
-    private String extractArrivalDate(LinkedHashMap<String, Object> offer) {
+    private static String datePart(String dateTime) {
+        return dateTime != null && dateTime.length() >= 10 ? dateTime.substring(0, 10) : null;
+    }
+
+    private static String timePart(String dateTime) {
+        return dateTime != null && dateTime.length() >= 16 ? dateTime.substring(11, 16) : null;
+    }
+
+    // 현지 시각을 UTC 로 간주한 epoch 분 (같은 공항 기준 비교/정렬용)
+    private static long epochMinute(String dateTime) {
+        if (dateTime == null) {
+            return -1;
+        }
         try {
-            @SuppressWarnings("unchecked")
-            List<LinkedHashMap<String, Object>> itineraries = (List<LinkedHashMap<String, Object>>) offer.get("itineraries");
-            if (itineraries != null && !itineraries.isEmpty()) {
-                LinkedHashMap<String, Object> firstItinerary = itineraries.get(0);
-                @SuppressWarnings("unchecked")
-                List<LinkedHashMap<String, Object>> segments = (List<LinkedHashMap<String, Object>>) firstItinerary.get("segments");
-                if (segments != null && !segments.isEmpty()) {
-                    LinkedHashMap<String, Object> lastSegment = segments.get(segments.size() - 1);
-                    LinkedHashMap<String, Object> arrival = (LinkedHashMap<String, Object>) lastSegment.get("arrival");
-                    String dateTime = arrival != null ? (String) arrival.get("at") : null;
-                    return dateTime != null ? dateTime.substring(0, 10) : null;
-                }
-            }
-        } catch (Exception e) {
-            log.warn("도착일 추출 실패: {}", e.getMessage());
+            return LocalDateTime.parse(dateTime).toEpochSecond(ZoneOffset.UTC) / 60;
+        } catch (DateTimeParseException e) {
+            return -1;
         }
-        return null;
     }
 
-    private String extractArrivalTime(LinkedHashMap<String, Object> offer) {
+    // ISO-8601 기간 (PT11H30M) -> 분
+    private static int durationMinutes(String duration) {
+        if (duration == null) {
+            return -1;
+        }
         try {
-            @SuppressWarnings("unchecked")
-            List<LinkedHashMap<String, Object>> itineraries = (List<LinkedHashMap<String, Object>>) offer.get("itineraries");
-            if (itineraries != null && !itineraries.isEmpty()) {
-                LinkedHashMap<String, Object> firstItinerary = itineraries.get(0);
-                @SuppressWarnings("unchecked")
-                List<LinkedHashMap<String, Object>> segments = (List<LinkedHashMap<String, Object>>) firstItinerary.get("segments");
-                if (segments != null && !segments.isEmpty()) {
-                    LinkedHashMap<String, Object> lastSegment = segments.get(segments.size() - 1);
-                    LinkedHashMap<String, Object> arrival = (LinkedHashMap<String, Object>) lastSegment.get("arrival");
-                    String dateTime = arrival != null ? (String) arrival.get("at") : null;
-                    return dateTime != null ? dateTime.substring(11, 16) : null;
-                }
-            }
-        } catch (Exception e) {
-            log.warn("도착시간 추출 실패: {}", e.getMessage());
+            return (int) Duration.parse(duration).toMinutes();
+        } catch (DateTimeParseException e) {
+            return -1;
         }
-        return null;
     }
 
     private String extractDuration(LinkedHashMap<String, Object> offer) {
@@ -442,11 +474,14 @@ public class AmadeusService {
                 LinkedHashMap<String, Object> price = (LinkedHashMap<String, Object>) firstTraveler.get("price");
                 if (price != null) {
                     String currency = (String) price.get("currency");
-                    Double total = Double.valueOf(price.get("total").toString());
+                    // 응답의 금액 문자열을 그대로 최소 단위로 변환 (double 을 거치지 않음)
+                    String amount = price.get("total").toString();
+                    Double total = Double.valueOf(amount);
                     
                     return FlightSearchResponse.Price.builder()
                         .currency(currency)
                         .total(total)
+                        .totalMinor(MinorUnits.toMinor(amount, currency))
                         .base(total * 0.8) // 예시: 기본 요금은 총 요금의 80%
                         .taxes(total * 0.2) // 예시: 세금은 총 요금의 20%
                         .build();
@@ -463,21 +498,14 @@ public class AmadeusService {
             .build();
     }
     
+    /**
+     * 예약 가능 좌석 수 (Amadeus 는 offer 최상위의 numberOfBookableSeats 로 제공)
+     * 값이 없으면 null (확인되지 않음), 임의의 기본값으로 채우지 않음
+     */
     private Integer extractAvailableSeats(LinkedHashMap<String, Object> offer) {
-        try {
-            @SuppressWarnings("unchecked")
-            LinkedHashMap<String, Object> segments = (LinkedHashMap<String, Object>) offer.get("itineraries");
-            if (segments != null) {
-                @SuppressWarnings("unchecked")
-                List<LinkedHashMap<String, Object>> segmentsList = (List<LinkedHashMap<String, Object>>) segments.get("segments");
-                if (segmentsList != null && !segmentsList.isEmpty()) {
-                    LinkedHashMap<String, Object> firstSegment = segmentsList.get(0);
-                    return (Integer) firstSegment.get("numberOfBookableSeats");
-                }
-            }
-        } catch (Exception e) {
-            log.warn("가용 좌석 수 추출 실패: {}", e.getMessage());
-        }
-        return 9; // 기본값
+        return offer.get("numberOfBookableSeats") instanceof Number seats ? seats.intValue() : null;
+    }
+    
+    private record AccessToken(String value, Duration expiresIn) {
     }
 } 
\ No newline at end of file
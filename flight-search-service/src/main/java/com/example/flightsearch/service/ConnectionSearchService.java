@@ -0,0 +1,177 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.ConnectionSearchConfig;
+import com.example.flightsearch.dto.ConnectionQuery;
+import com.example.flightsearch.dto.ConnectionSearchResponse;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.model.AirportDirectory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연결 항공편 탐색 (self-transfer / 경유지 지정)
+ * - 편도 검색이 성공할 때마다 항공편을 구간으로 모으고, 주기적으로 노선 그래프(RouteGraph)를 새로 만들어 교체
+ * - 요청 스레드는 대기열 추가만 수행, 구간 정리/그래프 생성은 스케줄러 스레드
+ * - 탐색은 그래프만 사용하므로 외부 API 를 호출하지 않음 (최근 검색되지 않은 구간은 결과에 없음)
+ */
+@Service
+@Slf4j
+public class ConnectionSearchService {
+
+    private final ConnectionSearchConfig connectionSearchConfig;
+    private final AirportDirectory airportDirectory;
+    private final BlockingQueue<FlightSearchResponse> queue;
+    private final AtomicLong dropped = new AtomicLong();
+
+    // 구간 키 -> 최신 관측 (refreshGraph 에서만 접근)
+    private final Map<String, ObservedLeg> legs = new HashMap<>();
+
+    private volatile RouteGraph graph;
+
+    public ConnectionSearchService(ConnectionSearchConfig connectionSearchConfig, AirportDirectory airportDirectory) {
+        this.connectionSearchConfig = connectionSearchConfig;
+        this.airportDirectory = airportDirectory;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, connectionSearchConfig.getQueueCapacity()));
+        this.graph = RouteGraph.build(List.of(), airportDirectory);
+    }
+
+    @EventListener
+    public void onSearchCompleted(FlightSearchCompletedEvent event) {
+        // 왕복 요금은 한 구간 운임으로 쓸 수 없으므로 제외
+        if (!connectionSearchConfig.isEnabled() || event.request().isRoundTrip()) {
+            return;
+        }
+        if (!queue.offer(event.response())) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public ConnectionSearchResponse search(String origin, String destination, String via, LocalDate departureDate,
+                                           Integer maxStops, Integer minConnectionMinutes, String objective,
+                                           Integer limit, String currency) {
+        requireCode(origin, "출발지");
+        requireCode(destination, "도착지");
+        if (via != null) {
+            requireCode(via, "경유지");
+        }
+        if (origin.equalsIgnoreCase(destination)) {
+            throw new IllegalArgumentException("출발지와 도착지는 달라야 합니다");
+        }
+
+        ConnectionSearchConfig config = connectionSearchConfig;
+        int minConnection = minConnectionMinutes != null
+            ? Math.max(0, minConnectionMinutes) : (int) config.getMinConnection().toMinutes();
+        ConnectionQuery query = ConnectionQuery.builder()
+            .originLocationCode(origin.toUpperCase())
+            .destinationLocationCode(destination.toUpperCase())
+            .viaLocationCode(via != null ? via.toUpperCase() : null)
+            .departureDate(departureDate)
+            .objective(ConnectionQuery.Objective.parse(objective))
+            .maxStops(clamp(maxStops, config.getDefaultMaxStops(), 0, config.getMaxStops()))
+            .minConnectionMinutes(minConnection)
+            .minInternationalConnectionMinutes(Math.max(minConnection,
+                (int) config.getMinInternationalConnection().toMinutes()))
+            .maxConnectionMinutes((int) config.getMaxConnection().toMinutes())
+            .limit(clamp(limit, config.getDefaultLimit(), 1, config.getMaxLimit()))
+            .currency(currency != null ? currency.toUpperCase() : null)
+            .build();
+
+        RouteGraph current = graph;
+        List<ConnectionSearchResponse.Itinerary> itineraries =
+            current.search(query, config.getMaxLabelsPerAirport(), config.getMaxLabels());
+        log.debug("연결 항공편 탐색: {} -> {} (경유 {}) {} {}건 (그래프 구간 {}개)", query.getOriginLocationCode(),
+            query.getDestinationLocationCode(), query.getViaLocationCode(), departureDate, itineraries.size(),
+            current.edgeCount());
+
+        return ConnectionSearchResponse.builder()
+            .originLocationCode(query.getOriginLocationCode())
+            .destinationLocationCode(query.getDestinationLocationCode())
+            .viaLocationCode(query.getViaLocationCode())
+            .departureDate(departureDate)
+            .objective(query.getObjective().name())
+            .legCount(current.edgeCount())
+            .itineraries(itineraries)
+            .build();
+    }
+
+    /**
+     * 대기열의 검색 결과를 구간으로 반영하고, 만료/출발한 구간을 정리한 뒤 바뀌었으면 그래프 재생성
+     */
+    @Scheduled(fixedDelay = 15_000)
+    public synchronized void refreshGraph() {
+        long now = System.currentTimeMillis();
+        boolean changed = false;
+
+        List<FlightSearchResponse> responses = new ArrayList<>();
+        queue.drainTo(responses);
+        for (FlightSearchResponse response : responses) {
+            if (response.getFlightOffers() == null) {
+                continue;
+            }
+            for (FlightSearchResponse.FlightOffer offer : response.getFlightOffers()) {
+                // 시간대를 모르는 공항의 구간은 현지/UTC 시각을 섞게 되므로 받지 않음 (그래프 생성에서도 제외됨)
+                if (offer.getDepartureEpochMinute() < 0 || offer.getArrivalEpochMinute() < 0
+                    || airportDirectory.zone(offer.getOriginLocationCode()) == null
+                    || airportDirectory.zone(offer.getDestinationLocationCode()) == null) {
+                    continue;
+                }
+                // 같은 항공편은 최신 관측 운임으로 교체
+                legs.put(key(offer), new ObservedLeg(offer, now));
+                changed = true;
+            }
+        }
+
+        long expiredBefore = now - connectionSearchConfig.getLegTtl().toMillis();
+        long nowMinute = now / 60_000;
+        changed |= legs.values().removeIf(leg -> leg.observedAt() < expiredBefore || RouteGraph.utcMinute(
+            leg.offer().getDepartureEpochMinute(), airportDirectory.zone(leg.offer().getOriginLocationCode())) < nowMinute);
+
+        int maxLegs = Math.min(connectionSearchConfig.getMaxLegs(), RouteGraph.MAX_EDGES);
+        if (legs.size() > maxLegs) {
+            List<Map.Entry<String, ObservedLeg>> oldest = new ArrayList<>(legs.entrySet());
+            oldest.sort(Comparator.comparingLong(entry -> entry.getValue().observedAt()));
+            oldest.subList(0, legs.size() - maxLegs).forEach(entry -> legs.remove(entry.getKey()));
+            changed = true;
+        }
+
+        if (!changed) {
+            return;
+        }
+        List<FlightSearchResponse.FlightOffer> offers = new ArrayList<>(legs.size());
+        legs.values().forEach(leg -> offers.add(leg.offer()));
+        graph = RouteGraph.build(offers, airportDirectory);
+        log.debug("노선 그래프 갱신: 구간 {}개, 공항 {}개 ({}ms, 대기열 누락 누적 {}건)", graph.edgeCount(),
+            graph.airportCount(), System.currentTimeMillis() - now, dropped.get());
+    }
+
+    // 형식만 확인 (참조 데이터에 없는 공항은 그래프에도 없으므로 빈 결과)
+    private static void requireCode(String code, String label) {
+        if (AirportDirectory.pack(code) == AirportDirectory.NO_CODE) {
+            throw new IllegalArgumentException(label + " 공항 코드를 확인해주세요: " + code);
+        }
+    }
+
+    private static int clamp(Integer value, int defaultValue, int min, int max) {
+        return Math.max(min, Math.min(value != null ? value : defaultValue, max));
+    }
+
+    private static String key(FlightSearchResponse.FlightOffer offer) {
+        return offer.getAirline() + offer.getFlightNumber() + "|" + offer.getOriginLocationCode() + "|"
+            + offer.getDestinationLocationCode() + "|" + offer.getDepartureEpochMinute() + "|" + offer.getCabinClass();
+    }
+
+    private record ObservedLeg(FlightSearchResponse.FlightOffer offer, long observedAt) {
+    }
+}
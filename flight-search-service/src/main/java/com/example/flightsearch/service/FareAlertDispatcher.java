@@ -0,0 +1,76 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.FareWatchConfig;
+import com.example.flightsearch.repository.FareWatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 운임 알림 전달
+ * 매칭은 검색 요청 스레드에서 일어나므로, DB 갱신과 notifier 호출은 전용 스레드 1개에서 순서대로 처리
+ */
+@Component
+@Slf4j
+public class FareAlertDispatcher {
+    
+    private final FareWatchRepository fareWatchRepository;
+    private final FareAlertNotifier fareAlertNotifier;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong dropped = new AtomicLong();
+    
+    public FareAlertDispatcher(FareWatchConfig fareWatchConfig, FareWatchRepository fareWatchRepository,
+                               FareAlertNotifier fareAlertNotifier) {
+        this.fareWatchRepository = fareWatchRepository;
+        this.fareAlertNotifier = fareAlertNotifier;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(fareWatchConfig.getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "fare-alert-dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    @EventListener
+    public void onMatched(FareWatchMatchedEvent alert) {
+        try {
+            executor.execute(() -> deliver(alert));
+        } catch (RejectedExecutionException e) {
+            log.warn("운임 알림 대기열 초과, 버림: watch={} ({}건 누적)", alert.watchId(), dropped.incrementAndGet());
+        }
+    }
+    
+    private void deliver(FareWatchMatchedEvent alert) {
+        try {
+            // 다른 인스턴스가 이미 더 낮은 금액을 알렸으면 건너뜀
+            int updated = fareWatchRepository.markNotified(alert.watchId(), BigDecimal.valueOf(alert.price()),
+                alert.observedAt());
+            if (updated == 0) {
+                return;
+            }
+            fareAlertNotifier.notify(alert);
+        } catch (Exception e) {
+            log.warn("운임 알림 전달 실패: watch={} ({})", alert.watchId(), e.getMessage());
+        }
+    }
+    
+    public long droppedCount() {
+        return dropped.get();
+    }
+    
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.flightsearch.service;
+
+/**
+ * 운임 알림 전달 (이메일 / 푸시 / 웹훅 등)
+ * FareAlertDispatcher 의 전달 스레드에서 호출되며, 예외는 로그만 남기고 재시도하지 않음
+ */
+public interface FareAlertNotifier {
+    
+    void notify(FareWatchMatchedEvent alert);
+}
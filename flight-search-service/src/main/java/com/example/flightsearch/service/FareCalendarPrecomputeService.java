@@ -0,0 +1,113 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.FareCalendarConfig;
+import com.example.flightsearch.dto.FlightSearchRequest;
+import com.example.flightsearch.repository.FlightSearchRepository;
+import com.example.flightsearch.repository.RouteSearchCountView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인기 노선 최저가 캘린더 사전 계산
+ * 최근 검색 기록 기준 상위 노선의 빈/오래된 날짜를 가까운 날짜부터 채움 (1회 실행당 호출 수 제한)
+ * 사전 계산용 검색은 flight_searches 에 저장하지 않음 (인기 노선 집계가 스스로 강화되지 않도록)
+ * 실행 중 스케줄러 스레드 하나를 끝까지 점유하므로 spring.task.scheduling.pool.size 로 다른 정리 작업과 분리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FareCalendarPrecomputeService {
+    
+    private static final String PROVIDER = "AMADEUS";
+    
+    private final FareCalendarConfig fareCalendarConfig;
+    private final FlightSearchRepository flightSearchRepository;
+    private final AmadeusService amadeusService;
+    private final FlightOfferIndex flightOfferIndex;
+    private final LowestFareCalendar lowestFareCalendar;
+    
+    @Scheduled(cron = "${fare-calendar.precompute.cron:0 */30 * * * *}")
+    public void refreshTopRoutes() {
+        FareCalendarConfig.Precompute precompute = fareCalendarConfig.getPrecompute();
+        if (!precompute.isEnabled()) {
+            return;
+        }
+        
+        try {
+            List<RouteSearchCountView> topRoutes = flightSearchRepository.findTopRoutes(PROVIDER,
+                LocalDateTime.now().minus(precompute.getLookback()),
+                PageRequest.of(0, Math.max(1, precompute.getTopRoutes())));
+            
+            List<FlightSearchRequest> targets = refreshTargets(topRoutes, precompute.getMaxCallsPerRun());
+            if (targets.isEmpty()) {
+                log.debug("최저가 캘린더 사전 계산 대상 없음 ({}개 노선 최신 상태)", topRoutes.size());
+                return;
+            }
+            
+            AtomicInteger failed = new AtomicInteger();
+            Flux.fromIterable(targets)
+                .flatMap(request -> amadeusService.searchFlights(request)
+                    .doOnNext(response -> {
+                        flightOfferIndex.index(response);
+                        lowestFareCalendar.record(request, response);
+                    })
+                    .onErrorResume(error -> {
+                        failed.incrementAndGet();
+                        log.debug("최저가 캘린더 사전 계산 실패: {}-{} {} ({})", request.getOriginLocationCode(),
+                            request.getDestinationLocationCode(), request.getDepartureDate(), error.getMessage());
+                        return Mono.empty();
+                    }), Math.max(1, precompute.getConcurrency()))
+                .then()
+                .block();
+            
+            log.info("최저가 캘린더 사전 계산 완료: {}개 노선, {}건 조회 ({}건 실패), 보관 노선 {}개",
+                topRoutes.size(), targets.size(), failed.get(), lowestFareCalendar.routeCount());
+            
+        } catch (Exception e) {
+            log.error("최저가 캘린더 사전 계산 실패: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 노선별 갱신 필요 날짜를 모아 가까운 날짜 -> 인기 노선 순으로 정렬 후 호출 수만큼 자름
+     */
+    private List<FlightSearchRequest> refreshTargets(List<RouteSearchCountView> topRoutes, int maxCalls) {
+        List<RefreshTarget> targets = new ArrayList<>();
+        for (int rank = 0; rank < topRoutes.size(); rank++) {
+            RouteSearchCountView route = topRoutes.get(rank);
+            for (LocalDate date : lowestFareCalendar.staleDates(route.getOriginLocationCode(),
+                    route.getDestinationLocationCode())) {
+                targets.add(new RefreshTarget(route, date, rank));
+            }
+        }
+        
+        return targets.stream()
+            .sorted(Comparator.comparing(RefreshTarget::date).thenComparingInt(RefreshTarget::rank))
+            .limit(Math.max(0, maxCalls))
+            .map(target -> FlightSearchRequest.builder()
+                .originLocationCode(target.route().getOriginLocationCode())
+                .destinationLocationCode(target.route().getDestinationLocationCode())
+                .departureDate(target.date())
+                .adults(1)
+                .children(0)
+                .infants(0)
+                .apiProvider(PROVIDER)
+                .build())
+            .toList();
+    }
+    
+    private record RefreshTarget(RouteSearchCountView route, LocalDate date, int rank) {
+    }
+}
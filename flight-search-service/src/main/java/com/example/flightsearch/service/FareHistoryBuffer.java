@@ -0,0 +1,163 @@
+package com.example.flightsearch.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 세그먼트로 기록되기 전 운임 관측치 버퍼 (컬럼별 primitive 배열 + 문자열 사전)
+ * 동기화는 FareHistoryStore 가 담당
+ */
+final class FareHistoryBuffer {
+
+    /**
+     * 관측치 하나 (observedAt: epoch 초, price: 최소 단위 금액)
+     */
+    @FunctionalInterface
+    interface PointConsumer {
+        void accept(long observedAt, long price, String flight, String cabin, String currency);
+    }
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] seriesKeys = new long[INITIAL_CAPACITY];
+    private long[] observedAt = new long[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private int[] flightIds = new int[INITIAL_CAPACITY];
+    private int[] cabinIds = new int[INITIAL_CAPACITY];
+    private int[] currencyIds = new int[INITIAL_CAPACITY];
+    private int size;
+
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> dictionaryIds = new HashMap<>();
+
+    private long minObserved = Long.MAX_VALUE;
+    private long maxObserved = Long.MIN_VALUE;
+    private final long createdAtMillis = System.currentTimeMillis();
+
+    /**
+     * 노선 + 출발일을 하나의 long 으로 인코딩 (공항 코드 문자당 6비트, 출발일 epoch day 24비트)
+     * 정렬 순서 = (출발지, 도착지, 출발일) 순서
+     *
+     * @return 공항 코드에 허용되지 않은 문자가 있으면 -1
+     */
+    static long seriesKey(String origin, String destination, long departureEpochDay) {
+        if (origin == null || destination == null || origin.length() != 3 || destination.length() != 3) {
+            return -1;
+        }
+        long route = 0;
+        String codes = origin + destination;
+        for (int i = 0; i < codes.length(); i++) {
+            int c = codes.charAt(i) - '0';
+            if (c < 0 || c > 'Z' - '0') {
+                return -1;
+            }
+            route = (route << 6) | c;
+        }
+        return (route << 24) | (departureEpochDay & 0xFFFFFF);
+    }
+
+    void add(long seriesKey, long observed, long price, String flight, String cabin, String currency) {
+        if (size == seriesKeys.length) {
+            int capacity = size * 2;
+            seriesKeys = Arrays.copyOf(seriesKeys, capacity);
+            observedAt = Arrays.copyOf(observedAt, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            flightIds = Arrays.copyOf(flightIds, capacity);
+            cabinIds = Arrays.copyOf(cabinIds, capacity);
+            currencyIds = Arrays.copyOf(currencyIds, capacity);
+        }
+        seriesKeys[size] = seriesKey;
+        observedAt[size] = observed;
+        prices[size] = price;
+        flightIds[size] = intern(flight);
+        cabinIds[size] = intern(cabin);
+        currencyIds[size] = intern(currency);
+        size++;
+
+        minObserved = Math.min(minObserved, observed);
+        maxObserved = Math.max(maxObserved, observed);
+    }
+
+    /**
+     * 버퍼 전체 선형 탐색 (세그먼트 크기 이하이므로 수 ms 이내)
+     */
+    void forEach(long seriesKey, long from, long to, PointConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            if (seriesKeys[i] == seriesKey && observedAt[i] >= from && observedAt[i] <= to) {
+                consumer.accept(observedAt[i], prices[i], dictionary.get(flightIds[i]),
+                    dictionary.get(cabinIds[i]), dictionary.get(currencyIds[i]));
+            }
+        }
+    }
+
+    /**
+     * (seriesKey, observedAt) 순 정렬 인덱스 (세그먼트 기록용)
+     */
+    int[] sortedOrder() {
+        return IntStream.range(0, size)
+            .boxed()
+            .sorted(Comparator.<Integer>comparingLong(i -> seriesKeys[i]).thenComparingLong(i -> observedAt[i]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    int size() {
+        return size;
+    }
+
+    long ageMillis() {
+        return System.currentTimeMillis() - createdAtMillis;
+    }
+
+    long minObserved() {
+        return minObserved;
+    }
+
+    long maxObserved() {
+        return maxObserved;
+    }
+
+    long seriesKey(int index) {
+        return seriesKeys[index];
+    }
+
+    long observedAt(int index) {
+        return observedAt[index];
+    }
+
+    long price(int index) {
+        return prices[index];
+    }
+
+    int flightId(int index) {
+        return flightIds[index];
+    }
+
+    int cabinId(int index) {
+        return cabinIds[index];
+    }
+
+    int currencyId(int index) {
+        return currencyIds[index];
+    }
+
+    List<String> dictionary() {
+        return dictionary;
+    }
+
+    private int intern(String value) {
+        String key = value != null ? value : "";
+        Integer id = dictionaryIds.get(key);
+        if (id == null) {
+            id = dictionary.size();
+            dictionary.add(key);
+            dictionaryIds.put(key, id);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.flightsearch.service;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 운임 이력 세그먼트 파일 (불변, 읽기는 memory-mapped)
+ *
+ * <pre>
+ * header (48 bytes)
+ *   int magic "FHS1", int version, int pointCount, int seriesCount,
+ *   long minObserved, long maxObserved,
+ *   int directoryOffset, int dictionaryOffset, int blocksOffset, int reserved
+ * directory (seriesCount x 16 bytes, seriesKey 오름차순)
+ *   long seriesKey, int blockOffset (blocksOffset 기준), int pointCount
+ * dictionary
+ *   int count, (short length, UTF-8 bytes) x count   -- 편명/좌석 등급/통화
+ * blocks (시리즈마다 컬럼 단위로 연속 기록, 모든 값은 varint)
+ *   observedAt: 첫 값은 minObserved 기준 차이, 이후는 직전 값과의 차이 (정렬되어 있어 항상 0 이상)
+ *   price:      첫 값과 이후 차이를 zigzag 인코딩 (가격은 오르내리므로 음수 차이 허용)
+ *   flightId, cabinId, currencyId: 사전 인덱스
+ * </pre>
+ *
+ * 시리즈(노선 + 출발일) 조회는 directory 이진 탐색 한 번 + 해당 블록 디코딩만 수행
+ */
+final class FareHistorySegment {
+
+    static final String FILE_SUFFIX = ".fhs";
+
+    private static final int MAGIC = 0x46485331;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 48;
+    private static final int DIRECTORY_ENTRY_SIZE = 16;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int pointCount;
+    private final int seriesCount;
+    private final long minObserved;
+    private final long maxObserved;
+    private final int directoryOffset;
+    private final int blocksOffset;
+    private final String[] dictionary;
+
+    private FareHistorySegment(Path path, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("운임 이력 세그먼트 형식이 아닙니다: " + path);
+        }
+        this.pointCount = buffer.getInt(8);
+        this.seriesCount = buffer.getInt(12);
+        this.minObserved = buffer.getLong(16);
+        this.maxObserved = buffer.getLong(24);
+        this.directoryOffset = buffer.getInt(32);
+        this.blocksOffset = buffer.getInt(40);
+        int dictionaryOffset = buffer.getInt(36);
+
+        // 잘린/손상된 파일이 조회 시점에 IndexOutOfBounds 로 터지지 않도록 구간 경계를 미리 확인
+        if (pointCount < 0 || seriesCount < 0
+                || directoryOffset != HEADER_SIZE
+                || (long) directoryOffset + (long) seriesCount * DIRECTORY_ENTRY_SIZE > dictionaryOffset
+                || dictionaryOffset > blocksOffset
+                || blocksOffset > buffer.capacity()) {
+            throw new IOException("운임 이력 세그먼트 헤더가 손상되었습니다: " + path);
+        }
+        int blocksSize = buffer.capacity() - blocksOffset;
+        for (int i = 0; i < seriesCount; i++) {
+            int entry = directoryOffset + i * DIRECTORY_ENTRY_SIZE;
+            int blockOffset = buffer.getInt(entry + 8);
+            int count = buffer.getInt(entry + 12);
+            if (blockOffset < 0 || blockOffset >= blocksSize || count <= 0) {
+                throw new IOException("운임 이력 세그먼트 디렉터리가 손상되었습니다: " + path);
+            }
+        }
+
+        try {
+            ByteBuffer reader = buffer.duplicate();
+            reader.position(dictionaryOffset).limit(blocksOffset);
+            int count = reader.getInt();
+            if (count < 0 || count > reader.remaining() / 2) {
+                throw new IOException("운임 이력 세그먼트 사전이 손상되었습니다: " + path);
+            }
+            this.dictionary = new String[count];
+            for (int i = 0; i < dictionary.length; i++) {
+                byte[] bytes = new byte[reader.getShort() & 0xFFFF];
+                reader.get(bytes);
+                dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("운임 이력 세그먼트 사전이 잘려 있습니다: " + path, e);
+        }
+    }
+
+    static FareHistorySegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("운임 이력 세그먼트 크기가 올바르지 않습니다: " + path + " (" + channel.size() + " bytes)");
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            return new FareHistorySegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 버퍼 내용을 세그먼트 파일로 기록 (임시 파일에 쓰고 디스크까지 동기화한 뒤 원자적 이동)
+     */
+    static FareHistorySegment write(Path target, FareHistoryBuffer source) throws IOException {
+        int[] order = source.sortedOrder();
+
+        ByteArrayOutputStream directory = new ByteArrayOutputStream();
+        DataOutputStream directoryOut = new DataOutputStream(directory);
+        ByteArrayOutputStream blocks = new ByteArrayOutputStream(order.length * 8);
+        int seriesCount = 0;
+
+        int start = 0;
+        while (start < order.length) {
+            long seriesKey = source.seriesKey(order[start]);
+            int end = start;
+            while (end < order.length && source.seriesKey(order[end]) == seriesKey) {
+                end++;
+            }
+
+            directoryOut.writeLong(seriesKey);
+            directoryOut.writeInt(blocks.size());
+            directoryOut.writeInt(end - start);
+            seriesCount++;
+
+            long previousObserved = source.minObserved();
+            for (int i = start; i < end; i++) {
+                long observed = source.observedAt(order[i]);
+                writeVarLong(blocks, observed - previousObserved);
+                previousObserved = observed;
+            }
+            long previousPrice = 0;
+            for (int i = start; i < end; i++) {
+                long price = source.price(order[i]);
+                writeVarLong(blocks, zigzag(price - previousPrice));
+                previousPrice = price;
+            }
+            for (int i = start; i < end; i++) {
+                writeVarLong(blocks, source.flightId(order[i]));
+            }
+            for (int i = start; i < end; i++) {
+                writeVarLong(blocks, source.cabinId(order[i]));
+            }
+            for (int i = start; i < end; i++) {
+                writeVarLong(blocks, source.currencyId(order[i]));
+            }
+            start = end;
+        }
+
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream();
+        DataOutputStream dictionaryOut = new DataOutputStream(dictionary);
+        List<String> values = source.dictionary();
+        dictionaryOut.writeInt(values.size());
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            dictionaryOut.writeShort(bytes.length);
+            dictionaryOut.write(bytes);
+        }
+
+        int directoryOffset = HEADER_SIZE;
+        int dictionaryOffset = directoryOffset + directory.size();
+        int blocksOffset = dictionaryOffset + dictionary.size();
+
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(order.length);
+            out.writeInt(seriesCount);
+            out.writeLong(source.minObserved());
+            out.writeLong(source.maxObserved());
+            out.writeInt(directoryOffset);
+            out.writeInt(dictionaryOffset);
+            out.writeInt(blocksOffset);
+            out.writeInt(0);
+            directory.writeTo(out);
+            dictionary.writeTo(out);
+            blocks.writeTo(out);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(target.toAbsolutePath().getParent());
+
+        return open(target);
+    }
+
+    /**
+     * 시리즈의 [from, to] 구간 관측치 (관측 시각 오름차순)
+     */
+    void forEach(long seriesKey, long from, long to, FareHistoryBuffer.PointConsumer consumer) {
+        if (to < minObserved || from > maxObserved) {
+            return;
+        }
+
+        int low = 0;
+        int high = seriesCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long key = buffer.getLong(directoryOffset + mid * DIRECTORY_ENTRY_SIZE);
+            if (key < seriesKey) {
+                low = mid + 1;
+            } else if (key > seriesKey) {
+                high = mid - 1;
+            } else {
+                int entry = directoryOffset + mid * DIRECTORY_ENTRY_SIZE;
+                decodeBlock(buffer.getInt(entry + 8), buffer.getInt(entry + 12), from, to, consumer);
+                return;
+            }
+        }
+    }
+
+    private void decodeBlock(int blockOffset, int count, long from, long to, FareHistoryBuffer.PointConsumer consumer) {
+        ByteBuffer reader = buffer.duplicate();
+        reader.position(blocksOffset + blockOffset);
+
+        long[] observed = new long[count];
+        long previous = minObserved;
+        for (int i = 0; i < count; i++) {
+            previous += readVarLong(reader);
+            observed[i] = previous;
+        }
+        long[] prices = new long[count];
+        long price = 0;
+        for (int i = 0; i < count; i++) {
+            price += unzigzag(readVarLong(reader));
+            prices[i] = price;
+        }
+        int[] flights = readIds(reader, count);
+        int[] cabins = readIds(reader, count);
+        int[] currencies = readIds(reader, count);
+
+        for (int i = 0; i < count; i++) {
+            if (observed[i] >= from && observed[i] <= to) {
+                consumer.accept(observed[i], prices[i], dictionary[flights[i]], dictionary[cabins[i]],
+                    dictionary[currencies[i]]);
+            }
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int pointCount() {
+        return pointCount;
+    }
+
+    long maxObserved() {
+        return maxObserved;
+    }
+
+    // 이동(rename) 자체가 디스크에 남도록 디렉터리도 동기화 (지원하지 않는 파일 시스템은 생략)
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // 동기화는 최선 노력 (Windows 등은 디렉터리를 채널로 열 수 없음)
+        }
+    }
+
+    private static int[] readIds(ByteBuffer reader, int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = (int) readVarLong(reader);
+        }
+        return ids;
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer reader) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = reader.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
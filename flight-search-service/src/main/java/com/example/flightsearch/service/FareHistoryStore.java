@@ -0,0 +1,313 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.FareHistoryConfig;
+import com.example.flightsearch.dto.FareTrendResponse;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 운임 이력 시계열 저장소 (append-only)
+ * - 외부 API 검색이 성공할 때마다 항공편별 (노선, 출발일, 편명, 좌석 등급, 가격) 관측치를 기록
+ * - 요청 스레드는 대기열 추가만 수행, 변환/기록은 별도 스레드
+ * - 메모리 버퍼가 차거나 일정 시간이 지나면 컬럼 단위 delta 인코딩 세그먼트 파일로 기록 (FareHistorySegment)
+ * - 조회는 세그먼트별 memory-mapped directory 이진 탐색 + 관측 기간으로 세그먼트 건너뛰기
+ */
+@Service
+@Slf4j
+public class FareHistoryStore {
+
+    private static final String FILE_PREFIX = "fares-";
+
+    private final FareHistoryConfig fareHistoryConfig;
+    private final BlockingQueue<FlightSearchCompletedEvent> queue;
+    private final Thread writerThread;
+    private final Object lock = new Object();
+
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    // lock 안에서만 교체 (segments 는 교체 시 새 리스트로)
+    private FareHistoryBuffer buffer = new FareHistoryBuffer();
+    private volatile List<FareHistorySegment> segments = List.of();
+    private volatile boolean running = true;
+
+    public FareHistoryStore(FareHistoryConfig fareHistoryConfig) {
+        this.fareHistoryConfig = fareHistoryConfig;
+        this.queue = new ArrayBlockingQueue<>(fareHistoryConfig.getQueueCapacity());
+
+        if (fareHistoryConfig.isEnabled()) {
+            loadSegments();
+        }
+
+        this.writerThread = new Thread(this::writeLoop, "fare-history-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @EventListener
+    public void onSearchCompleted(FlightSearchCompletedEvent event) {
+        // 왕복 요금은 편도와 비교할 수 없으므로 기록하지 않음
+        if (!fareHistoryConfig.isEnabled() || event.request().isRoundTrip()) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * 노선 + 출발일의 최근 days 일 운임 추이
+     */
+    public FareTrendResponse trend(String origin, String destination, LocalDate departureDate, int days) {
+        int period = Math.max(1, Math.min(days, fareHistoryConfig.getMaxQueryDays()));
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate to = LocalDate.now(zone);
+        LocalDate from = to.minusDays(period - 1L);
+        long fromSecond = from.atStartOfDay(zone).toEpochSecond();
+        long toSecond = to.plusDays(1).atStartOfDay(zone).toEpochSecond() - 1;
+
+        long seriesKey = FareHistoryBuffer.seriesKey(origin, destination, departureDate.toEpochDay());
+        Map<String, TreeMap<LocalDate, DailyAggregate>> byCurrency = new HashMap<>();
+        FareHistoryBuffer.PointConsumer collector = (observed, price, flight, cabin, currency) ->
+            byCurrency.computeIfAbsent(currency, key -> new TreeMap<>())
+                .computeIfAbsent(Instant.ofEpochSecond(observed).atZone(zone).toLocalDate(), key -> new DailyAggregate())
+                .add(price, flight);
+
+        if (seriesKey >= 0) {
+            List<FareHistorySegment> snapshot;
+            synchronized (lock) {
+                snapshot = segments;
+                buffer.forEach(seriesKey, fromSecond, toSecond, collector);
+            }
+            for (FareHistorySegment segment : snapshot) {
+                segment.forEach(seriesKey, fromSecond, toSecond, collector);
+            }
+        }
+
+        String currency = byCurrency.entrySet().stream()
+            .max(Comparator.comparingLong(entry -> entry.getValue().values().stream()
+                .mapToLong(aggregate -> aggregate.samples).sum()))
+            .map(Map.Entry::getKey)
+            .orElse(null);
+
+        List<FareTrendResponse.DailyFare> dailyFares = new ArrayList<>();
+        long observations = 0;
+        if (currency != null) {
+            for (Map.Entry<LocalDate, DailyAggregate> entry : byCurrency.get(currency).entrySet()) {
+                DailyAggregate aggregate = entry.getValue();
+                observations += aggregate.samples;
+                dailyFares.add(FareTrendResponse.DailyFare.builder()
+                    .date(entry.getKey())
+                    .minPrice(MinorUnits.fromMinor(aggregate.min, currency))
+                    .maxPrice(MinorUnits.fromMinor(aggregate.max, currency))
+                    .avgPrice(MinorUnits.fromMinor(Math.round((double) aggregate.sum / aggregate.samples), currency))
+                    .samples(aggregate.samples)
+                    .cheapestFlight(aggregate.cheapestFlight)
+                    .build());
+            }
+        }
+
+        return FareTrendResponse.builder()
+            .originLocationCode(origin)
+            .destinationLocationCode(destination)
+            .departureDate(departureDate)
+            .from(from)
+            .to(to)
+            .currency(currency)
+            .observations(observations)
+            .days(dailyFares)
+            .build();
+    }
+
+    /**
+     * 보관 기간이 지난 세그먼트 삭제 (세그먼트의 마지막 관측 시각 기준)
+     */
+    @Scheduled(cron = "${fare-history.retention-cron:0 15 4 * * *}")
+    public void purgeExpiredSegments() {
+        if (!fareHistoryConfig.isEnabled() || fareHistoryConfig.getRetainDays() <= 0) {
+            return;
+        }
+
+        long cutoff = Instant.now().minusSeconds(TimeUnit.DAYS.toSeconds(fareHistoryConfig.getRetainDays()))
+            .getEpochSecond();
+        List<FareHistorySegment> expired;
+        synchronized (lock) {
+            expired = segments.stream().filter(segment -> segment.maxObserved() < cutoff).toList();
+            if (expired.isEmpty()) {
+                return;
+            }
+            segments = segments.stream().filter(segment -> segment.maxObserved() >= cutoff).toList();
+        }
+
+        // 매핑은 GC 시 해제되며, 삭제된 파일도 매핑이 남아 있는 동안에는 읽기 가능
+        for (FareHistorySegment segment : expired) {
+            try {
+                Files.deleteIfExists(segment.path());
+            } catch (IOException e) {
+                log.warn("운임 이력 세그먼트 삭제 실패: {} ({})", segment.path(), e.getMessage());
+            }
+        }
+        log.info("운임 이력 세그먼트 {}개 삭제 (보관 {}일)", expired.size(), fareHistoryConfig.getRetainDays());
+    }
+
+    public long pendingCount() {
+        return queue.size();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    private void writeLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                FlightSearchCompletedEvent event = queue.poll(1, TimeUnit.SECONDS);
+                if (event != null) {
+                    append(event);
+                }
+                if (shouldSeal()) {
+                    seal();
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (Exception e) {
+                log.warn("운임 이력 기록 실패: {}", e.getMessage());
+            }
+        }
+
+        try {
+            seal();
+        } catch (Exception e) {
+            log.warn("종료 중 운임 이력 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private void append(FlightSearchCompletedEvent event) {
+        long seriesKey = FareHistoryBuffer.seriesKey(event.request().getOriginLocationCode(),
+            event.request().getDestinationLocationCode(), event.request().getDepartureDate().toEpochDay());
+        if (seriesKey < 0) {
+            return;
+        }
+
+        long observed = event.response().getSearchTimestamp() != null
+            ? event.response().getSearchTimestamp().atZone(ZoneId.systemDefault()).toEpochSecond()
+            : Instant.now().getEpochSecond();
+
+        synchronized (lock) {
+            for (FlightSearchResponse.FlightOffer offer : event.response().getFlightOffers()) {
+                // 가격 추출 실패 시 0.0 이 들어오므로 제외
+                long total = MinorUnits.total(offer.getPrice());
+                if (total <= 0) {
+                    continue;
+                }
+                buffer.add(seriesKey, observed, total,
+                    offer.getAirline() + offer.getFlightNumber(), offer.getCabinClass(), offer.getPrice().getCurrency());
+                recorded.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean shouldSeal() {
+        FareHistoryBuffer current = buffer;
+        return current.size() >= fareHistoryConfig.getSegmentPoints()
+            || (current.size() > 0 && current.ageMillis() >= fareHistoryConfig.getSealInterval().toMillis());
+    }
+
+    /**
+     * 버퍼를 세그먼트 파일로 기록 (기록 스레드에서만 호출되므로 그동안 버퍼에 추가되는 값은 없음)
+     */
+    private void seal() throws IOException {
+        FareHistoryBuffer sealing = buffer;
+        if (sealing.size() == 0) {
+            return;
+        }
+
+        Path directory = Path.of(fareHistoryConfig.getDirectory());
+        Files.createDirectories(directory);
+        Path target = directory.resolve(FILE_PREFIX + sealing.maxObserved() + "-" + System.nanoTime()
+            + FareHistorySegment.FILE_SUFFIX);
+        FareHistorySegment segment = FareHistorySegment.write(target, sealing);
+
+        synchronized (lock) {
+            List<FareHistorySegment> next = new ArrayList<>(segments);
+            next.add(segment);
+            segments = List.copyOf(next);
+            buffer = new FareHistoryBuffer();
+        }
+        log.info("운임 이력 세그먼트 기록: {} ({}건, {} bytes)", target.getFileName(), segment.pointCount(),
+            Files.size(target));
+    }
+
+    private void loadSegments() {
+        Path directory = Path.of(fareHistoryConfig.getDirectory());
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<FareHistorySegment> loaded = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(path -> path.getFileName().toString().endsWith(FareHistorySegment.FILE_SUFFIX))
+                    .sorted()
+                    .toList()) {
+                try {
+                    loaded.add(FareHistorySegment.open(file));
+                } catch (IOException | RuntimeException e) {
+                    // 손상된 세그먼트 하나 때문에 기동이 실패하지 않도록 파일 단위로 건너뜀
+                    log.warn("운임 이력 세그먼트 열기 실패, 건너뜀: {} ({})", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("운임 이력 디렉터리 조회 실패: {}", e.getMessage());
+        }
+
+        segments = List.copyOf(loaded);
+        log.info("운임 이력 세그먼트 {}개 로드 ({}건)", loaded.size(),
+            loaded.stream().mapToLong(FareHistorySegment::pointCount).sum());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private static final class DailyAggregate {
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private long sum;
+        private int samples;
+        private String cheapestFlight;
+
+        void add(long price, String flight) {
+            if (price < min) {
+                min = price;
+                cheapestFlight = flight;
+            }
+            max = Math.max(max, price);
+            sum += price;
+            samples++;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.model.FareWatch;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활성 운임 알림 인덱스 (노선 + 출발일 -> 알림 목록)
+ * 검색 결과 1건당 해시 조회 1회로 해당 날짜의 알림만 확인 (전체 알림 순회 없음)
+ * 알림의 출발일 범위는 날짜별 항목으로 펼쳐서 보관 (범위 길이는 fare-watch.max-range-days 로 제한)
+ */
+@Component
+public class FareWatchIndex {
+    
+    // 날짜별 목록은 교체만 하고 수정하지 않음 (조회 시 잠금 없음)
+    private final Map<RouteDate, List<Watch>> watchesByRouteDate = new ConcurrentHashMap<>();
+    private final Map<Long, Watch> watchesById = new ConcurrentHashMap<>();
+    // 알림별 마지막 알린 금액 (최소 단위), 더 낮은 금액만 다시 알림
+    private final Map<Long, Long> lastNotified = new ConcurrentHashMap<>();
+    // 감시 중인 날짜의 마지막 관측 시각 (일반 검색 포함), 주기 조회 대상 선정용
+    private final Map<RouteDate, Long> lastObservedMillis = new ConcurrentHashMap<>();
+    
+    public void add(FareWatch entity, LocalDate today) {
+        Watch watch = new Watch(entity.getId(), entity.getOriginLocationCode(), entity.getDestinationLocationCode(),
+            entity.getFromDate(), entity.getToDate(),
+            MinorUnits.toMinor(entity.getMaxPrice().doubleValue(), entity.getCurrency()), entity.getCurrency(),
+            entity.getSubscriber());
+        
+        remove(watch.id());
+        watchesById.put(watch.id(), watch);
+        if (entity.getLastNotifiedPrice() != null) {
+            lastNotified.put(watch.id(),
+                MinorUnits.toMinor(entity.getLastNotifiedPrice().doubleValue(), entity.getCurrency()));
+        }
+        
+        for (LocalDate date : watch.dates(today)) {
+            watchesByRouteDate.compute(new RouteDate(watch.origin(), watch.destination(), date), (key, current) -> {
+                List<Watch> next = current == null ? new ArrayList<>(1) : new ArrayList<>(current);
+                next.add(watch);
+                return List.copyOf(next);
+            });
+        }
+    }
+    
+    public void remove(long watchId) {
+        Watch watch = watchesById.remove(watchId);
+        lastNotified.remove(watchId);
+        if (watch == null) {
+            return;
+        }
+        
+        for (LocalDate date = watch.from(); !date.isAfter(watch.to()); date = date.plusDays(1)) {
+            RouteDate key = new RouteDate(watch.origin(), watch.destination(), date);
+            List<Watch> remaining = watchesByRouteDate.computeIfPresent(key, (k, current) -> {
+                List<Watch> next = current.stream().filter(w -> w.id() != watchId).toList();
+                return next.isEmpty() ? null : next;
+            });
+            if (remaining == null) {
+                lastObservedMillis.remove(key);
+            }
+        }
+    }
+    
+    /**
+     * 검색 결과가 들어온 노선 + 출발일의 알림 목록 (감시 중인 날짜면 관측 시각도 갱신)
+     */
+    public List<Watch> observe(String origin, String destination, LocalDate date, long observedMillis) {
+        RouteDate key = new RouteDate(origin, destination, date);
+        List<Watch> watches = watchesByRouteDate.get(key);
+        if (watches == null) {
+            return List.of();
+        }
+        lastObservedMillis.merge(key, observedMillis, Math::max);
+        return watches;
+    }
+    
+    /**
+     * 이전에 알린 금액보다 낮을 때만 true (동시에 들어온 결과 중 하나만 알림)
+     */
+    public boolean claim(long watchId, long priceMinor) {
+        boolean[] claimed = {false};
+        lastNotified.compute(watchId, (id, current) -> {
+            if (current == null || priceMinor < current) {
+                claimed[0] = true;
+                return priceMinor;
+            }
+            return current;
+        });
+        return claimed[0] && watchesById.containsKey(watchId);
+    }
+    
+    /**
+     * 마지막 관측이 staleBeforeMillis 이전인 감시 날짜 (출발일 가까운 순)
+     */
+    public List<RouteDate> staleRouteDates(LocalDate today, long staleBeforeMillis) {
+        return watchesByRouteDate.keySet().stream()
+            .filter(key -> !key.date().isBefore(today))
+            .filter(key -> lastObservedMillis.getOrDefault(key, 0L) < staleBeforeMillis)
+            .sorted(Comparator.comparing(RouteDate::date)
+                .thenComparing(RouteDate::origin)
+                .thenComparing(RouteDate::destination))
+            .toList();
+    }
+    
+    /**
+     * 지난 출발일 항목과 기간이 끝난 알림 제거
+     */
+    public void removePastDates(LocalDate today) {
+        watchesByRouteDate.keySet().removeIf(key -> key.date().isBefore(today));
+        lastObservedMillis.keySet().removeIf(key -> key.date().isBefore(today));
+        watchesById.values().removeIf(watch -> watch.to().isBefore(today));
+        lastNotified.keySet().removeIf(id -> !watchesById.containsKey(id));
+    }
+    
+    public int watchCount() {
+        return watchesById.size();
+    }
+    
+    public int routeDateCount() {
+        return watchesByRouteDate.size();
+    }
+    
+    public record RouteDate(String origin, String destination, LocalDate date) {
+    }
+    
+    public record Watch(long id, String origin, String destination, LocalDate from, LocalDate to,
+                        long maxPriceMinor, String currency, String subscriber) {
+        
+        List<LocalDate> dates(LocalDate today) {
+            LocalDate start = from.isBefore(today) ? today : from;
+            if (start.isAfter(to)) {
+                return List.of();
+            }
+            return start.datesUntil(to.plusDays(1)).toList();
+        }
+    }
+}
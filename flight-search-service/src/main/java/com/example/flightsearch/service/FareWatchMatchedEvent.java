@@ -0,0 +1,12 @@
+package com.example.flightsearch.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 운임 알림 조건 충족 이벤트 (기준가 이하 + 이전 알림보다 낮은 운임)
+ */
+public record FareWatchMatchedEvent(long watchId, String subscriber, String originLocationCode,
+                                    String destinationLocationCode, LocalDate departureDate, String flight,
+                                    double price, double maxPrice, String currency, LocalDateTime observedAt) {
+}
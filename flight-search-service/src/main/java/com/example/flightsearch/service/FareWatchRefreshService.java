@@ -0,0 +1,115 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.FareWatchConfig;
+import com.example.flightsearch.dto.FlightSearchRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 감시 중이지만 최근 아무도 검색하지 않은 노선 + 출발일 주기 조회 (낮은 우선순위)
+ * - 일반 검색/캘린더/사전 계산 결과가 들어온 날짜는 건너뜀 (FareWatchIndex 관측 시각 기준)
+ * - 1회 실행 / 하루 호출 수 상한 안에서 출발일 가까운 순으로 한 번에 1건씩 조회
+ * - 조회 결과는 FlightSearchCompletedEvent 로 알림 매칭/운임 이력에 반영되며 flight_searches 에는 저장하지 않음
+ * - 업스트림 응답을 순서대로 기다리므로 스케줄러 스레드를 오래 점유함 (spring.task.scheduling.pool.size 로 다른 작업과 분리)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FareWatchRefreshService {
+    
+    private static final String PROVIDER = "AMADEUS";
+    
+    private final FareWatchConfig fareWatchConfig;
+    private final FareWatchService fareWatchService;
+    private final FareWatchIndex fareWatchIndex;
+    private final AmadeusService amadeusService;
+    private final FlightOfferIndex flightOfferIndex;
+    private final LowestFareCalendar lowestFareCalendar;
+    
+    // 하루 호출 수 (날짜가 바뀌면 초기화)
+    // 풀의 어느 스레드에서든 실행될 수 있지만 같은 작업은 동시에 실행되지 않으므로 refreshStaleWatches 안에서만 변경
+    private LocalDate quotaDate = LocalDate.now();
+    private int callsToday;
+    
+    @Scheduled(cron = "${fare-watch.refresh.cron:0 15 * * * *}")
+    public void refreshStaleWatches() {
+        try {
+            fareWatchService.expireWatches();
+        } catch (Exception e) {
+            log.error("운임 알림 만료 처리 실패: {}", e.getMessage(), e);
+        }
+        
+        FareWatchConfig.Refresh refresh = fareWatchConfig.getRefresh();
+        if (!refresh.isEnabled()) {
+            return;
+        }
+        
+        LocalDate today = LocalDate.now();
+        if (!today.equals(quotaDate)) {
+            quotaDate = today;
+            callsToday = 0;
+        }
+        
+        int budget = Math.min(refresh.getMaxCallsPerRun(), refresh.getMaxCallsPerDay() - callsToday);
+        if (budget <= 0) {
+            log.debug("운임 알림 주기 조회 건너뜀: 일일 호출 한도 도달 ({}건)", callsToday);
+            return;
+        }
+        
+        List<FareWatchIndex.RouteDate> targets = fareWatchIndex.staleRouteDates(today,
+                System.currentTimeMillis() - refresh.getStaleAfter().toMillis())
+            .stream()
+            .limit(budget)
+            .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+        
+        AtomicInteger failed = new AtomicInteger();
+        try {
+            Flux.fromIterable(targets)
+                .map(this::toRequest)
+                .concatMap(request -> amadeusService.searchFlights(request)
+                    .doOnNext(response -> {
+                        flightOfferIndex.index(response);
+                        lowestFareCalendar.record(request, response);
+                    })
+                    .onErrorResume(error -> {
+                        failed.incrementAndGet();
+                        log.debug("운임 알림 주기 조회 실패: {}-{} {} ({})", request.getOriginLocationCode(),
+                            request.getDestinationLocationCode(), request.getDepartureDate(), error.getMessage());
+                        return Mono.empty();
+                    }))
+                .then()
+                .block();
+        } catch (Exception e) {
+            log.error("운임 알림 주기 조회 실패: {}", e.getMessage(), e);
+        } finally {
+            // 실패한 호출도 업스트림 할당량은 소모하므로 포함
+            callsToday += targets.size();
+        }
+        
+        log.info("운임 알림 주기 조회 완료: {}건 ({}건 실패), 오늘 {}/{}건", targets.size(), failed.get(),
+            callsToday, refresh.getMaxCallsPerDay());
+    }
+    
+    private FlightSearchRequest toRequest(FareWatchIndex.RouteDate target) {
+        return FlightSearchRequest.builder()
+            .originLocationCode(target.origin())
+            .destinationLocationCode(target.destination())
+            .departureDate(target.date())
+            .adults(1)
+            .children(0)
+            .infants(0)
+            .apiProvider(PROVIDER)
+            .build();
+    }
+}
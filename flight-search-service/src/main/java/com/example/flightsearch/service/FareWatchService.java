@@ -0,0 +1,145 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.FareWatchConfig;
+import com.example.flightsearch.dto.FareWatchRequest;
+import com.example.flightsearch.dto.FareWatchResponse;
+import com.example.flightsearch.dto.FlightSearchRequest;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.model.FareWatch;
+import com.example.flightsearch.repository.FareWatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 운임 알림 (fare watch)
+ * - 등록/해지는 DB 에 저장하고 메모리 인덱스(노선 + 출발일)에 반영
+ * - 외부 API 검색 결과가 나올 때마다 해당 노선 + 출발일의 알림만 확인하여 조건 충족 시 FareWatchMatchedEvent 발행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FareWatchService {
+    
+    private final FareWatchConfig fareWatchConfig;
+    private final FareWatchRepository fareWatchRepository;
+    private final FareWatchIndex fareWatchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * 기동 시 활성 알림을 인덱스로 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveWatches() {
+        LocalDate today = LocalDate.now();
+        try {
+            List<FareWatch> watches = fareWatchRepository.findByCancelledAtIsNullAndToDateGreaterThanEqual(today);
+            watches.forEach(watch -> fareWatchIndex.add(watch, today));
+            log.info("운임 알림 {}개 적재 (감시 날짜 {}개)", fareWatchIndex.watchCount(), fareWatchIndex.routeDateCount());
+        } catch (Exception e) {
+            log.error("운임 알림 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+    
+    public FareWatchResponse register(FareWatchRequest request) {
+        long rangeDays = ChronoUnit.DAYS.between(request.getFromDate(), request.getToDate()) + 1;
+        if (rangeDays > fareWatchConfig.getMaxRangeDays()) {
+            throw new IllegalArgumentException("출발일 범위는 최대 " + fareWatchConfig.getMaxRangeDays() + "일입니다");
+        }
+        
+        FareWatch saved = fareWatchRepository.save(FareWatch.builder()
+            .originLocationCode(request.getOriginLocationCode())
+            .destinationLocationCode(request.getDestinationLocationCode())
+            .fromDate(request.getFromDate())
+            .toDate(request.getToDate())
+            .maxPrice(request.getMaxPrice())
+            .currency(request.getCurrency())
+            .subscriber(request.getSubscriber())
+            .build());
+        fareWatchIndex.add(saved, LocalDate.now());
+        
+        log.info("운임 알림 등록: id={} {} -> {} {} ~ {} ({} {} 이하)", saved.getId(),
+            saved.getOriginLocationCode(), saved.getDestinationLocationCode(), saved.getFromDate(),
+            saved.getToDate(), saved.getMaxPrice(), saved.getCurrency());
+        return FareWatchResponse.from(saved);
+    }
+    
+    public Optional<FareWatchResponse> getWatch(Long id) {
+        return fareWatchRepository.findById(id).map(FareWatchResponse::from);
+    }
+    
+    public Optional<FareWatchResponse> cancel(Long id) {
+        return fareWatchRepository.findById(id).map(watch -> {
+            if (watch.isActive()) {
+                watch.setCancelledAt(LocalDateTime.now());
+                watch = fareWatchRepository.save(watch);
+                fareWatchIndex.remove(watch.getId());
+                log.info("운임 알림 해지: id={}", watch.getId());
+            }
+            return FareWatchResponse.from(watch);
+        });
+    }
+    
+    /**
+     * 검색 결과와 알림 비교 (요청 스레드에서 실행, 감시하지 않는 날짜는 해시 조회 1회로 종료)
+     * 왕복 요금은 편도 기준가와 비교할 수 없으므로 제외
+     */
+    @EventListener
+    public void onSearchCompleted(FlightSearchCompletedEvent event) {
+        FlightSearchRequest request = event.request();
+        if (request.isRoundTrip()) {
+            return;
+        }
+        
+        List<FareWatchIndex.Watch> watches = fareWatchIndex.observe(request.getOriginLocationCode(),
+            request.getDestinationLocationCode(), request.getDepartureDate(), System.currentTimeMillis());
+        if (watches.isEmpty()) {
+            return;
+        }
+        
+        Optional<FlightSearchResponse.FlightOffer> cheapest =
+            LowestFareCalendar.cheapest(event.response().getFlightOffers());
+        if (cheapest.isEmpty()) {
+            return;
+        }
+        
+        FlightSearchResponse.FlightOffer offer = cheapest.get();
+        String currency = offer.getPrice().getCurrency();
+        long priceMinor = MinorUnits.total(offer.getPrice());
+        LocalDateTime observedAt = event.response().getSearchTimestamp() != null
+            ? event.response().getSearchTimestamp() : LocalDateTime.now();
+        
+        for (FareWatchIndex.Watch watch : watches) {
+            if (!watch.currency().equals(currency) || priceMinor > watch.maxPriceMinor()
+                    || !fareWatchIndex.claim(watch.id(), priceMinor)) {
+                continue;
+            }
+            eventPublisher.publishEvent(new FareWatchMatchedEvent(watch.id(), watch.subscriber(),
+                watch.origin(), watch.destination(), request.getDepartureDate(),
+                offer.getAirline() + offer.getFlightNumber(),
+                MinorUnits.fromMinor(priceMinor, currency), MinorUnits.fromMinor(watch.maxPriceMinor(), currency),
+                currency, observedAt));
+        }
+    }
+    
+    /**
+     * 기간이 끝난 알림 해지 + 지난 출발일 인덱스 정리
+     */
+    public void expireWatches() {
+        LocalDate today = LocalDate.now();
+        int expired = fareWatchRepository.expire(today, LocalDateTime.now());
+        fareWatchIndex.removePastDates(today);
+        if (expired > 0) {
+            log.info("기간 만료 운임 알림 {}개 해지", expired);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.CalendarSearchConfig;
+import com.example.flightsearch.dto.FlightCalendarResponse;
+import com.example.flightsearch.dto.FlightSearchRequest;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.model.FlightSearch;
+import com.example.flightsearch.repository.FlightSearchRepository;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 날짜 유연 검색 (기준일 ±N일 최저가 캘린더)
+ * - 날짜별 외부 API 호출을 동시 호출 수 제한 하에 병렬 실행 (토큰은 AmadeusService 캐시 공유)
+ * - 편도 검색은 최저가 캘린더(메모리)에 최신 값이 있는 날짜는 외부 API 를 호출하지 않음
+ * - 완료되는 날짜부터 바로 내보내고, 검색 기록은 캘린더 요청당 1건만 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlightCalendarService {
+    
+    private final AmadeusService amadeusService;
+    private final FlightOfferIndex flightOfferIndex;
+    private final LowestFareCalendar lowestFareCalendar;
+    private final FlightSearchRepository flightSearchRepository;
+    private final CalendarSearchConfig calendarSearchConfig;
+    private final ObservationRegistry observationRegistry;
+    
+    private static final String LIVE = "LIVE";
+    
+    /**
+     * 날짜별 최저가를 완료 순서대로 스트리밍
+     */
+    public Flux<FlightCalendarResponse.Day> streamCalendar(FlightSearchRequest request, Integer days) {
+        List<LocalDate> dates = calendarDates(request.getDepartureDate(), days);
+        log.info("캘린더 검색 시작: {} -> {}, {} ~ {} ({}일)", request.getOriginLocationCode(),
+                request.getDestinationLocationCode(), dates.get(0), dates.get(dates.size() - 1), dates.size());
+        
+        return Flux.defer(() -> {
+                List<FlightCalendarResponse.Day> completed = Collections.synchronizedList(new ArrayList<>());
+                return Flux.fromIterable(dates)
+                    .flatMap(date -> searchDay(request, date), Math.max(1, calendarSearchConfig.getConcurrency()))
+                    .doOnNext(completed::add)
+                    .doOnComplete(() -> saveCalendarSearch(request, dates, completed));
+            })
+            .name("flight.calendar")
+            .tag("provider", ProviderTags.of(request.getApiProvider()))
+            .tap(Micrometer.observation(observationRegistry));
+    }
+    
+    /**
+     * 날짜별 최저가 캘린더 (전체 날짜 완료 후 날짜순으로 반환)
+     */
+    public Mono<FlightCalendarResponse> searchCalendar(FlightSearchRequest request, Integer days) {
+        List<LocalDate> dates = calendarDates(request.getDepartureDate(), days);
+        
+        return streamCalendar(request, days)
+            .collectSortedList(Comparator.comparing(FlightCalendarResponse.Day::getDate))
+            .map(calendarDays -> FlightCalendarResponse.builder()
+                .originLocationCode(request.getOriginLocationCode())
+                .destinationLocationCode(request.getDestinationLocationCode())
+                .from(dates.get(0))
+                .to(dates.get(dates.size() - 1))
+                .apiProvider(request.getApiProvider())
+                .days(calendarDays)
+                .searchTimestamp(LocalDateTime.now())
+                .build());
+    }
+    
+    private Mono<FlightCalendarResponse.Day> searchDay(FlightSearchRequest request, LocalDate date) {
+        if (!request.isRoundTrip()) {
+            var precomputed = lowestFareCalendar.find(request.getOriginLocationCode(),
+                request.getDestinationLocationCode(), date);
+            if (precomputed.isPresent()) {
+                return Mono.just(precomputed.get());
+            }
+        }
+        
+        FlightSearchRequest dayRequest = request.toBuilder()
+            .departureDate(date)
+            // 왕복이면 체류 기간을 유지한 채로 복귀일도 함께 이동
+            .returnDate(request.isRoundTrip()
+                ? request.getReturnDate().plusDays(date.toEpochDay() - request.getDepartureDate().toEpochDay())
+                : null)
+            .build();
+        
+        return amadeusService.searchFlights(dayRequest)
+            .doOnNext(response -> {
+                flightOfferIndex.index(response);
+                lowestFareCalendar.record(dayRequest, response);
+            })
+            .map(response -> toDay(date, response))
+            .onErrorResume(error -> {
+                log.warn("캘린더 검색 날짜 조회 실패: {} ({})", date, error.getMessage());
+                return Mono.just(FlightCalendarResponse.Day.builder()
+                    .date(date)
+                    .status("ERROR")
+                    .source(LIVE)
+                    .build());
+            });
+    }
+    
+    private FlightCalendarResponse.Day toDay(LocalDate date, FlightSearchResponse response) {
+        if (!"SUCCESS".equals(response.getStatus())) {
+            return FlightCalendarResponse.Day.builder()
+                .date(date)
+                .status("ERROR")
+                .source(LIVE)
+                .build();
+        }
+        
+        List<FlightSearchResponse.FlightOffer> offers = response.getFlightOffers();
+        return LowestFareCalendar.cheapest(offers)
+            .map(cheapest -> FlightCalendarResponse.Day.builder()
+                .date(date)
+                .status("SUCCESS")
+                .lowestPrice(cheapest.getPrice().getTotal())
+                .currency(cheapest.getPrice().getCurrency())
+                .flightNumber(cheapest.getAirline() + cheapest.getFlightNumber())
+                .offerCount(offers.size())
+                .source(LIVE)
+                .build())
+            .orElseGet(() -> FlightCalendarResponse.Day.builder()
+                .date(date)
+                .status("NO_FLIGHTS")
+                .offerCount(offers.size())
+                .source(LIVE)
+                .build());
+    }
+    
+    /**
+     * 기준일 ±days 중 오늘 이후 날짜 (days 는 최대값으로 제한)
+     */
+    private List<LocalDate> calendarDates(LocalDate center, Integer days) {
+        int radius = days == null ? calendarSearchConfig.getDefaultDays()
+            : Math.max(0, Math.min(days, calendarSearchConfig.getMaxDays()));
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        
+        List<LocalDate> dates = new ArrayList<>(radius * 2 + 1);
+        for (int offset = -radius; offset <= radius; offset++) {
+            LocalDate date = center.plusDays(offset);
+            if (!date.isBefore(tomorrow)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+    
+    /**
+     * 캘린더 요청당 검색 기록 1건 저장 (날짜별로 저장하지 않음)
+     */
+    private void saveCalendarSearch(FlightSearchRequest request, List<LocalDate> dates,
+                                    List<FlightCalendarResponse.Day> days) {
+        try {
+            long succeeded = days.stream().filter(day -> "SUCCESS".equals(day.getStatus())).count();
+            FlightSearch searchEntity = FlightSearch.builder()
+                .originLocationCode(request.getOriginLocationCode())
+                .destinationLocationCode(request.getDestinationLocationCode())
+                .departureDate(request.getDepartureDate())
+                .returnDate(request.getReturnDate())
+                .adults(request.getAdults())
+                .children(request.getChildren())
+                .infants(request.getInfants())
+                .apiProvider(request.getApiProvider())
+                .searchTimestamp(LocalDateTime.now())
+                .searchResponse(String.format("CALENDAR %s ~ %s: %d/%d days priced",
+                    dates.get(0), dates.get(dates.size() - 1), succeeded, days.size()))
+                .build();
+            
+            FlightSearch savedSearch = flightSearchRepository.save(searchEntity);
+            log.info("캘린더 검색 기록 저장 완료: ID = {}", savedSearch.getId());
+            
+        } catch (Exception e) {
+            log.error("캘린더 검색 기록 저장 실패: {}", e.getMessage());
+        }
+    }
+}
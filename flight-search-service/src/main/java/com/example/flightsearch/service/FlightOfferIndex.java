@@ -0,0 +1,103 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.dto.FlightSearchResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 검색 결과로 만든 항공편 인덱스
+ * (항공사 코드 + 편명 + 출발일) -> FlightOffer 로 단건 조회를 메모리에서 처리
+ */
+@Component
+@Slf4j
+public class FlightOfferIndex {
+    
+    private final Map<String, IndexedOffer> offers = new ConcurrentHashMap<>();
+    
+    @Value("${flight-offer-index.ttl:10m}")
+    private Duration ttl;
+    
+    @Value("${flight-offer-index.max-size:100000}")
+    private int maxSize;
+    
+    // 인덱스 미스 시 노선 재조회에서 요청할 최대 항공편 수 (이보다 적게 오면 노선 전체를 본 것으로 간주)
+    @Value("${flight-offer-index.lookup-max-offers:250}")
+    private int lookupMaxOffers;
+    
+    public int lookupMaxOffers() {
+        return lookupMaxOffers;
+    }
+    
+    /**
+     * 검색 결과의 모든 항공편을 인덱스에 반영
+     */
+    public void index(FlightSearchResponse response) {
+        if (response == null || response.getFlightOffers() == null) {
+            return;
+        }
+        
+        long now = System.currentTimeMillis();
+        for (FlightSearchResponse.FlightOffer offer : response.getFlightOffers()) {
+            if (offer.getAirline() == null || offer.getFlightNumber() == null || offer.getDepartureDate() == null) {
+                continue;
+            }
+            offers.put(key(offer.getAirline() + offer.getFlightNumber(), offer.getDepartureDate()),
+                new IndexedOffer(offer, now));
+        }
+        
+        if (offers.size() > maxSize) {
+            evictExpired();
+        }
+    }
+    
+    /**
+     * 편명(예: KE123) + 출발일로 조회, TTL 이 지난 항목은 미스로 처리
+     */
+    public Optional<FlightSearchResponse.FlightOffer> find(String flightDesignator, LocalDate departureDate) {
+        String key = key(flightDesignator, departureDate.toString());
+        IndexedOffer indexed = offers.get(key);
+        if (indexed == null) {
+            return Optional.empty();
+        }
+        if (isExpired(indexed, System.currentTimeMillis())) {
+            offers.remove(key, indexed);
+            return Optional.empty();
+        }
+        return Optional.of(indexed.offer());
+    }
+    
+    public int size() {
+        return offers.size();
+    }
+    
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        offers.values().removeIf(indexed -> isExpired(indexed, now));
+        
+        // 만료 정리 후에도 최대 크기를 넘으면 전체 비움 (다음 검색부터 다시 채워짐)
+        if (offers.size() > maxSize) {
+            log.warn("항공편 인덱스 최대 크기 초과로 초기화: {}건", offers.size());
+            offers.clear();
+        }
+    }
+    
+    private boolean isExpired(IndexedOffer indexed, long now) {
+        return now - indexed.indexedAt() > ttl.toMillis();
+    }
+    
+    private String key(String flightDesignator, String departureDate) {
+        return flightDesignator.toUpperCase() + "|" + departureDate;
+    }
+    
+    private record IndexedOffer(FlightSearchResponse.FlightOffer offer, long indexedAt) {
+    }
+}
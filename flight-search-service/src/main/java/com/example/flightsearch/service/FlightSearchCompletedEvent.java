@@ -0,0 +1,11 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.dto.FlightSearchRequest;
+import com.example.flightsearch.dto.FlightSearchResponse;
+
+/**
+ * 외부 API 항공편 검색 성공 이벤트 (일반 검색 / 캘린더 / 사전 계산 등 모든 경로)
+ * 리스너는 요청 스레드에서 동기 실행되므로 대기열 추가 수준의 가벼운 작업만 수행해야 함
+ */
+public record FlightSearchCompletedEvent(FlightSearchRequest request, FlightSearchResponse response) {
+}
@@ -1,15 +1,35 @@
 package com.example.flightsearch.service;
 
+import com.example.flightsearch.config.SearchSessionConfig;
+import com.example.flightsearch.dto.FlightOfferLookupResponse;
+import com.example.flightsearch.dto.FlightOfferQuery;
+import com.example.flightsearch.dto.FlightSearchHistoryResponse;
 import com.example.flightsearch.dto.FlightSearchRequest;
 import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.dto.FlightSearchSummaryDto;
 import com.example.flightsearch.model.FlightSearch;
+import com.example.flightsearch.repository.FlightSearchHistoryView;
 import com.example.flightsearch.repository.FlightSearchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 통합 항공편 서비스
@@ -21,7 +41,22 @@ import java.time.LocalDateTime;
 public class FlightService {
     
     private final AmadeusService amadeusService;
+    private final SearchSessionStore searchSessionStore;
+    private final SearchSessionConfig searchSessionConfig;
     private final FlightSearchRepository flightSearchRepository;
+    private final FlightOfferIndex flightOfferIndex;
+    private final LowestFareCalendar lowestFareCalendar;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final ObservationRegistry observationRegistry;
+    
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    private static final int MAX_HISTORY_PAGE_SIZE = 200;
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    // utf8mb4 최대 4바이트 기준으로 TEXT(65,535 bytes) 를 넘지 않는 길이
+    private static final int MAX_SEARCH_RESPONSE_LENGTH = 16_000;
+    private static final LocalDateTime HISTORY_MIN_TIMESTAMP = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime HISTORY_MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 0, 0);
     
     /**
      * 항공편 검색 (API 호출 + DB 저장)
@@ -30,8 +65,18 @@ public class FlightService {
         log.info("항공편 검색 시작: {} -> {}", 
                 request.getOriginLocationCode(), request.getDestinationLocationCode());
         
-        return amadeusService.searchFlights(request)
+        return recordSearch(request, amadeusService.searchFlights(request));
+    }
+    
+    /**
+     * 외부 API 검색 결과 후처리 (인덱스/캘린더 갱신, DB 저장, 관측)
+     */
+    private Mono<FlightSearchResponse> recordSearch(FlightSearchRequest request, Mono<FlightSearchResponse> search) {
+        return search
             .doOnSuccess(response -> {
+                // 단건 조회용 인덱스 / 노선 최저가 캘린더 갱신
+                flightOfferIndex.index(response);
+                lowestFareCalendar.record(request, response);
                 // 검색 결과를 데이터베이스에 저장
                 saveSearchToDatabase(request, response);
             })
@@ -39,9 +84,154 @@ public class FlightService {
                 log.error("항공편 검색 실패: {}", error.getMessage());
                 // 에러 정보도 데이터베이스에 저장
                 saveErrorToDatabase(request, error.getMessage());
+            })
+            .name("flight.search")
+            .tag("provider", ProviderTags.of(request.getApiProvider()))
+            .tap(Micrometer.observation(observationRegistry));
+    }
+    
+    /**
+     * 항공편 검색 후 정렬/필터/집계 적용 (인덱스/캘린더/DB 저장에는 전체 결과 사용)
+     */
+    public Mono<FlightSearchResponse> searchFlights(FlightSearchRequest request, FlightOfferQuery query) {
+        if (query == null || query.isEmpty()) {
+            return searchFlights(request);
+        }
+        return searchFlights(request).map(response -> applyQuery(response, query));
+    }
+    
+    private FlightSearchResponse applyQuery(FlightSearchResponse response, FlightOfferQuery query) {
+        if (!"SUCCESS".equals(response.getStatus())) {
+            return response;
+        }
+        
+        OfferTable table = OfferTable.of(response.getFlightOffers());
+        OfferTable.Result result = table.query(query);
+        return response.toBuilder()
+            .flightOffers(table.offers(result))
+            .matchedOfferCount(result.matchedCount())
+            .facets(result.facets())
+            .build();
+    }
+    
+    /**
+     * 검색 세션 시작: 외부 API 에서 최대 search-session.max-offers 건을 한 번 받아 세션에 보관하고 첫 페이지 응답
+     * 실패 응답은 세션을 만들지 않고 그대로 반환
+     */
+    public Mono<FlightSearchResponse> startSearchSession(FlightSearchRequest request, FlightOfferQuery query,
+                                                         Integer size) {
+        log.info("검색 세션 시작: {} -> {}", request.getOriginLocationCode(), request.getDestinationLocationCode());
+        
+        return recordSearch(request, amadeusService.searchFlights(request, searchSessionConfig.getMaxOffers()))
+            .map(response -> {
+                if (!"SUCCESS".equals(response.getStatus())) {
+                    return response;
+                }
+                SearchSession session = searchSessionStore.create(request, response);
+                log.info("검색 세션 생성: {} ({}개 항공편, 약 {} bytes)", session.searchId(),
+                    session.table().size(), session.estimatedBytes());
+                return toSessionPage(session, query, 0, size);
+            });
+    }
+    
+    /**
+     * 검색 세션 페이지 조회 (외부 API 호출 없음, 세션이 없거나 만료되면 empty)
+     */
+    public Optional<FlightSearchResponse> getSearchSessionPage(String searchId, FlightOfferQuery query,
+                                                               int page, Integer size) {
+        return searchSessionStore.get(searchId)
+            .map(session -> toSessionPage(session, query, page, size));
+    }
+    
+    private FlightSearchResponse toSessionPage(SearchSession session, FlightOfferQuery query, int page, Integer size) {
+        int pageSize = size == null ? searchSessionConfig.getDefaultPageSize()
+            : Math.max(1, Math.min(size, searchSessionConfig.getMaxPageSize()));
+        int pageIndex = Math.max(0, page);
+        
+        int offset = (int) Math.min((long) pageIndex * pageSize, Integer.MAX_VALUE);
+        
+        OfferTable.Result result = session.table().query(query);
+        return session.summary().toBuilder()
+            .searchId(session.searchId())
+            .flightOffers(session.table().offers(result, offset, pageSize))
+            .matchedOfferCount(result.matchedCount())
+            .facets(result.facets())
+            .page(pageIndex)
+            .pageSize(pageSize)
+            .build();
+    }
+    
+    /**
+     * 항공편 단건 조회 (편명 + 출발일)
+     * 최근 검색 결과 인덱스에서 먼저 찾고, 미스일 때만 노선 정보로 외부 API 재조회
+     * - 비어 있음: 노선 전체(최대 건수 미만)를 받았는데 없음 -> 항공편 없음
+     * - verified=false: 노선 정보가 없거나 재조회 결과가 최대 건수에 걸려 없다고 단정할 수 없음
+     * - 오류: 외부 API 실패 또는 변환 오류(status ERROR)
+     */
+    public Mono<FlightOfferLookupResponse> lookupFlightOffer(String flightNumber, LocalDate departureDate,
+                                                           String origin, String destination) {
+        var indexed = flightOfferIndex.find(flightNumber, departureDate);
+        if (indexed.isPresent()) {
+            return Mono.just(toLookupResponse(flightNumber, departureDate, "INDEX", indexed.get()));
+        }
+        
+        if (origin == null || destination == null) {
+            return Mono.just(unverifiedLookup(flightNumber, departureDate, "INDEX"));
+        }
+        
+        log.info("항공편 인덱스 미스, 외부 API 재조회: {} ({} -> {}, {})", flightNumber, origin, destination, departureDate);
+        
+        FlightSearchRequest request = FlightSearchRequest.builder()
+            .originLocationCode(origin)
+            .destinationLocationCode(destination)
+            .departureDate(departureDate)
+            .adults(1)
+            .children(0)
+            .infants(0)
+            .apiProvider("AMADEUS")
+            .build();
+        
+        int maxOffers = flightOfferIndex.lookupMaxOffers();
+        return amadeusService.searchFlights(request, maxOffers)
+            .flatMap(response -> {
+                if (!"SUCCESS".equals(response.getStatus())) {
+                    return Mono.error(new IllegalStateException("항공편 재조회 실패: " + response.getMessage()));
+                }
+                flightOfferIndex.index(response);
+                lowestFareCalendar.record(request, response);
+                
+                var found = flightOfferIndex.find(flightNumber, departureDate);
+                if (found.isPresent()) {
+                    return Mono.just(toLookupResponse(flightNumber, departureDate, "UPSTREAM", found.get()));
+                }
+                int received = response.getFlightOffers() != null ? response.getFlightOffers().size() : 0;
+                return received >= maxOffers
+                    ? Mono.just(unverifiedLookup(flightNumber, departureDate, "UPSTREAM"))
+                    : Mono.<FlightOfferLookupResponse>empty();
             });
     }
     
+    private FlightOfferLookupResponse unverifiedLookup(String flightNumber, LocalDate departureDate, String source) {
+        return FlightOfferLookupResponse.builder()
+            .flightNumber(flightNumber)
+            .departureDate(departureDate)
+            .source(source)
+            .verified(false)
+            .build();
+    }
+    
+    private FlightOfferLookupResponse toLookupResponse(String flightNumber, LocalDate departureDate, String source,
+                                                       FlightSearchResponse.FlightOffer offer) {
+        return FlightOfferLookupResponse.builder()
+            .flightNumber(flightNumber)
+            .departureDate(departureDate)
+            .source(source)
+            .availableSeats(offer.getAvailableSeats())
+            .verified(true)
+            .offer(offer)
+            .build();
+    }
+    
     /**
      * 검색 결과를 데이터베이스에 저장
      */
@@ -57,7 +247,7 @@ public class FlightService {
                 .infants(request.getInfants())
                 .apiProvider(request.getApiProvider())
                 .searchTimestamp(LocalDateTime.now())
-                .searchResponse(response.toString()) // 간단한 응답 정보 저장
+                .searchResponse(abbreviate(response.toString())) // 간단한 응답 정보 저장
                 .build();
             
             FlightSearch savedSearch = flightSearchRepository.save(searchEntity);
@@ -95,21 +285,115 @@ public class FlightService {
     }
     
     /**
-     * 저장된 검색 기록 조회
+     * 저장된 검색 기록 조회 (개수만 집계, 엔티티는 로딩하지 않음)
      */
     public Mono<FlightSearchResponse> getSearchHistory(String apiProvider) {
         log.info("검색 기록 조회: API Provider = {}", apiProvider);
         
         return Mono.fromCallable(() -> {
-            var searches = flightSearchRepository.findByApiProviderOrderBySearchTimestampDesc(apiProvider);
+            long count = flightSearchRepository.countByApiProvider(apiProvider);
             
             return FlightSearchResponse.builder()
                 .apiProvider(apiProvider)
                 .status("SUCCESS")
-                .message("검색 기록 조회 완료 - " + searches.size() + "개 기록")
+                .message("검색 기록 조회 완료 - " + count + "개 기록")
                 .searchTimestamp(LocalDateTime.now())
                 .flightOffers(java.util.List.of()) // 검색 기록에는 항공편 정보 없음
                 .build();
         });
     }
+    
+    /**
+     * 검색 기록 페이지 조회 (커서 기반, 경량 프로젝션)
+     */
+    public Mono<FlightSearchHistoryResponse> getSearchHistoryPage(String apiProvider, LocalDate from, LocalDate to,
+                                                                  Long cursor, Integer size) {
+        log.info("검색 기록 페이지 조회: API Provider = {}, 기간 = {} ~ {}, cursor = {}", apiProvider, from, to, cursor);
+        
+        int pageSize = size == null ? DEFAULT_HISTORY_PAGE_SIZE : Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        LocalDateTime fromTimestamp = toStartTimestamp(from);
+        LocalDateTime toTimestamp = toEndTimestamp(to);
+        
+        return Mono.fromCallable(() -> {
+            // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+            List<FlightSearchHistoryView> rows = flightSearchRepository.findHistoryPage(
+                apiProvider, fromTimestamp, toTimestamp,
+                cursor != null ? cursor : Long.MAX_VALUE,
+                PageRequest.of(0, pageSize + 1));
+            
+            boolean hasNext = rows.size() > pageSize;
+            List<FlightSearchSummaryDto> searches = rows.stream()
+                .limit(pageSize)
+                .map(FlightSearchSummaryDto::from)
+                .toList();
+            
+            // 전체 개수는 첫 페이지에서만 계산 (이후 페이지는 keyset 조회만 수행)
+            Long totalCount = cursor == null
+                ? flightSearchRepository.countByApiProviderAndSearchTimestampGreaterThanEqualAndSearchTimestampLessThan(
+                    apiProvider, fromTimestamp, toTimestamp)
+                : null;
+            
+            return FlightSearchHistoryResponse.builder()
+                .apiProvider(apiProvider)
+                .from(from)
+                .to(to)
+                .totalCount(totalCount)
+                .searches(searches)
+                .nextCursor(hasNext ? searches.get(searches.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
+        });
+    }
+    
+    /**
+     * 검색 기록 NDJSON 내보내기 (스트리밍, 한 줄에 한 건)
+     * 스트림이 열려 있는 동안 트랜잭션을 유지해야 하므로 읽기 전용 트랜잭션 안에서 실행
+     */
+    @Transactional(readOnly = true)
+    public long exportSearchHistory(String apiProvider, LocalDate from, LocalDate to, OutputStream out) {
+        log.info("검색 기록 내보내기 시작: API Provider = {}, 기간 = {} ~ {}", apiProvider, from, to);
+        
+        ObjectWriter writer = objectMapper.writerFor(FlightSearchSummaryDto.class);
+        long exported = 0;
+        
+        try (Stream<FlightSearchHistoryView> rows = flightSearchRepository.streamHistory(
+                apiProvider, toStartTimestamp(from), toEndTimestamp(to))) {
+            
+            var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                FlightSearchHistoryView row = iterator.next();
+                out.write(writer.writeValueAsBytes(FlightSearchSummaryDto.from(row)));
+                out.write('\n');
+                exported++;
+                
+                if (exported % EXPORT_FLUSH_INTERVAL == 0) {
+                    out.flush();
+                    // 영속성 컨텍스트에 결과가 누적되지 않도록 주기적으로 비움
+                    entityManager.clear();
+                }
+            }
+            out.flush();
+            
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 기록 내보내기 실패", e);
+        }
+        
+        log.info("검색 기록 내보내기 완료: {}건", exported);
+        return exported;
+    }
+    
+    // search_response 는 TEXT(64KB) 이므로 세션 검색(최대 250건)처럼 큰 응답은 앞부분만 저장
+    private static String abbreviate(String value) {
+        return value.length() <= MAX_SEARCH_RESPONSE_LENGTH ? value
+            : value.substring(0, MAX_SEARCH_RESPONSE_LENGTH) + "...";
+    }
+    
+    private LocalDateTime toStartTimestamp(LocalDate from) {
+        return from != null ? from.atStartOfDay() : HISTORY_MIN_TIMESTAMP;
+    }
+    
+    // 종료일은 포함 (다음 날 0시 미만)
+    private LocalDateTime toEndTimestamp(LocalDate to) {
+        return to != null ? to.plusDays(1).atStartOfDay() : HISTORY_MAX_TIMESTAMP;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.flightsearch.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 대체 알림 구현 (로그로만 기록)
+ * 실제 전달 채널은 FareAlertNotifier 구현을 추가하고 fare-watch.notifier 값을 바꿔서 사용
+ */
+@Component
+@ConditionalOnProperty(prefix = "fare-watch", name = "notifier", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LoggingFareAlertNotifier implements FareAlertNotifier {
+    
+    @Override
+    public void notify(FareWatchMatchedEvent alert) {
+        log.info("운임 알림: watch={} subscriber={} {} -> {} {} {} {} {} (기준 {})", alert.watchId(),
+            alert.subscriber(), alert.originLocationCode(), alert.destinationLocationCode(),
+            alert.departureDate(), alert.flight(), alert.price(), alert.currency(), alert.maxPrice());
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.FareCalendarConfig;
+import com.example.flightsearch.dto.FlightCalendarResponse;
+import com.example.flightsearch.dto.FlightSearchRequest;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노선별 날짜 최저가 캘린더 (메모리)
+ *
+ * 노선마다 오늘 기준 일자 오프셋으로 인덱싱한 long[] (최소 단위 통화 금액) 과
+ * int[] (관측 시각, epoch 분) 만 보관하여 노선당 수백 바이트로 유지
+ * - 쓰기: 편도 실시간 검색이 끝날 때마다 해당 날짜 칸만 교체 (배열 복사 후 교체, copy-on-write)
+ * - 읽기: 락 없이 배열 조회 (캘린더 응답에서 날짜당 마이크로초 단위)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LowestFareCalendar {
+    
+    public static final String SOURCE = "PRECOMPUTED";
+    
+    // 관측된 적 없음
+    private static final long UNKNOWN = -1L;
+    // 관측했지만 가격이 있는 항공편이 없음
+    private static final long NO_FLIGHTS = 0L;
+    
+    private final FareCalendarConfig fareCalendarConfig;
+    
+    private final Map<String, RouteFares> routes = new ConcurrentHashMap<>();
+    
+    /**
+     * 검색 결과 반영 (편도 검색만, 왕복 운임은 편도 캘린더와 섞지 않음)
+     */
+    public void record(FlightSearchRequest request, FlightSearchResponse response) {
+        if (request.isRoundTrip() || response == null || !"SUCCESS".equals(response.getStatus())
+                || response.getFlightOffers() == null) {
+            return;
+        }
+        
+        LocalDate today = LocalDate.now();
+        int offset = (int) (request.getDepartureDate().toEpochDay() - today.toEpochDay());
+        if (offset < 0 || offset >= fareCalendarConfig.getHorizonDays()) {
+            return;
+        }
+        
+        Optional<FlightSearchResponse.FlightOffer> cheapest = cheapest(response.getFlightOffers());
+        String currency = cheapest.map(offer -> offer.getPrice().getCurrency()).orElse(null);
+        int minute = currentMinute();
+        
+        routes.compute(routeKey(request.getOriginLocationCode(), request.getDestinationLocationCode()),
+            (key, current) -> {
+                RouteFares fares = current == null ? null : current.rebase(today.toEpochDay());
+                if (fares == null) {
+                    fares = RouteFares.empty(currency, today.toEpochDay(), fareCalendarConfig.getHorizonDays());
+                } else if (currency != null && !currency.equals(fares.currency())) {
+                    // 통화가 바뀌면 이전 금액과 비교할 수 없으므로 노선 전체를 새로 시작
+                    fares = fares.currency() == null ? fares.withCurrency(currency)
+                        : RouteFares.empty(currency, today.toEpochDay(), fareCalendarConfig.getHorizonDays());
+                }
+                long price = cheapest.map(offer -> MinorUnits.total(offer.getPrice()))
+                    .orElse(NO_FLIGHTS);
+                return fares.with(offset, price, minute);
+            });
+        
+        if (routes.size() > fareCalendarConfig.getMaxRoutes()) {
+            evictLeastRecentlyUpdated();
+        }
+    }
+    
+    /**
+     * 날짜 칸 조회 (관측 기록이 없거나 TTL 이 지났으면 empty)
+     */
+    public Optional<FlightCalendarResponse.Day> find(String origin, String destination, LocalDate date) {
+        RouteFares fares = routes.get(routeKey(origin, destination));
+        if (fares == null) {
+            return Optional.empty();
+        }
+        
+        long index = date.toEpochDay() - fares.baseEpochDay();
+        if (index < 0 || index >= fares.prices().length) {
+            return Optional.empty();
+        }
+        
+        int i = (int) index;
+        long price = fares.prices()[i];
+        if (price == UNKNOWN || isStale(fares.observedMinutes()[i], currentMinute())) {
+            return Optional.empty();
+        }
+        
+        if (price == NO_FLIGHTS) {
+            return Optional.of(FlightCalendarResponse.Day.builder()
+                .date(date)
+                .status("NO_FLIGHTS")
+                .source(SOURCE)
+                .build());
+        }
+        
+        return Optional.of(FlightCalendarResponse.Day.builder()
+            .date(date)
+            .status("SUCCESS")
+            .lowestPrice(MinorUnits.fromMinor(price, fares.currency()))
+            .currency(fares.currency())
+            .source(SOURCE)
+            .build());
+    }
+    
+    /**
+     * 비어 있거나 TTL 이 지난 날짜 (내일부터 보관 기간 끝까지, 가까운 날짜 순)
+     */
+    public List<LocalDate> staleDates(String origin, String destination) {
+        RouteFares fares = routes.get(routeKey(origin, destination));
+        LocalDate today = LocalDate.now();
+        int minute = currentMinute();
+        
+        List<LocalDate> dates = new ArrayList<>();
+        for (int offset = 1; offset < fareCalendarConfig.getHorizonDays(); offset++) {
+            LocalDate date = today.plusDays(offset);
+            long index = fares == null ? -1 : date.toEpochDay() - fares.baseEpochDay();
+            boolean known = index >= 0 && index < fares.prices().length
+                && fares.prices()[(int) index] != UNKNOWN
+                && !isStale(fares.observedMinutes()[(int) index], minute);
+            if (!known) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+    
+    public int routeCount() {
+        return routes.size();
+    }
+    
+    /**
+     * 가격이 있는 항공편 중 최저가 (가격 추출 실패 시 0.0 이 들어오므로 제외)
+     */
+    static Optional<FlightSearchResponse.FlightOffer> cheapest(List<FlightSearchResponse.FlightOffer> offers) {
+        FlightSearchResponse.FlightOffer cheapest = null;
+        long cheapestTotal = Long.MAX_VALUE;
+        for (FlightSearchResponse.FlightOffer offer : offers) {
+            long total = MinorUnits.total(offer.getPrice());
+            if (total <= 0) {
+                continue;
+            }
+            if (total < cheapestTotal) {
+                cheapest = offer;
+                cheapestTotal = total;
+            }
+        }
+        return Optional.ofNullable(cheapest);
+    }
+    
+    private boolean isStale(int observedMinute, int currentMinute) {
+        return currentMinute - observedMinute > fareCalendarConfig.getTtl().toMinutes();
+    }
+    
+    private void evictLeastRecentlyUpdated() {
+        routes.entrySet().stream()
+            .min(Comparator.comparingInt(entry -> entry.getValue().lastObservedMinute()))
+            .ifPresent(entry -> {
+                routes.remove(entry.getKey(), entry.getValue());
+                log.debug("최저가 캘린더 노선 제거: {}", entry.getKey());
+            });
+    }
+    
+    private static int currentMinute() {
+        return (int) TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+    
+    private static String routeKey(String origin, String destination) {
+        return origin + "-" + destination;
+    }
+    
+    /**
+     * 노선 하나의 캘린더 (불변, 변경 시 새 배열로 교체)
+     * prices[i] / observedMinutes[i] 는 baseEpochDay + i 일의 값
+     */
+    private record RouteFares(String currency, long baseEpochDay, long[] prices, int[] observedMinutes,
+                              int lastObservedMinute) {
+        
+        static RouteFares empty(String currency, long baseEpochDay, int days) {
+            long[] prices = new long[days];
+            Arrays.fill(prices, UNKNOWN);
+            return new RouteFares(currency, baseEpochDay, prices, new int[days], 0);
+        }
+        
+        /**
+         * 기준일을 오늘로 이동 (지난 날짜 칸은 버리고 뒤쪽은 빈 칸으로)
+         */
+        RouteFares rebase(long todayEpochDay) {
+            long shift = todayEpochDay - baseEpochDay;
+            if (shift <= 0) {
+                return this;
+            }
+            int days = prices.length;
+            long[] shiftedPrices = new long[days];
+            int[] shiftedMinutes = new int[days];
+            Arrays.fill(shiftedPrices, UNKNOWN);
+            if (shift < days) {
+                System.arraycopy(prices, (int) shift, shiftedPrices, 0, days - (int) shift);
+                System.arraycopy(observedMinutes, (int) shift, shiftedMinutes, 0, days - (int) shift);
+            }
+            return new RouteFares(currency, todayEpochDay, shiftedPrices, shiftedMinutes, lastObservedMinute);
+        }
+        
+        RouteFares withCurrency(String newCurrency) {
+            return new RouteFares(newCurrency, baseEpochDay, prices, observedMinutes, lastObservedMinute);
+        }
+        
+        RouteFares with(int offset, long price, int minute) {
+            long[] nextPrices = prices.clone();
+            int[] nextMinutes = observedMinutes.clone();
+            nextPrices[offset] = price;
+            nextMinutes[offset] = minute;
+            return new RouteFares(currency, baseEpochDay, nextPrices, nextMinutes, minute);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.dto.FlightSearchResponse;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * 통화 금액 <-> 최소 단위 정수 변환 (KRW 는 원, USD 는 센트)
+ * 요금을 long 으로 저장/비교하기 위한 공용 변환
+ */
+final class MinorUnits {
+
+    private MinorUnits() {
+    }
+
+    static long toMinor(double amount, String currency) {
+        return BigDecimal.valueOf(amount)
+            .movePointRight(fractionDigits(currency))
+            .setScale(0, RoundingMode.HALF_UP)
+            .longValue();
+    }
+
+    // 응답 금액 문자열 그대로 변환 (예: "1234.56" -> 123456, 부동소수점 오차 없음)
+    static long toMinor(String amount, String currency) {
+        return new BigDecimal(amount.trim())
+            .movePointRight(fractionDigits(currency))
+            .setScale(0, RoundingMode.HALF_UP)
+            .longValue();
+    }
+
+    /**
+     * 총액 최소 단위 (변환 시 계산한 값 우선, 없으면 total 로 계산, 가격이 없거나 0 이하면 -1)
+     */
+    static long total(FlightSearchResponse.Price price) {
+        if (price == null) {
+            return -1;
+        }
+        if (price.getTotalMinor() > 0) {
+            return price.getTotalMinor();
+        }
+        if (price.getTotal() == null || price.getTotal() <= 0) {
+            return -1;
+        }
+        return toMinor(price.getTotal(), price.getCurrency());
+    }
+
+    static double fromMinor(long minor, String currency) {
+        return BigDecimal.valueOf(minor, fractionDigits(currency)).doubleValue();
+    }
+
+    static int fractionDigits(String currency) {
+        try {
+            int digits = currency != null ? Currency.getInstance(currency).getDefaultFractionDigits() : 2;
+            return digits < 0 ? 2 : digits;
+        } catch (IllegalArgumentException e) {
+            return 2;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.dto.FlightOfferQuery;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.dto.OfferFacets;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색 결과 항공편의 컬럼 단위 표현 (정렬/필터/집계용, 생성 후 변경 없음)
+ * - 가격(최소 단위)/소요시간(분)/출발 시각(하루 중 분)은 primitive 배열, 항공사/좌석 등급은 사전 id 배열
+ * - 정렬은 (키, 행 번호) 를 long 하나로 묶어 primitive 정렬 (비교 시 객체 접근 없음)
+ * - 필터와 집계는 한 번의 순회로 처리
+ */
+public final class OfferTable {
+
+    private static final long UNKNOWN_PRICE = Long.MAX_VALUE;
+    private static final int UNKNOWN_MINUTES = -1;
+    private static final int HISTOGRAM_BUCKETS = 10;
+
+    // 정렬 키에 행 번호를 넣을 비트 수 (최대 65,536 행)
+    private static final int ROW_BITS = 16;
+    private static final long ROW_MASK = (1L << ROW_BITS) - 1;
+    private static final long MAX_SORT_KEY = (1L << (Long.SIZE - 1 - ROW_BITS)) - 1;
+    static final int MAX_ROWS = 1 << ROW_BITS;
+
+    // 필터 종류별 비트 (집계 시 자기 자신의 필터만 실패한 행도 포함)
+    private static final int AIRLINE = 1;
+    private static final int CABIN = 1 << 1;
+    private static final int DEPARTURE = 1 << 2;
+    private static final int PRICE = 1 << 3;
+
+    private final FlightSearchResponse.FlightOffer[] offers;
+    private final String currency;
+    private final long[] prices;
+    private final int[] durations;
+    private final int[] departureMinutes;
+    private final int[] airlineIds;
+    private final String[] airlines;
+    private final int[] cabinIds;
+    private final String[] cabins;
+    private final long minPrice;
+    private final long maxPrice;
+
+    private OfferTable(List<FlightSearchResponse.FlightOffer> source) {
+        int size = Math.min(source.size(), MAX_ROWS);
+        this.offers = source.subList(0, size).toArray(new FlightSearchResponse.FlightOffer[0]);
+        this.currency = firstCurrency(offers);
+        this.prices = new long[size];
+        this.durations = new int[size];
+        this.departureMinutes = new int[size];
+        this.airlineIds = new int[size];
+        this.cabinIds = new int[size];
+
+        Map<String, Integer> airlineDictionary = new HashMap<>();
+        Map<String, Integer> cabinDictionary = new HashMap<>();
+        long min = UNKNOWN_PRICE;
+        long max = Long.MIN_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            FlightSearchResponse.FlightOffer offer = offers[i];
+            prices[i] = priceOf(offer, currency);
+            // 변환 시 계산된 값 우선, 없으면 (직접 만든 항공편 등) 문자열에서 파싱
+            durations[i] = offer.getDurationMinutes() >= 0 ? offer.getDurationMinutes()
+                : parseDuration(offer.getDuration());
+            departureMinutes[i] = offer.departureMinuteOfDay() >= 0 ? offer.departureMinuteOfDay()
+                : parseMinuteOfDay(offer.getDepartureTime());
+            airlineIds[i] = airlineDictionary.computeIfAbsent(String.valueOf(offer.getAirline()),
+                key -> airlineDictionary.size());
+            cabinIds[i] = cabinDictionary.computeIfAbsent(String.valueOf(offer.getCabinClass()),
+                key -> cabinDictionary.size());
+            if (prices[i] != UNKNOWN_PRICE) {
+                min = Math.min(min, prices[i]);
+                max = Math.max(max, prices[i]);
+            }
+        }
+
+        this.airlines = dictionary(airlineDictionary);
+        this.cabins = dictionary(cabinDictionary);
+        this.minPrice = min;
+        this.maxPrice = max;
+    }
+
+    public static OfferTable of(List<FlightSearchResponse.FlightOffer> offers) {
+        return new OfferTable(offers != null ? offers : List.of());
+    }
+
+    public int size() {
+        return offers.length;
+    }
+
+    public String currency() {
+        return currency;
+    }
+
+    /**
+     * 필터 -> 정렬 -> (요청 시) 집계
+     * 정렬 기준이 없으면 원래 순서 유지, 같은 키끼리도 원래 순서 유지
+     */
+    public Result query(FlightOfferQuery query) {
+        boolean[] allowedAirlines = allowed(airlines, query.getAirlines());
+        boolean[] allowedCabins = allowed(cabins, query.getCabinClasses());
+        int departureFrom = query.getDepartureFrom() != null ? minuteOfDay(query.getDepartureFrom()) : -1;
+        int departureTo = query.getDepartureTo() != null ? minuteOfDay(query.getDepartureTo()) : -1;
+        boolean departureFilter = departureFrom >= 0 || departureTo >= 0;
+        long priceLimit = query.getMaxPrice() != null ? MinorUnits.toMinor(query.getMaxPrice(), currency) : UNKNOWN_PRICE;
+        boolean priceFilter = query.getMaxPrice() != null;
+        boolean facets = query.isFacets();
+
+        int[] airlineCounts = facets ? new int[airlines.length] : null;
+        int[] cabinCounts = facets ? new int[cabins.length] : null;
+        int[] hourCounts = facets ? new int[24] : null;
+        int[] priceCounts = facets ? new int[HISTOGRAM_BUCKETS] : null;
+
+        int[] matched = new int[offers.length];
+        int matchedCount = 0;
+
+        for (int i = 0; i < offers.length; i++) {
+            int failed = 0;
+            if (allowedAirlines != null && !allowedAirlines[airlineIds[i]]) {
+                failed |= AIRLINE;
+            }
+            if (allowedCabins != null && !allowedCabins[cabinIds[i]]) {
+                failed |= CABIN;
+            }
+            if (departureFilter && !inWindow(departureMinutes[i], departureFrom, departureTo)) {
+                failed |= DEPARTURE;
+            }
+            if (priceFilter && prices[i] > priceLimit) {
+                failed |= PRICE;
+            }
+
+            if (failed == 0) {
+                matched[matchedCount++] = i;
+            }
+            if (!facets) {
+                continue;
+            }
+
+            // 실패한 필터가 자기 자신뿐이면 해당 항목 집계에 포함
+            if ((failed & ~AIRLINE) == 0) {
+                airlineCounts[airlineIds[i]]++;
+            }
+            if ((failed & ~CABIN) == 0) {
+                cabinCounts[cabinIds[i]]++;
+            }
+            if ((failed & ~DEPARTURE) == 0 && departureMinutes[i] != UNKNOWN_MINUTES) {
+                hourCounts[departureMinutes[i] / 60]++;
+            }
+            if ((failed & ~PRICE) == 0 && prices[i] != UNKNOWN_PRICE) {
+                priceCounts[priceBucket(prices[i])]++;
+            }
+        }
+
+        int[] order = Arrays.copyOf(matched, matchedCount);
+        if (query.getSortBy() != null) {
+            sort(order, query.getSortBy(), query.isDescending());
+        }
+
+        return new Result(order, facets ? toFacets(airlineCounts, cabinCounts, hourCounts, priceCounts) : null);
+    }
+
+    /**
+     * 조회 결과 중 [offset, offset + limit) 구간의 항공편
+     */
+    public List<FlightSearchResponse.FlightOffer> offers(Result result, int offset, int limit) {
+        int from = Math.max(0, Math.min(offset, result.order().length));
+        int to = (int) Math.min((long) from + Math.max(0, limit), result.order().length);
+        List<FlightSearchResponse.FlightOffer> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(offers[result.order()[i]]);
+        }
+        return page;
+    }
+
+    public List<FlightSearchResponse.FlightOffer> offers(Result result) {
+        return offers(result, 0, result.order().length);
+    }
+
+    private void sort(int[] order, FlightOfferQuery.SortField sortBy, boolean descending) {
+        long[] keys = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            int row = order[i];
+            long key = switch (sortBy) {
+                case PRICE -> prices[row] == UNKNOWN_PRICE ? -1 : prices[row];
+                case DURATION -> durations[row];
+                case DEPARTURE -> departureMinutes[row];
+            };
+            // 값이 없는 항공편은 정렬 방향과 무관하게 마지막
+            if (key < 0 || key > MAX_SORT_KEY) {
+                key = MAX_SORT_KEY;
+            } else if (descending) {
+                key = MAX_SORT_KEY - 1 - key;
+            }
+            keys[i] = key << ROW_BITS | row;
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (int) (keys[i] & ROW_MASK);
+        }
+    }
+
+    private int priceBucket(long price) {
+        if (maxPrice <= minPrice) {
+            return 0;
+        }
+        int bucket = (int) ((price - minPrice) * HISTOGRAM_BUCKETS / (maxPrice - minPrice + 1));
+        return Math.min(bucket, HISTOGRAM_BUCKETS - 1);
+    }
+
+    private OfferFacets toFacets(int[] airlineCounts, int[] cabinCounts, int[] hourCounts, int[] priceCounts) {
+        List<OfferFacets.HourCount> hours = new ArrayList<>();
+        for (int hour = 0; hour < hourCounts.length; hour++) {
+            if (hourCounts[hour] > 0) {
+                hours.add(OfferFacets.HourCount.builder().hour(hour).count(hourCounts[hour]).build());
+            }
+        }
+
+        List<OfferFacets.PriceBucket> histogram = new ArrayList<>();
+        if (minPrice != UNKNOWN_PRICE) {
+            int buckets = maxPrice > minPrice ? HISTOGRAM_BUCKETS : 1;
+            double width = (double) (maxPrice - minPrice + 1) / buckets;
+            for (int bucket = 0; bucket < buckets; bucket++) {
+                long lower = minPrice + (long) Math.ceil(bucket * width);
+                long upper = bucket == buckets - 1 ? maxPrice : minPrice + (long) Math.ceil((bucket + 1) * width);
+                histogram.add(OfferFacets.PriceBucket.builder()
+                    .min(MinorUnits.fromMinor(lower, currency))
+                    .max(MinorUnits.fromMinor(upper, currency))
+                    .count(priceCounts[bucket])
+                    .build());
+            }
+        }
+
+        return OfferFacets.builder()
+            .airlines(valueCounts(airlines, airlineCounts))
+            .cabinClasses(valueCounts(cabins, cabinCounts))
+            .departureHours(hours)
+            .priceHistogram(histogram)
+            .currency(currency)
+            .build();
+    }
+
+    private static List<OfferFacets.ValueCount> valueCounts(String[] values, int[] counts) {
+        List<OfferFacets.ValueCount> result = new ArrayList<>(values.length);
+        for (int id = 0; id < values.length; id++) {
+            if (counts[id] > 0) {
+                result.add(OfferFacets.ValueCount.builder().value(values[id]).count(counts[id]).build());
+            }
+        }
+        result.sort((a, b) -> a.getCount() != b.getCount()
+            ? Integer.compare(b.getCount(), a.getCount()) : a.getValue().compareTo(b.getValue()));
+        return result;
+    }
+
+    private static boolean[] allowed(String[] dictionary, Set<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        boolean[] allowed = new boolean[dictionary.length];
+        for (int id = 0; id < dictionary.length; id++) {
+            allowed[id] = values.contains(dictionary[id]);
+        }
+        return allowed;
+    }
+
+    private static boolean inWindow(int minute, int from, int to) {
+        if (minute == UNKNOWN_MINUTES) {
+            return false;
+        }
+        if (from >= 0 && to >= 0 && from > to) {
+            // 자정을 넘는 범위 (예: 22:00 ~ 02:00)
+            return minute >= from || minute <= to;
+        }
+        return (from < 0 || minute >= from) && (to < 0 || minute <= to);
+    }
+
+    private static String[] dictionary(Map<String, Integer> ids) {
+        String[] values = new String[ids.size()];
+        ids.forEach((value, id) -> values[id] = value);
+        return values;
+    }
+
+    private static String firstCurrency(FlightSearchResponse.FlightOffer[] offers) {
+        for (FlightSearchResponse.FlightOffer offer : offers) {
+            if (offer.getPrice() != null && offer.getPrice().getCurrency() != null) {
+                return offer.getPrice().getCurrency();
+            }
+        }
+        return null;
+    }
+
+    // 응답 통화와 다른 통화 또는 가격 추출 실패(0.0) 는 가격 없음으로 취급
+    private static long priceOf(FlightSearchResponse.FlightOffer offer, String currency) {
+        FlightSearchResponse.Price price = offer.getPrice();
+        if (price == null || (currency != null && !currency.equals(price.getCurrency()))) {
+            return UNKNOWN_PRICE;
+        }
+        long total = MinorUnits.total(price);
+        return total > 0 ? total : UNKNOWN_PRICE;
+    }
+
+    // ISO-8601 기간 (PT11H30M)
+    private static int parseDuration(String duration) {
+        if (duration == null) {
+            return UNKNOWN_MINUTES;
+        }
+        try {
+            return (int) Duration.parse(duration).toMinutes();
+        } catch (RuntimeException e) {
+            return UNKNOWN_MINUTES;
+        }
+    }
+
+    // HH:mm
+    private static int parseMinuteOfDay(String time) {
+        if (time == null || time.length() < 5) {
+            return UNKNOWN_MINUTES;
+        }
+        try {
+            return minuteOfDay(LocalTime.parse(time.substring(0, 5)));
+        } catch (RuntimeException e) {
+            return UNKNOWN_MINUTES;
+        }
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * 조회 결과 (행 번호 순서 + 집계), 항공편 객체는 offers() 로 필요한 구간만 꺼냄
+     */
+    public record Result(int[] order, OfferFacets facets) {
+
+        public int matchedCount() {
+            return order.length;
+        }
+    }
+}
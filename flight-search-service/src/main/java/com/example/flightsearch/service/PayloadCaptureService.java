@@ -0,0 +1,214 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.PayloadCaptureConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 API 응답 진단 캡처
+ * - 요청 스레드는 샘플링 여부 확인과 대기열 추가만 수행 (직렬화/IO 는 별도 스레드)
+ * - NDJSON 파일로 기록하며 최대 크기를 넘으면 회전, 오래된 파일은 삭제
+ * - 설정은 런타임에 변경 가능 (PayloadCaptureEndpoint)
+ */
+@Service
+@Slf4j
+public class PayloadCaptureService {
+
+    private static final String FILE_NAME = "payloads";
+    private static final String FILE_SUFFIX = ".ndjson";
+
+    private final PayloadCaptureConfig payloadCaptureConfig;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<Capture> queue;
+    private final Thread writerThread;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong captured = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean enabled;
+    private volatile int sampleRate;
+    private volatile boolean captureOnError;
+    private volatile boolean running = true;
+
+    private OutputStream out;
+    private long currentFileSize;
+
+    public PayloadCaptureService(PayloadCaptureConfig payloadCaptureConfig, ObjectMapper objectMapper) {
+        this.payloadCaptureConfig = payloadCaptureConfig;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(payloadCaptureConfig.getQueueCapacity());
+        this.enabled = payloadCaptureConfig.isEnabled();
+        this.sampleRate = payloadCaptureConfig.getSampleRate();
+        this.captureOnError = payloadCaptureConfig.isCaptureOnError();
+
+        this.writerThread = new Thread(this::writeLoop, "payload-capture-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * 이번 응답을 샘플로 캡처할지 여부 (비활성화 상태에서는 volatile 읽기 한 번)
+     */
+    public boolean shouldSample() {
+        if (!enabled) {
+            return false;
+        }
+        int rate = sampleRate;
+        return rate > 0 && sequence.incrementAndGet() % rate == 0;
+    }
+
+    /**
+     * 오류 응답을 캡처할지 여부
+     */
+    public boolean shouldCaptureError() {
+        return enabled && captureOnError;
+    }
+
+    /**
+     * 캡처 요청 (payload 는 이후 변경되지 않는 객체여야 함)
+     *
+     * @param reason  SAMPLE / CONVERSION_ERROR / UPSTREAM_ERROR 등
+     * @param source  응답 출처 (예: amadeus.flight-offers)
+     * @param payload 직렬화할 응답 본문 (Map 또는 String)
+     */
+    public void capture(String reason, String source, Object payload) {
+        if (!queue.offer(new Capture(Instant.now(), reason, source, payload))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * 런타임 설정 변경 (null 인 항목은 유지)
+     */
+    public void update(Boolean enabled, Integer sampleRate, Boolean captureOnError) {
+        if (sampleRate != null) {
+            this.sampleRate = Math.max(0, sampleRate);
+        }
+        if (captureOnError != null) {
+            this.captureOnError = captureOnError;
+        }
+        if (enabled != null) {
+            this.enabled = enabled;
+        }
+        log.info("응답 캡처 설정 변경: enabled={}, sampleRate={}, captureOnError={}",
+                this.enabled, this.sampleRate, this.captureOnError);
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("sampleRate", sampleRate);
+        status.put("captureOnError", captureOnError);
+        status.put("directory", payloadCaptureConfig.getDirectory());
+        status.put("maxFileSize", payloadCaptureConfig.getMaxFileSize().toString());
+        status.put("maxFiles", payloadCaptureConfig.getMaxFiles());
+        status.put("captured", captured.get());
+        status.put("dropped", dropped.get());
+        status.put("pending", queue.size());
+        return status;
+    }
+
+    private void writeLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Capture capture = queue.poll(1, TimeUnit.SECONDS);
+                if (capture != null) {
+                    write(capture);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (Exception e) {
+                dropped.incrementAndGet();
+                log.warn("응답 캡처 기록 실패: {}", e.getMessage());
+                closeQuietly();
+            }
+        }
+        closeQuietly();
+    }
+
+    private void write(Capture capture) throws IOException {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("timestamp", capture.timestamp().toString());
+        record.put("reason", capture.reason());
+        record.put("source", capture.source());
+        record.put("payload", capture.payload());
+
+        byte[] line = objectMapper.writeValueAsBytes(record);
+        if (out == null || currentFileSize + line.length + 1 > payloadCaptureConfig.getMaxFileSize().toBytes()) {
+            rotate();
+        }
+        out.write(line);
+        out.write('\n');
+        out.flush();
+        currentFileSize += line.length + 1;
+        captured.incrementAndGet();
+    }
+
+    /**
+     * payloads.ndjson -> payloads.1.ndjson -> ... -> payloads.{maxFiles}.ndjson (초과분 삭제)
+     */
+    private void rotate() throws IOException {
+        closeQuietly();
+
+        Path directory = Path.of(payloadCaptureConfig.getDirectory());
+        Files.createDirectories(directory);
+        Path current = directory.resolve(FILE_NAME + FILE_SUFFIX);
+
+        if (Files.exists(current) && Files.size(current) > 0) {
+            int maxFiles = Math.max(0, payloadCaptureConfig.getMaxFiles());
+            Files.deleteIfExists(directory.resolve(FILE_NAME + "." + maxFiles + FILE_SUFFIX));
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path from = directory.resolve(FILE_NAME + "." + i + FILE_SUFFIX);
+                if (Files.exists(from)) {
+                    Files.move(from, directory.resolve(FILE_NAME + "." + (i + 1) + FILE_SUFFIX),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (maxFiles > 0) {
+                Files.move(current, directory.resolve(FILE_NAME + ".1" + FILE_SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.delete(current);
+            }
+        }
+
+        out = Files.newOutputStream(current, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        currentFileSize = 0;
+    }
+
+    private void closeQuietly() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // 회전/종료 중 닫기 실패는 무시
+            }
+            out = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private record Capture(Instant timestamp, String reason, String source, Object payload) {
+    }
+}
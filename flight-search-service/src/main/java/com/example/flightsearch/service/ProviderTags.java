@@ -0,0 +1,26 @@
+package com.example.flightsearch.service;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 메트릭 provider 태그 값 (요청 입력을 그대로 쓰면 임의 문자열마다 시계열이 생기므로 알려진 값으로 제한)
+ */
+final class ProviderTags {
+
+    static final String UNKNOWN = "unknown";
+
+    // application.yml 에 설정이 있는 외부 API 제공자
+    private static final Set<String> KNOWN = Set.of("AMADEUS", "SABRE");
+
+    private ProviderTags() {
+    }
+
+    static String of(String apiProvider) {
+        if (apiProvider == null) {
+            return UNKNOWN;
+        }
+        String provider = apiProvider.trim().toUpperCase(Locale.ROOT);
+        return KNOWN.contains(provider) ? provider : UNKNOWN;
+    }
+}
@@ -0,0 +1,510 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.dto.ConnectionQuery;
+import com.example.flightsearch.dto.ConnectionSearchResponse;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.model.AirportDirectory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 의존 노선 그래프 (불변, 구간이 바뀌면 새로 만들어 교체)
+ * - 노드는 공항, 간선은 출발/도착 시각이 정해진 항공편(검색 결과 한 건)
+ * - 간선은 (출발 공항, 출발 시각) 순으로 정렬한 CSR 배열: 공항별 간선 구간을 이진 탐색으로 시간 범위까지 좁힘
+ * - 시각은 공항 시간대를 반영한 UTC epoch 분 (시차가 있는 공항 간 환승/소요시간 계산용)
+ */
+public final class RouteGraph {
+
+    // 간선 정렬 키: 출발 노드(15비트) | 출발 시각 오프셋(28비트) | 원래 순번(20비트)
+    static final int MAX_EDGES = 1 << 20;
+    private static final long MAX_TIME_OFFSET = (1L << 28) - 1;
+    private static final int CODE_SPACE = 26 * 26 * 26;
+
+    private final int[] nodeByCode;   // 패킹된 공항 코드 -> 노드, 없으면 -1
+    private final int[] firstEdge;    // 노드 -> 간선 시작 위치 (길이 노드 수 + 1)
+
+    private final int[] edgeTo;
+    private final long[] edgeDeparture;
+    private final long[] edgeArrival;
+    private final long[] edgePrice;   // 통화 최소 단위
+    private final int[] edgeCurrency;
+    private final boolean[] edgeInternational;
+    private final FlightSearchResponse.FlightOffer[] edgeOffers;
+
+    private final String[] currencies;
+    private final AirportDirectory airports;
+
+    private RouteGraph(int[] nodeByCode, int[] firstEdge, int[] edgeTo, long[] edgeDeparture, long[] edgeArrival,
+                       long[] edgePrice, int[] edgeCurrency, boolean[] edgeInternational,
+                       FlightSearchResponse.FlightOffer[] edgeOffers, String[] currencies, AirportDirectory airports) {
+        this.nodeByCode = nodeByCode;
+        this.firstEdge = firstEdge;
+        this.edgeTo = edgeTo;
+        this.edgeDeparture = edgeDeparture;
+        this.edgeArrival = edgeArrival;
+        this.edgePrice = edgePrice;
+        this.edgeCurrency = edgeCurrency;
+        this.edgeInternational = edgeInternational;
+        this.edgeOffers = edgeOffers;
+        this.currencies = currencies;
+        this.airports = airports;
+    }
+
+    /**
+     * 출발/도착 시각, 가격, 공항 코드가 모두 있는 항공편만 간선으로 사용
+     * 현지 시각을 UTC 로 바꿀 수 없으므로 시간대를 모르는 공항(참조 데이터에 없음)을 지나는 항공편은 제외
+     */
+    public static RouteGraph build(Collection<FlightSearchResponse.FlightOffer> offers, AirportDirectory airports) {
+        int capacity = Math.min(offers.size(), MAX_EDGES);
+        int[] from = new int[capacity];
+        int[] to = new int[capacity];
+        long[] departure = new long[capacity];
+        long[] arrival = new long[capacity];
+        long[] price = new long[capacity];
+        int[] currency = new int[capacity];
+        FlightSearchResponse.FlightOffer[] source = new FlightSearchResponse.FlightOffer[capacity];
+
+        int[] nodeByCode = new int[CODE_SPACE];
+        Arrays.fill(nodeByCode, -1);
+        int nodeCount = 0;
+        Map<String, Integer> currencyIds = new HashMap<>();
+        List<String> currencyList = new ArrayList<>();
+
+        int n = 0;
+        long minDeparture = Long.MAX_VALUE;
+        for (FlightSearchResponse.FlightOffer offer : offers) {
+            if (n == capacity) {
+                break;
+            }
+            int origin = AirportDirectory.pack(offer.getOriginLocationCode());
+            int destination = AirportDirectory.pack(offer.getDestinationLocationCode());
+            long priceMinor = MinorUnits.total(offer.getPrice());
+            if (origin == AirportDirectory.NO_CODE || destination == AirportDirectory.NO_CODE || origin == destination
+                || offer.getDepartureEpochMinute() < 0 || offer.getArrivalEpochMinute() < 0
+                || priceMinor <= 0 || offer.getPrice().getCurrency() == null) {
+                continue;
+            }
+            ZoneId originZone = airports.zone(offer.getOriginLocationCode());
+            ZoneId destinationZone = airports.zone(offer.getDestinationLocationCode());
+            if (originZone == null || destinationZone == null) {
+                continue;
+            }
+            long dep = utcMinute(offer.getDepartureEpochMinute(), originZone);
+            long arr = utcMinute(offer.getArrivalEpochMinute(), destinationZone);
+            if (arr <= dep) {
+                continue;
+            }
+            if (nodeByCode[origin] < 0) {
+                nodeByCode[origin] = nodeCount++;
+            }
+            if (nodeByCode[destination] < 0) {
+                nodeByCode[destination] = nodeCount++;
+            }
+            from[n] = nodeByCode[origin];
+            to[n] = nodeByCode[destination];
+            departure[n] = dep;
+            arrival[n] = arr;
+            price[n] = priceMinor;
+            currency[n] = currencyIds.computeIfAbsent(offer.getPrice().getCurrency(), c -> {
+                currencyList.add(c);
+                return currencyList.size() - 1;
+            });
+            source[n] = offer;
+            minDeparture = Math.min(minDeparture, dep);
+            n++;
+        }
+
+        // (출발 노드, 출발 시각) 정렬을 long 배열 정렬 한 번으로 처리
+        long[] keys = new long[n];
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            long offset = departure[i] - minDeparture;
+            if (offset > MAX_TIME_OFFSET) {
+                continue;
+            }
+            keys[kept++] = ((long) from[i] << 48) | (offset << 20) | i;
+        }
+        keys = Arrays.copyOf(keys, kept);
+        Arrays.sort(keys);
+
+        int[] firstEdge = new int[nodeCount + 1];
+        int[] edgeTo = new int[kept];
+        long[] edgeDeparture = new long[kept];
+        long[] edgeArrival = new long[kept];
+        long[] edgePrice = new long[kept];
+        int[] edgeCurrency = new int[kept];
+        boolean[] edgeInternational = new boolean[kept];
+        FlightSearchResponse.FlightOffer[] edgeOffers = new FlightSearchResponse.FlightOffer[kept];
+        for (int e = 0; e < kept; e++) {
+            int i = (int) (keys[e] & (MAX_EDGES - 1));
+            firstEdge[from[i] + 1]++;
+            edgeTo[e] = to[i];
+            edgeDeparture[e] = departure[i];
+            edgeArrival[e] = arrival[i];
+            edgePrice[e] = price[i];
+            edgeCurrency[e] = currency[i];
+            edgeOffers[e] = source[i];
+            edgeInternational[e] = airports.isInternational(source[i].getOriginLocationCode(),
+                source[i].getDestinationLocationCode());
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            firstEdge[node + 1] += firstEdge[node];
+        }
+
+        return new RouteGraph(nodeByCode, firstEdge, edgeTo, edgeDeparture, edgeArrival, edgePrice, edgeCurrency,
+            edgeInternational, edgeOffers, currencyList.toArray(new String[0]), airports);
+    }
+
+    public int edgeCount() {
+        return edgeTo.length;
+    }
+
+    public int airportCount() {
+        return firstEdge.length - 1;
+    }
+
+    /**
+     * 출발일(출발 공항 현지)에 출발하는 여정 중 목적 기준 상위 limit 개
+     *
+     * 라벨 설정(label-setting) 방식의 k-최단 경로:
+     * 부분 여정(라벨)을 우선순위 큐에서 목적 기준으로 꺼내고, 공항별로 확정 가능한 라벨 수를 제한한다.
+     * 도착 공항에서 꺼낸 순서가 곧 결과 순서이며, 같은 공항을 두 번 지나는 여정은 만들지 않는다.
+     * 경유 공항이 지정되면 (공항, 경유 여부) 상태별로 따로 센다.
+     */
+    public List<ConnectionSearchResponse.Itinerary> search(ConnectionQuery query, int maxLabelsPerAirport, int maxLabels) {
+        int origin = node(query.getOriginLocationCode());
+        int destination = node(query.getDestinationLocationCode());
+        int via = query.getViaLocationCode() != null ? node(query.getViaLocationCode()) : -1;
+        if (origin < 0 || destination < 0 || query.getLimit() <= 0
+            || (query.getViaLocationCode() != null && (via < 0 || via == origin || via == destination))) {
+            return List.of();
+        }
+        int currencyFilter = -1;
+        if (query.getCurrency() != null) {
+            currencyFilter = Arrays.asList(currencies).indexOf(query.getCurrency());
+            if (currencyFilter < 0) {
+                return List.of();
+            }
+        }
+
+        // 그래프의 공항은 모두 시간대가 있음 (build 에서 보장)
+        ZoneId originZone = airports.zone(query.getOriginLocationCode());
+        long windowStart = query.getDepartureDate().atStartOfDay(originZone).toEpochSecond() / 60;
+        long windowEnd = query.getDepartureDate().plusDays(1).atStartOfDay(originZone).toEpochSecond() / 60;
+        boolean cheapest = query.getObjective() != ConnectionQuery.Objective.EARLIEST_ARRIVAL;
+
+        int limit = query.getLimit();
+        Labels labels = new Labels(cheapest, maxLabels, limit, Math.max(limit, maxLabelsPerAirport));
+        labels.beginBatch();
+        for (int e = lowerBound(origin, windowStart); e < firstEdge[origin + 1] && edgeDeparture[e] < windowEnd; e++) {
+            int next = edgeTo[e];
+            boolean viaVisited = next == via;
+            if ((currencyFilter >= 0 && edgeCurrency[e] != currencyFilter) || (next == destination && via >= 0)) {
+                continue;
+            }
+            if (!labels.offer(-1, e, edgePrice[e], 0, viaVisited, next == destination ? limit : maxLabelsPerAirport)) {
+                break;
+            }
+        }
+
+        List<ConnectionSearchResponse.Itinerary> results = new ArrayList<>(limit);
+        while (results.size() < limit && !labels.isEmpty()) {
+            int label = labels.pop();
+            int edge = labels.edge[label];
+            int at = edgeTo[edge];
+            if (!labels.settle(label, at == destination ? limit : maxLabelsPerAirport)) {
+                continue;
+            }
+            if (at == destination) {
+                results.add(itinerary(labels, label));
+                continue;
+            }
+            if (labels.stops[label] >= query.getMaxStops()) {
+                continue;
+            }
+
+            // 환승: 같은 통화, 최소/최대 대기 시간 안에 출발, 지나온 공항으로 돌아가지 않음
+            long arrivedAt = labels.arrival[label];
+            long latest = arrivedAt + query.getMaxConnectionMinutes();
+            int minConnection = Math.min(query.getMinConnectionMinutes(), query.getMinInternationalConnectionMinutes());
+            labels.beginBatch();
+            for (int e = lowerBound(at, arrivedAt + minConnection); e < firstEdge[at + 1] && edgeDeparture[e] <= latest; e++) {
+                int next = edgeTo[e];
+                boolean viaVisited = labels.via[label] || next == via;
+                if (edgeCurrency[e] != edgeCurrency[edge] || next == origin || (via >= 0 && next == destination && !viaVisited)
+                    || labels.visits(label, next)) {
+                    continue;
+                }
+                int required = edgeInternational[edge] || edgeInternational[e]
+                    ? query.getMinInternationalConnectionMinutes() : query.getMinConnectionMinutes();
+                if (edgeDeparture[e] < arrivedAt + required) {
+                    continue;
+                }
+                if (!labels.offer(label, e, labels.cost[label] + edgePrice[e], labels.stops[label] + 1, viaVisited,
+                    next == destination ? limit : maxLabelsPerAirport)) {
+                    return results;  // 탐색 상한 도달: 지금까지 찾은 결과만 반환
+                }
+            }
+        }
+        return results;
+    }
+
+    private ConnectionSearchResponse.Itinerary itinerary(Labels labels, int label) {
+        int legCount = labels.stops[label] + 1;
+        int[] edges = new int[legCount];
+        for (int l = label, i = legCount - 1; l >= 0; l = labels.parent[l], i--) {
+            edges[i] = labels.edge[l];
+        }
+
+        List<FlightSearchResponse.FlightOffer> legs = new ArrayList<>(legCount);
+        List<Integer> layovers = new ArrayList<>(legCount - 1);
+        for (int i = 0; i < legCount; i++) {
+            legs.add(edgeOffers[edges[i]]);
+            if (i > 0) {
+                layovers.add((int) (edgeDeparture[edges[i]] - edgeArrival[edges[i - 1]]));
+            }
+        }
+        String currency = currencies[edgeCurrency[edges[0]]];
+        return ConnectionSearchResponse.Itinerary.builder()
+            .stops(legCount - 1)
+            .totalPrice(MinorUnits.fromMinor(labels.cost[label], currency))
+            .currency(currency)
+            .totalDurationMinutes((int) (edgeArrival[edges[legCount - 1]] - edgeDeparture[edges[0]]))
+            .layoverMinutes(layovers)
+            .selfTransfer(legCount > 1)
+            .legs(legs)
+            .build();
+    }
+
+    private int node(String code) {
+        int packed = AirportDirectory.pack(code);
+        return packed == AirportDirectory.NO_CODE ? -1 : nodeByCode[packed];
+    }
+
+    // node 의 간선 중 출발 시각이 time 이상인 첫 위치
+    private int lowerBound(int node, long time) {
+        int lo = firstEdge[node];
+        int hi = firstEdge[node + 1];
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (edgeDeparture[mid] < time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 현지 시각을 UTC 로 간주한 epoch 분 -> 실제 UTC epoch 분 (zone 은 null 이 아니어야 함)
+     */
+    static long utcMinute(long localEpochMinute, ZoneId zone) {
+        LocalDateTime local = LocalDateTime.ofEpochSecond(localEpochMinute * 60, 0, ZoneOffset.UTC);
+        return localEpochMinute - zone.getRules().getOffset(local).getTotalSeconds() / 60;
+    }
+
+    /**
+     * 부분 여정(라벨) 저장소 + 이진 힙 (라벨 id 를 원시 배열로 관리, 질의마다 새로 만듦)
+     * 라벨은 (도착 공항, 경유 여부) 슬롯 단위로 확정하며, 추가 시점에 지배되는 라벨은 버린다:
+     * 도착 시각/누적 운임/환승 횟수가 모두 같거나 나은 라벨이 k 개 이상이면 그 이후 여정도 k 위 안에 들 수 없다
+     * (같은 슬롯에서 이미 확정된 라벨 + 같은 확장에서 먼저 추가된 라벨과 비교)
+     */
+    private final class Labels {
+
+        private final boolean cheapest;
+        private final int maxLabels;
+        private final int kBest;
+        private final int slotCapacity;
+
+        int[] parent = new int[256];
+        int[] edge = new int[256];
+        long[] arrival = new long[256];
+        long[] cost = new long[256];
+        int[] stops = new int[256];
+        boolean[] via = new boolean[256];
+        private int[] batchNext = new int[256];
+        private int size;
+
+        private int[] heap = new int[256];
+        private int heapSize;
+
+        // 슬롯별 확정 라벨 (slot * slotCapacity + i)
+        private final int[] settledCount;
+        private final int[] settledLabels;
+
+        // 현재 확장에서 추가한 라벨의 슬롯별 연결 리스트 (batchStamp 가 다르면 빈 리스트로 간주)
+        private final int[] batchHead;
+        private final int[] batchStamp;
+        private int batch;
+
+        Labels(boolean cheapest, int maxLabels, int kBest, int slotCapacity) {
+            int slots = airportCount() * 2;
+            this.cheapest = cheapest;
+            this.maxLabels = maxLabels;
+            this.kBest = kBest;
+            this.slotCapacity = slotCapacity;
+            this.settledCount = new int[slots];
+            this.settledLabels = new int[slots * slotCapacity];
+            this.batchHead = new int[slots];
+            this.batchStamp = new int[slots];
+        }
+
+        void beginBatch() {
+            batch++;
+        }
+
+        /**
+         * 슬롯이 이미 찼거나 지배되는 라벨은 조용히 버림
+         *
+         * @return 탐색 상한에 도달하면 false
+         */
+        boolean offer(int parentLabel, int edgeIndex, long totalCost, int stopCount, boolean viaVisited, int slotLimit) {
+            int slot = slot(edgeIndex, viaVisited);
+            if (settledCount[slot] >= slotLimit || dominated(slot, edgeIndex, totalCost, stopCount)) {
+                return true;
+            }
+            if (size == maxLabels) {
+                return false;
+            }
+            int label = add(parentLabel, edgeIndex, totalCost, stopCount, viaVisited);
+            batchNext[label] = batchStamp[slot] == batch ? batchHead[slot] : -1;
+            batchHead[slot] = label;
+            batchStamp[slot] = batch;
+            return true;
+        }
+
+        /**
+         * 꺼낸 라벨 확정 (슬롯이 이미 slotLimit 개면 false)
+         */
+        boolean settle(int label, int slotLimit) {
+            int slot = slot(edge[label], via[label]);
+            if (settledCount[slot] >= slotLimit) {
+                return false;
+            }
+            settledLabels[slot * slotCapacity + settledCount[slot]++] = label;
+            return true;
+        }
+
+        int pop() {
+            int top = heap[0];
+            int last = heap[--heapSize];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && before(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!before(heap[child], last)) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+
+        boolean isEmpty() {
+            return heapSize == 0;
+        }
+
+        // 지나온 경로(출발 공항 제외)에 node 가 있는지 (경로 길이가 짧아 부모를 따라 순회)
+        boolean visits(int label, int node) {
+            for (int l = label; l >= 0; l = parent[l]) {
+                if (edgeTo[edge[l]] == node) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int slot(int edgeIndex, boolean viaVisited) {
+            return edgeTo[edgeIndex] * 2 + (viaVisited ? 1 : 0);
+        }
+
+        private boolean dominated(int slot, int edgeIndex, long totalCost, int stopCount) {
+            long arrivalMinute = edgeArrival[edgeIndex];
+            boolean international = edgeInternational[edgeIndex];
+            int count = 0;
+            for (int i = 0, base = slot * slotCapacity; i < settledCount[slot]; i++) {
+                if (dominates(settledLabels[base + i], arrivalMinute, totalCost, stopCount, international)
+                    && ++count >= kBest) {
+                    return true;
+                }
+            }
+            if (batchStamp[slot] == batch) {
+                for (int l = batchHead[slot]; l >= 0; l = batchNext[l]) {
+                    if (dominates(l, arrivalMinute, totalCost, stopCount, international) && ++count >= kBest) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        // 국제선으로 도착한 라벨은 환승 최소 시간이 더 길어 국내선 도착 라벨을 대신할 수 없음
+        private boolean dominates(int label, long arrivalMinute, long totalCost, int stopCount, boolean international) {
+            return arrival[label] <= arrivalMinute && cost[label] <= totalCost && stops[label] <= stopCount
+                && (international || !edgeInternational[edge[label]]);
+        }
+
+        private int add(int parentLabel, int edgeIndex, long totalCost, int stopCount, boolean viaVisited) {
+            if (size == parent.length) {
+                int capacity = Math.min(size * 2, maxLabels);
+                parent = Arrays.copyOf(parent, capacity);
+                edge = Arrays.copyOf(edge, capacity);
+                arrival = Arrays.copyOf(arrival, capacity);
+                cost = Arrays.copyOf(cost, capacity);
+                stops = Arrays.copyOf(stops, capacity);
+                via = Arrays.copyOf(via, capacity);
+                batchNext = Arrays.copyOf(batchNext, capacity);
+            }
+            int label = size++;
+            parent[label] = parentLabel;
+            edge[label] = edgeIndex;
+            arrival[label] = edgeArrival[edgeIndex];
+            cost[label] = totalCost;
+            stops[label] = stopCount;
+            via[label] = viaVisited;
+
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heapSize * 2);
+            }
+            int i = heapSize++;
+            while (i > 0) {
+                int up = (i - 1) >>> 1;
+                if (!before(label, heap[up])) {
+                    break;
+                }
+                heap[i] = heap[up];
+                i = up;
+            }
+            heap[i] = label;
+            return label;
+        }
+
+        private boolean before(int a, int b) {
+            long first = cheapest ? cost[a] - cost[b] : arrival[a] - arrival[b];
+            if (first != 0) {
+                return first < 0;
+            }
+            long second = cheapest ? arrival[a] - arrival[b] : cost[a] - cost[b];
+            if (second != 0) {
+                return second < 0;
+            }
+            return a < b;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.RetentionConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSetMetaData;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * flight_searches 보존 관리 서비스
+ * 검색 기록을 시간 단위(RANGE COLUMNS) 파티션으로 유지하고,
+ * 보존 기간이 지난 파티션은 gzip NDJSON 파일로 아카이브한 뒤 DROP PARTITION 으로 한 번에 제거
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchRetentionService {
+    
+    private static final String TABLE_NAME = "flight_searches";
+    private static final String FUTURE_PARTITION = "p_future";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final RetentionConfig retentionConfig;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * 주기적 보존 작업 (파티션 생성 + 만료 파티션 아카이브/삭제)
+     */
+    @Scheduled(cron = "${retention.search.cron:0 30 3 * * *}")
+    public void runRetention() {
+        if (!retentionConfig.isEnabled()) {
+            return;
+        }
+        
+        try {
+            if (listPartitions().isEmpty()) {
+                if (!retentionConfig.isAutoPartition()) {
+                    log.warn("{} 테이블이 파티션되어 있지 않아 보존 작업을 건너뜁니다", TABLE_NAME);
+                    return;
+                }
+                partitionTable();
+            }
+            
+            ensureFuturePartitions();
+            archiveExpiredPartitions();
+            
+        } catch (Exception e) {
+            log.error("검색 기록 보존 작업 실패: {}", e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 기존 테이블을 파티션 테이블로 전환
+     * 파티션 키는 PK에 포함되어야 하므로 PK를 (id, search_timestamp)로 변경
+     */
+    void partitionTable() {
+        RetentionConfig.Granularity granularity = retentionConfig.getGranularity();
+        LocalDate current = granularity.periodStart(LocalDate.now());
+        
+        LocalDate oldest = jdbcTemplate.queryForObject(
+            "SELECT DATE(MIN(search_timestamp)) FROM " + TABLE_NAME, LocalDate.class);
+        LocalDate start = oldest != null ? granularity.periodStart(oldest) : current;
+        if (start.isAfter(current)) {
+            start = current;
+        }
+        
+        List<String> definitions = new ArrayList<>();
+        LocalDate end = premakeEnd(current);
+        for (LocalDate period = start; period.isBefore(end); period = granularity.next(period)) {
+            definitions.add(partitionDefinition(period));
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        
+        log.info("{} 테이블 파티션 전환 시작: {}개 파티션", TABLE_NAME, definitions.size());
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME +
+            " DROP PRIMARY KEY, ADD PRIMARY KEY (id, search_timestamp)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME +
+            " PARTITION BY RANGE COLUMNS(search_timestamp) (" + String.join(", ", definitions) + ")");
+        log.info("{} 테이블 파티션 전환 완료", TABLE_NAME);
+    }
+    
+    /**
+     * 현재 ~ 미래 파티션이 미리 존재하도록 p_future 를 분할
+     */
+    void ensureFuturePartitions() {
+        RetentionConfig.Granularity granularity = retentionConfig.getGranularity();
+        List<String> existing = listPartitions();
+        
+        LocalDate latest = null;
+        for (String name : existing) {
+            LocalDate period = granularity.parsePartitionName(name);
+            if (period != null && (latest == null || period.isAfter(latest))) {
+                latest = period;
+            }
+        }
+        
+        LocalDate current = granularity.periodStart(LocalDate.now());
+        LocalDate start = latest != null ? granularity.next(latest) : current;
+        LocalDate end = premakeEnd(current);
+        
+        List<String> definitions = new ArrayList<>();
+        for (LocalDate period = start; period.isBefore(end); period = granularity.next(period)) {
+            definitions.add(partitionDefinition(period));
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+        
+        // p_future 는 보통 비어 있으므로 재구성 비용이 거의 없음
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + FUTURE_PARTITION +
+            " INTO (" + String.join(", ", definitions) + ")");
+        log.info("{} 미래 파티션 {}개 생성", TABLE_NAME, definitions.size() - 1);
+    }
+    
+    /**
+     * 보존 기간이 지난 파티션을 아카이브 후 삭제
+     */
+    void archiveExpiredPartitions() {
+        RetentionConfig.Granularity granularity = retentionConfig.getGranularity();
+        LocalDate current = granularity.periodStart(LocalDate.now());
+        LocalDate oldestRetained = granularity.minus(current, retentionConfig.getRetainPartitions());
+        
+        for (String name : listPartitions()) {
+            LocalDate period = granularity.parsePartitionName(name);
+            if (period == null || !period.isBefore(oldestRetained)) {
+                continue;
+            }
+            
+            if (retentionConfig.isArchiveEnabled()) {
+                long archived = archivePartition(name);
+                log.info("파티션 아카이브 완료: {} ({}건)", name, archived);
+            }
+            
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + name);
+            log.info("만료 파티션 삭제 완료: {}", name);
+        }
+    }
+    
+    /**
+     * 파티션 단위로 행을 스트리밍하여 gzip NDJSON 파일로 저장
+     * DROP PARTITION 이후에는 되돌릴 수 없으므로 파일과 디렉터리를 디스크까지 동기화한 뒤 반환
+     */
+    long archivePartition(String partitionName) {
+        Path directory = Paths.get(retentionConfig.getArchiveDir());
+        Path target = directory.resolve(TABLE_NAME + "-" + partitionName + ".ndjson.gz");
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        ObjectWriter writer = objectMapper.writer();
+        long[] count = {0};
+        
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 GZIPOutputStream out = new GZIPOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+                jdbcTemplate.query(connection -> {
+                    var statement = connection.prepareStatement(
+                        "SELECT * FROM " + TABLE_NAME + " PARTITION (" + partitionName + ")",
+                        java.sql.ResultSet.TYPE_FORWARD_ONLY, java.sql.ResultSet.CONCUR_READ_ONLY);
+                    // MySQL 드라이버 행 단위 스트리밍
+                    statement.setFetchSize(Integer.MIN_VALUE);
+                    return statement;
+                }, (RowCallbackHandler) resultSet -> {
+                    ResultSetMetaData metaData = resultSet.getMetaData();
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        Object value = resultSet.getObject(i);
+                        row.put(metaData.getColumnLabel(i), value != null ? value.toString() : null);
+                    }
+                    try {
+                        out.write(writer.writeValueAsBytes(row));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    count[0]++;
+                });
+                
+                out.finish();
+                out.flush();
+                channel.force(true);
+            }
+            // 아카이브 파일이 완성된 경우에만 최종 이름으로 이동 (DROP 전 보장)
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            syncDirectory(directory);
+            return count[0];
+            
+        } catch (IOException e) {
+            throw new UncheckedIOException("파티션 아카이브 실패: " + partitionName, e);
+        }
+    }
+    
+    // 이동(rename) 자체가 디스크에 남도록 디렉터리도 동기화 (지원하지 않는 파일 시스템은 생략)
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            log.debug("디렉터리 동기화를 지원하지 않습니다: {} ({})", directory, e.getMessage());
+        }
+    }
+    
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList(
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION",
+            String.class, TABLE_NAME);
+    }
+    
+    private LocalDate premakeEnd(LocalDate current) {
+        RetentionConfig.Granularity granularity = retentionConfig.getGranularity();
+        LocalDate end = granularity.next(current);
+        for (int i = 0; i < retentionConfig.getPremakePartitions(); i++) {
+            end = granularity.next(end);
+        }
+        return end;
+    }
+    
+    private String partitionDefinition(LocalDate periodStart) {
+        RetentionConfig.Granularity granularity = retentionConfig.getGranularity();
+        return "PARTITION " + granularity.partitionName(periodStart) +
+            " VALUES LESS THAN ('" + granularity.next(periodStart) + " 00:00:00')";
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.dto.FlightSearchRequest;
+import com.example.flightsearch.dto.FlightSearchResponse;
+
+/**
+ * 검색 세션 (외부 API 결과 1회분, 생성 후 변경 없음)
+ * summary 는 항공편 목록을 뺀 응답 메타데이터, 항공편은 table 에만 보관
+ */
+public record SearchSession(String searchId, FlightSearchRequest request, FlightSearchResponse summary,
+                            OfferTable table, long createdAtMillis, long estimatedBytes) {
+}
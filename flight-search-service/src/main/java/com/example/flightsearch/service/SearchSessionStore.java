@@ -0,0 +1,202 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.config.SearchSessionConfig;
+import com.example.flightsearch.dto.FlightSearchRequest;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 검색 세션 저장소 (메모리, LRU)
+ * - 세션 수와 추정 메모리 사용량 두 가지 상한, 넘으면 가장 오래 조회되지 않은 세션부터 제거
+ * - 세션 안의 반복 문자열(항공사, 공항, 날짜, 통화 등)은 하나의 인스턴스로 공유하여 보관
+ * - 세션 수/메모리/제거 수/조회 적중률은 Micrometer 로 노출 (search.session.*)
+ */
+@Component
+@Slf4j
+public class SearchSessionStore {
+    
+    // 항공편 1건당 객체 오버헤드 추정치 (FlightOffer + Price + 박싱 값 + OfferTable 컬럼)
+    private static final long OFFER_OVERHEAD_BYTES = 256;
+    // 문자열 1개당 오버헤드 추정치 (String + byte[] 헤더)
+    private static final long STRING_OVERHEAD_BYTES = 40;
+    private static final long SESSION_OVERHEAD_BYTES = 1024;
+    
+    private final SearchSessionConfig searchSessionConfig;
+    
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동 (맨 앞이 가장 오래 조회되지 않은 세션)
+    private final LinkedHashMap<String, SearchSession> sessions = new LinkedHashMap<>(256, 0.75f, true);
+    private long memoryBytes;
+    
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expiredEvictions;
+    private final Counter capacityEvictions;
+    
+    public SearchSessionStore(SearchSessionConfig searchSessionConfig, MeterRegistry meterRegistry) {
+        this.searchSessionConfig = searchSessionConfig;
+        
+        Gauge.builder("search.session.count", this, SearchSessionStore::size)
+            .description("보관 중인 검색 세션 수")
+            .register(meterRegistry);
+        Gauge.builder("search.session.memory", this, SearchSessionStore::memoryBytes)
+            .description("검색 세션 추정 메모리 사용량")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.hits = Counter.builder("search.session.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("search.session.lookups").tag("result", "miss").register(meterRegistry);
+        this.expiredEvictions = Counter.builder("search.session.evictions").tag("reason", "expired")
+            .register(meterRegistry);
+        this.capacityEvictions = Counter.builder("search.session.evictions").tag("reason", "capacity")
+            .register(meterRegistry);
+    }
+    
+    /**
+     * 검색 결과로 세션 생성 (세션 1개가 메모리 상한보다 크면 다른 세션을 모두 밀어내고 보관)
+     */
+    public SearchSession create(FlightSearchRequest request, FlightSearchResponse response) {
+        Map<String, String> strings = new HashMap<>();
+        List<FlightSearchResponse.FlightOffer> offers = new ArrayList<>(response.getFlightOffers().size());
+        for (FlightSearchResponse.FlightOffer offer : response.getFlightOffers()) {
+            offers.add(compact(offer, strings));
+        }
+        
+        long estimatedBytes = SESSION_OVERHEAD_BYTES + offers.size() * OFFER_OVERHEAD_BYTES;
+        for (String value : strings.keySet()) {
+            estimatedBytes += STRING_OVERHEAD_BYTES + value.length();
+        }
+        
+        SearchSession session = new SearchSession(UUID.randomUUID().toString(), request,
+            response.toBuilder().flightOffers(List.of()).build(), OfferTable.of(offers),
+            System.currentTimeMillis(), estimatedBytes);
+        
+        int evicted = 0;
+        synchronized (sessions) {
+            sessions.put(session.searchId(), session);
+            memoryBytes += session.estimatedBytes();
+            
+            long maxMemory = searchSessionConfig.getMaxMemory().toBytes();
+            Iterator<SearchSession> eldest = sessions.values().iterator();
+            while (sessions.size() > 1
+                    && (sessions.size() > searchSessionConfig.getMaxSessions() || memoryBytes > maxMemory)) {
+                memoryBytes -= eldest.next().estimatedBytes();
+                eldest.remove();
+                evicted++;
+            }
+        }
+        
+        if (evicted > 0) {
+            capacityEvictions.increment(evicted);
+            log.debug("검색 세션 상한 초과로 {}개 제거", evicted);
+        }
+        return session;
+    }
+    
+    /**
+     * 세션 조회 (LRU 순서 갱신, 만료된 세션은 제거 후 empty)
+     */
+    public Optional<SearchSession> get(String searchId) {
+        SearchSession session;
+        boolean expired = false;
+        synchronized (sessions) {
+            session = sessions.get(searchId);
+            if (session != null && isExpired(session, System.currentTimeMillis())) {
+                sessions.remove(searchId);
+                memoryBytes -= session.estimatedBytes();
+                session = null;
+                expired = true;
+            }
+        }
+        
+        if (expired) {
+            expiredEvictions.increment();
+        }
+        (session != null ? hits : misses).increment();
+        return Optional.ofNullable(session);
+    }
+    
+    public int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+    
+    public long memoryBytes() {
+        synchronized (sessions) {
+            return memoryBytes;
+        }
+    }
+    
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        synchronized (sessions) {
+            Iterator<SearchSession> iterator = sessions.values().iterator();
+            while (iterator.hasNext()) {
+                SearchSession session = iterator.next();
+                if (isExpired(session, now)) {
+                    memoryBytes -= session.estimatedBytes();
+                    iterator.remove();
+                    evicted++;
+                }
+            }
+        }
+        
+        if (evicted > 0) {
+            expiredEvictions.increment(evicted);
+            log.debug("만료된 검색 세션 {}개 제거", evicted);
+        }
+    }
+    
+    private boolean isExpired(SearchSession session, long now) {
+        return now - session.createdAtMillis() > searchSessionConfig.getTtl().toMillis();
+    }
+    
+    // 같은 값의 문자열은 세션 안에서 하나의 인스턴스만 참조하도록 다시 생성
+    private static FlightSearchResponse.FlightOffer compact(FlightSearchResponse.FlightOffer offer,
+                                                            Map<String, String> strings) {
+        FlightSearchResponse.Price price = offer.getPrice();
+        return FlightSearchResponse.FlightOffer.builder()
+            .id(canonical(offer.getId(), strings))
+            .airline(canonical(offer.getAirline(), strings))
+            .flightNumber(canonical(offer.getFlightNumber(), strings))
+            .originLocationCode(canonical(offer.getOriginLocationCode(), strings))
+            .destinationLocationCode(canonical(offer.getDestinationLocationCode(), strings))
+            .departureDate(canonical(offer.getDepartureDate(), strings))
+            .departureTime(canonical(offer.getDepartureTime(), strings))
+            .arrivalDate(canonical(offer.getArrivalDate(), strings))
+            .arrivalTime(canonical(offer.getArrivalTime(), strings))
+            .duration(canonical(offer.getDuration(), strings))
+            .cabinClass(canonical(offer.getCabinClass(), strings))
+            .price(price == null ? null : FlightSearchResponse.Price.builder()
+                .currency(canonical(price.getCurrency(), strings))
+                .total(price.getTotal())
+                .base(price.getBase())
+                .taxes(price.getTaxes())
+                .totalMinor(price.getTotalMinor())
+                .build())
+            .availableSeats(offer.getAvailableSeats())
+            .durationMinutes(offer.getDurationMinutes())
+            .departureEpochMinute(offer.getDepartureEpochMinute())
+            .arrivalEpochMinute(offer.getArrivalEpochMinute())
+            .build();
+    }
+    
+    private static String canonical(String value, Map<String, String> strings) {
+        return value == null ? null : strings.computeIfAbsent(value, key -> key);
+    }
+}
@@ -0,0 +1,18 @@
+-- Flight Search Service 기준 스키마
+-- 기존 ddl-auto: update 로 생성된 flight_searches 테이블과 동일한 구조
+-- (이미 테이블이 있는 DB는 baseline-on-migrate 로 이 버전을 건너뜀)
+
+CREATE TABLE IF NOT EXISTS flight_searches (
+    id                        BIGINT       NOT NULL AUTO_INCREMENT,
+    origin_location_code      VARCHAR(3)   NOT NULL,
+    destination_location_code VARCHAR(3)   NOT NULL,
+    departure_date            DATE         NOT NULL,
+    return_date               DATE         NULL,
+    adults                    INT          NOT NULL,
+    children                  INT          NULL,
+    infants                   INT          NULL,
+    api_provider              VARCHAR(255) NOT NULL,
+    search_timestamp          DATETIME(6)  NOT NULL,
+    search_response           TEXT         NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,18 @@
+-- 검색 기록 조회/카운트용 인덱스 (api_provider, search_timestamp)
+-- ALGORITHM=INPLACE, LOCK=NONE 으로 온라인 생성 (생성 중에도 INSERT/SELECT 가능)
+-- ddl-auto: update 시절에 이미 생성된 경우를 위해 존재 여부를 먼저 확인
+
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'flight_searches'
+      AND INDEX_NAME = 'idx_search_provider_timestamp'
+);
+
+SET @ddl := IF(@index_exists = 0,
+    'ALTER TABLE flight_searches ADD INDEX idx_search_provider_timestamp (api_provider, search_timestamp), ALGORITHM=INPLACE, LOCK=NONE',
+    'DO 0');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
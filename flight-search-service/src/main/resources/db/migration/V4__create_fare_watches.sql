@@ -0,0 +1,19 @@
+-- 운임 알림 (fare watch) 등록 테이블
+-- 활성 알림은 기동 시 메모리 인덱스(노선 + 출발일)로 적재되므로 조회는 기동/만료 처리 때만 발생
+
+CREATE TABLE IF NOT EXISTS fare_watches (
+    id                        BIGINT         NOT NULL AUTO_INCREMENT,
+    origin_location_code      VARCHAR(3)     NOT NULL,
+    destination_location_code VARCHAR(3)     NOT NULL,
+    from_date                 DATE           NOT NULL,
+    to_date                   DATE           NOT NULL,
+    max_price                 DECIMAL(12, 2) NOT NULL,
+    currency                  VARCHAR(3)     NOT NULL,
+    subscriber                VARCHAR(255)   NOT NULL,
+    created_at                DATETIME(6)    NOT NULL,
+    last_notified_price       DECIMAL(12, 2) NULL,
+    last_notified_at          DATETIME(6)    NULL,
+    cancelled_at              DATETIME(6)    NULL,
+    PRIMARY KEY (id),
+    INDEX idx_fare_watch_active (cancelled_at, to_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,18 @@
+-- 검색 기록 커서 페이지 조회/내보내기용 인덱스 (api_provider, id)
+-- WHERE api_provider = ? AND id < ? ORDER BY id DESC 를 정렬(filesort) 없이 인덱스 역순 탐색으로 처리
+-- ALGORITHM=INPLACE, LOCK=NONE 으로 온라인 생성, 이미 있으면 건너뜀
+
+SET @index_exists := (
+    SELECT COUNT(*) FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'flight_searches'
+      AND INDEX_NAME = 'idx_search_provider_id'
+);
+
+SET @ddl := IF(@index_exists = 0,
+    'ALTER TABLE flight_searches ADD INDEX idx_search_provider_id (api_provider, id), ALGORITHM=INPLACE, LOCK=NONE',
+    'DO 0');
+
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
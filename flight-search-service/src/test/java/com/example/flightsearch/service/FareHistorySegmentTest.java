@@ -0,0 +1,92 @@
+package com.example.flightsearch.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 운임 이력 세그먼트 기록/열기 왕복 (delta/zigzag 인코딩, 시리즈 조회, 손상 파일 거부)
+ */
+class FareHistorySegmentTest {
+
+    private static final long ICN_NRT = FareHistoryBuffer.seriesKey("ICN", "NRT", 20_442);
+    private static final long ICN_NRT_NEXT_DAY = FareHistoryBuffer.seriesKey("ICN", "NRT", 20_443);
+    private static final long GMP_CJU = FareHistoryBuffer.seriesKey("GMP", "CJU", 20_442);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsPointsIncludingPriceDrops() throws IOException {
+        FareHistoryBuffer buffer = new FareHistoryBuffer();
+        // 관측 순서와 무관하게 시각 순으로 기록되고, 가격은 오르내림 (음수 차이)
+        buffer.add(ICN_NRT, 1_700_000_300L, 180_000, "KE703", "ECONOMY", "KRW");
+        buffer.add(ICN_NRT, 1_700_000_100L, 250_000, "OZ102", "ECONOMY", "KRW");
+        buffer.add(ICN_NRT, 1_700_000_200L, 90_000, "KE703", "BUSINESS", "KRW");
+        buffer.add(ICN_NRT, 1_700_000_400L, 1, "7C1101", "ECONOMY", "USD");
+        buffer.add(GMP_CJU, 1_700_000_150L, 60_000, "KE1201", "ECONOMY", "KRW");
+
+        FareHistorySegment written = FareHistorySegment.write(directory.resolve("a" + FareHistorySegment.FILE_SUFFIX), buffer);
+        FareHistorySegment reopened = FareHistorySegment.open(written.path());
+
+        List<String> expected = List.of(
+            "1700000100 250000 OZ102 ECONOMY KRW",
+            "1700000200 90000 KE703 BUSINESS KRW",
+            "1700000300 180000 KE703 ECONOMY KRW",
+            "1700000400 1 7C1101 ECONOMY USD");
+        assertEquals(expected, points(written, ICN_NRT, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(expected, points(reopened, ICN_NRT, Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(List.of("1700000150 60000 KE1201 ECONOMY KRW"), points(reopened, GMP_CJU, 0, Long.MAX_VALUE));
+        assertEquals(5, reopened.pointCount());
+        assertEquals(1_700_000_400L, reopened.maxObserved());
+    }
+
+    @Test
+    void filtersByObservedRangeAndSeries() throws IOException {
+        FareHistoryBuffer buffer = new FareHistoryBuffer();
+        for (int i = 0; i < 10; i++) {
+            buffer.add(ICN_NRT, 1_000L + i * 10, 100_000 - i * 1_000, "KE703", "ECONOMY", "KRW");
+        }
+        FareHistorySegment segment = FareHistorySegment.open(
+            FareHistorySegment.write(directory.resolve("b" + FareHistorySegment.FILE_SUFFIX), buffer).path());
+
+        assertEquals(List.of("1030 97000 KE703 ECONOMY KRW", "1040 96000 KE703 ECONOMY KRW"),
+            points(segment, ICN_NRT, 1_025, 1_040));
+        assertTrue(points(segment, ICN_NRT, 2_000, 3_000).isEmpty());
+        assertTrue(points(segment, ICN_NRT_NEXT_DAY, 0, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void rejectsTruncatedOrForeignFiles() throws IOException {
+        FareHistoryBuffer buffer = new FareHistoryBuffer();
+        buffer.add(ICN_NRT, 1_000L, 100_000, "KE703", "ECONOMY", "KRW");
+        byte[] bytes = Files.readAllBytes(
+            FareHistorySegment.write(directory.resolve("c" + FareHistorySegment.FILE_SUFFIX), buffer).path());
+
+        for (int length : new int[]{0, 20, 47, 48, 60}) {
+            Path truncated = Files.write(directory.resolve("truncated-" + length + FareHistorySegment.FILE_SUFFIX),
+                Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, () -> FareHistorySegment.open(truncated), "length " + length);
+        }
+
+        Path foreign = Files.write(directory.resolve("foreign" + FareHistorySegment.FILE_SUFFIX), new byte[64]);
+        assertThrows(IOException.class, () -> FareHistorySegment.open(foreign));
+    }
+
+    private static List<String> points(FareHistorySegment segment, long seriesKey, long from, long to) {
+        List<String> points = new ArrayList<>();
+        segment.forEach(seriesKey, from, to, (observedAt, price, flight, cabin, currency) ->
+            points.add(observedAt + " " + price + " " + flight + " " + cabin + " " + currency));
+        return points;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.dto.FlightOfferQuery;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.dto.OfferFacets;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 검색 결과 정렬/필터: 가격 없는 항공편의 정렬 위치, 자정을 넘는 출발 시간대
+ */
+class OfferTableTest {
+
+    @Test
+    void sortsByPriceWithUnknownPricesLastInBothDirections() {
+        OfferTable table = OfferTable.of(List.of(
+            offer("300", "08:00", "USD", 300.0),
+            offer("no price", "09:00", null, null),
+            offer("100", "10:00", "USD", 100.0),
+            offer("other currency", "11:00", "EUR", 50.0),
+            offer("200", "12:00", "USD", 200.0),
+            offer("200 later", "13:00", "USD", 200.0)
+        ));
+
+        assertEquals(List.of("100", "200", "200 later", "300", "no price", "other currency"),
+            ids(table, FlightOfferQuery.sorted("price").build()));
+        assertEquals(List.of("300", "200", "200 later", "100", "no price", "other currency"),
+            ids(table, FlightOfferQuery.sorted("-price").build()));
+    }
+
+    @Test
+    void departureWindowWrapsPastMidnight() {
+        OfferTable table = OfferTable.of(List.of(
+            offer("21:59", "21:59", "USD", 100.0),
+            offer("22:00", "22:00", "USD", 100.0),
+            offer("23:30", "23:30", "USD", 100.0),
+            offer("00:15", "00:15", "USD", 100.0),
+            offer("02:00", "02:00", "USD", 100.0),
+            offer("02:01", "02:01", "USD", 100.0),
+            offer("12:00", "12:00", "USD", 100.0),
+            offer("no time", null, "USD", 100.0)
+        ));
+        FlightOfferQuery query = FlightOfferQuery.builder()
+            .departureFrom(LocalTime.of(22, 0))
+            .departureTo(LocalTime.of(2, 0))
+            .facets(true)
+            .build();
+
+        OfferTable.Result result = table.query(query);
+
+        assertEquals(List.of("22:00", "23:30", "00:15", "02:00"),
+            table.offers(result).stream().map(FlightSearchResponse.FlightOffer::getId).toList());
+        // 출발 시간 집계는 자기 자신의 필터를 무시하므로 시각을 아는 모든 항공편이 포함됨
+        assertEquals(List.of("0:1", "2:2", "12:1", "21:1", "22:1", "23:1"),
+            result.facets().getDepartureHours().stream()
+                .map(hour -> hour.getHour() + ":" + hour.getCount())
+                .toList());
+    }
+
+    @Test
+    void departureWindowWithinOneDay() {
+        OfferTable table = OfferTable.of(List.of(
+            offer("05:59", "05:59", "USD", 100.0),
+            offer("06:00", "06:00", "USD", 100.0),
+            offer("12:00", "12:00", "USD", 100.0),
+            offer("12:01", "12:01", "USD", 100.0)
+        ));
+
+        assertEquals(List.of("06:00", "12:00"), ids(table, FlightOfferQuery.builder()
+            .departureFrom(LocalTime.of(6, 0))
+            .departureTo(LocalTime.of(12, 0))
+            .build()));
+        assertEquals(List.of("12:00", "12:01"), ids(table, FlightOfferQuery.builder()
+            .departureFrom(LocalTime.of(12, 0))
+            .build()));
+    }
+
+    private static List<String> ids(OfferTable table, FlightOfferQuery query) {
+        return table.offers(table.query(query)).stream().map(FlightSearchResponse.FlightOffer::getId).toList();
+    }
+
+    private static FlightSearchResponse.FlightOffer offer(String id, String departureTime, String currency, Double total) {
+        return FlightSearchResponse.FlightOffer.builder()
+            .id(id)
+            .airline("KE")
+            .cabinClass("ECONOMY")
+            .departureTime(departureTime)
+            .price(currency != null ? FlightSearchResponse.Price.builder().currency(currency).total(total).build() : null)
+            .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.flightsearch.service;
+
+import com.example.flightsearch.dto.ConnectionQuery;
+import com.example.flightsearch.dto.ConnectionSearchResponse;
+import com.example.flightsearch.dto.FlightSearchResponse;
+import com.example.flightsearch.model.AirportDirectory;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 연결 항공편 탐색: 환승 최소 시간(국내/국제), 경유 공항, 재방문 금지, k 개 결과 순서
+ * 시각은 모두 공항 현지 시각 (ICN/GMP/PUS/CJU/NRT = UTC+9, HNL = UTC-10, LAX = UTC-8)
+ */
+class RouteGraphTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 12, 20);
+
+    private final AirportDirectory airports = AirportDirectory.get();
+
+    @Test
+    void domesticConnectionRespectsMinimumConnectionTime() {
+        RouteGraph graph = RouteGraph.build(List.of(
+            leg("GMP-PUS", "GMP", "PUS", "2026-12-20T08:00", "2026-12-20T09:00", 5_000),
+            leg("PUS-CJU tight", "PUS", "CJU", "2026-12-20T09:30", "2026-12-20T10:30", 3_000),
+            leg("PUS-CJU", "PUS", "CJU", "2026-12-20T10:00", "2026-12-20T11:00", 4_000)
+        ), airports);
+
+        List<ConnectionSearchResponse.Itinerary> results = graph.search(query("GMP", "CJU").build(), 50, 10_000);
+
+        assertEquals(List.of(List.of("GMP-PUS", "PUS-CJU")), legIds(results));
+        assertEquals(List.of(60), results.get(0).getLayoverMinutes());
+    }
+
+    @Test
+    void internationalConnectionUsesLongerMinimum() {
+        RouteGraph graph = RouteGraph.build(List.of(
+            leg("ICN-NRT", "ICN", "NRT", "2026-12-20T08:00", "2026-12-20T10:30", 20_000),
+            // 2시간 환승: 국내선 기준(45분)은 넘지만 국제선 기준(180분)에 못 미침
+            leg("NRT-LAX tight", "NRT", "LAX", "2026-12-20T12:30", "2026-12-20T06:00", 60_000),
+            leg("NRT-LAX", "NRT", "LAX", "2026-12-20T17:00", "2026-12-20T10:30", 70_000)
+        ), airports);
+
+        List<ConnectionSearchResponse.Itinerary> results = graph.search(query("ICN", "LAX").build(), 50, 10_000);
+
+        assertEquals(List.of(List.of("ICN-NRT", "NRT-LAX")), legIds(results));
+        assertEquals(List.of(390), results.get(0).getLayoverMinutes());
+        // 08:00 KST(전날 23:00 UTC) 출발 ~ 10:30 PST(18:30 UTC) 도착
+        assertEquals(19 * 60 + 30, results.get(0).getTotalDurationMinutes());
+    }
+
+    @Test
+    void viaAirportIsRequiredAndDirectFlightIsExcluded() {
+        RouteGraph graph = RouteGraph.build(List.of(
+            leg("ICN-LAX", "ICN", "LAX", "2026-12-20T10:00", "2026-12-20T05:00", 50_000),
+            leg("ICN-NRT", "ICN", "NRT", "2026-12-20T08:00", "2026-12-20T10:30", 20_000),
+            leg("NRT-LAX", "NRT", "LAX", "2026-12-20T17:00", "2026-12-20T10:30", 70_000),
+            leg("ICN-HNL", "ICN", "HNL", "2026-12-20T20:00", "2026-12-20T09:30", 30_000),
+            leg("HNL-LAX", "HNL", "LAX", "2026-12-20T14:00", "2026-12-20T22:00", 10_000)
+        ), airports);
+
+        List<ConnectionSearchResponse.Itinerary> all = graph.search(query("ICN", "LAX").build(), 50, 10_000);
+        List<ConnectionSearchResponse.Itinerary> viaNrt = graph.search(
+            query("ICN", "LAX").viaLocationCode("NRT").build(), 50, 10_000);
+
+        assertEquals(3, all.size());
+        assertEquals(List.of(List.of("ICN-NRT", "NRT-LAX")), legIds(viaNrt));
+    }
+
+    @Test
+    void itineraryNeverRevisitsAnAirport() {
+        // PUS -> ICN 은 PUS 에 처음 도착한 뒤 최대 환승 시간(180분) 밖이라 CJU 를 돌아 PUS 를 다시 지나야만 탈 수 있음
+        RouteGraph graph = RouteGraph.build(List.of(
+            leg("GMP-PUS", "GMP", "PUS", "2026-12-20T07:00", "2026-12-20T08:00", 5_000),
+            leg("PUS-CJU", "PUS", "CJU", "2026-12-20T09:00", "2026-12-20T10:00", 5_000),
+            leg("CJU-PUS", "CJU", "PUS", "2026-12-20T11:00", "2026-12-20T12:00", 5_000),
+            leg("PUS-ICN", "PUS", "ICN", "2026-12-20T13:00", "2026-12-20T14:00", 5_000)
+        ), airports);
+
+        List<ConnectionSearchResponse.Itinerary> results = graph.search(
+            query("GMP", "ICN").maxStops(3).maxConnectionMinutes(180).build(), 50, 10_000);
+
+        assertTrue(results.isEmpty(), () -> "unexpected itineraries: " + legIds(results));
+    }
+
+    @Test
+    void returnsKBestInObjectiveOrder() {
+        List<FlightSearchResponse.FlightOffer> offers = List.of(
+            leg("direct early", "ICN", "NRT", "2026-12-20T07:00", "2026-12-20T09:30", 40_000),
+            leg("direct late", "ICN", "NRT", "2026-12-20T18:00", "2026-12-20T20:30", 25_000),
+            leg("ICN-PUS", "ICN", "PUS", "2026-12-20T06:00", "2026-12-20T07:00", 5_000),
+            leg("PUS-NRT", "PUS", "NRT", "2026-12-20T11:00", "2026-12-20T13:00", 10_000),
+            leg("direct noon", "ICN", "NRT", "2026-12-20T12:00", "2026-12-20T14:30", 30_000)
+        );
+        RouteGraph graph = RouteGraph.build(offers, airports);
+
+        List<ConnectionSearchResponse.Itinerary> cheapest = graph.search(query("ICN", "NRT").limit(3).build(), 50, 10_000);
+        List<ConnectionSearchResponse.Itinerary> earliest = graph.search(query("ICN", "NRT").limit(3)
+            .objective(ConnectionQuery.Objective.EARLIEST_ARRIVAL).build(), 50, 10_000);
+
+        assertEquals(List.of(List.of("ICN-PUS", "PUS-NRT"), List.of("direct late"), List.of("direct noon")),
+            legIds(cheapest));
+        assertEquals(List.of(150.0, 250.0, 300.0), cheapest.stream().map(ConnectionSearchResponse.Itinerary::getTotalPrice).toList());
+
+        assertEquals(List.of(List.of("direct early"), List.of("ICN-PUS", "PUS-NRT"), List.of("direct noon")),
+            legIds(earliest));
+    }
+
+    private static ConnectionQuery.ConnectionQueryBuilder query(String origin, String destination) {
+        return ConnectionQuery.builder()
+            .originLocationCode(origin)
+            .destinationLocationCode(destination)
+            .departureDate(DATE)
+            .objective(ConnectionQuery.Objective.CHEAPEST)
+            .maxStops(1)
+            .minConnectionMinutes(45)
+            .minInternationalConnectionMinutes(180)
+            .maxConnectionMinutes(24 * 60)
+            .limit(5);
+    }
+
+    // 가격은 USD 센트
+    private static FlightSearchResponse.FlightOffer leg(String id, String origin, String destination,
+                                                        String departure, String arrival, long priceMinor) {
+        return FlightSearchResponse.FlightOffer.builder()
+            .id(id)
+            .originLocationCode(origin)
+            .destinationLocationCode(destination)
+            .departureEpochMinute(localEpochMinute(departure))
+            .arrivalEpochMinute(localEpochMinute(arrival))
+            .price(FlightSearchResponse.Price.builder()
+                .currency("USD")
+                .total(priceMinor / 100.0)
+                .totalMinor(priceMinor)
+                .build())
+            .build();
+    }
+
+    private static long localEpochMinute(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static List<List<String>> legIds(List<ConnectionSearchResponse.Itinerary> itineraries) {
+        return itineraries.stream()
+            .map(itinerary -> itinerary.getLegs().stream().map(FlightSearchResponse.FlightOffer::getId).toList())
+            .toList();
+    }
+}
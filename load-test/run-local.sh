@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+# Amadeus 시뮬레이터 + 두 서비스(H2, loadtest 프로파일)를 로컬에서 띄우고 부하를 생성한다.
+#
+#   ./load-test/run-local.sh [search|booking|mixed] [추가 run 옵션 ...]
+#
+# 예) ./load-test/run-local.sh search --rps=100 --duration=120s
+#     OFFERS_LATENCY=lognormal:500,3000 ./load-test/run-local.sh mixed --rps=200
+#     LOADTEST_LOG_LEVEL=INFO EXTRA_PROFILES=sync-logging ./load-test/run-local.sh search --rps=5000
+#       (로깅 파이프라인 비교: EXTRA_PROFILES 없이 한 번, sync-logging 으로 한 번 실행)
+#     LOADTEST_LOG_LEVEL=INFO LOG_SAMPLING_ENABLED=true ./load-test/run-local.sh search --rps=5000
+#       (요청 로그 샘플링 비교: LOG_SAMPLING_ENABLED 없이 한 번, true 로 한 번 실행)
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+SCENARIO="${1:-search}"
+shift || true
+
+SIM_PORT="${SIM_PORT:-9090}"
+OFFERS_LATENCY="${OFFERS_LATENCY:-lognormal:300,1500}"
+TOKEN_LATENCY="${TOKEN_LATENCY:-fixed:30}"
+ERROR_RATE="${ERROR_RATE:-0.0}"
+OFFER_COUNT="${OFFER_COUNT:-50}"
+REPORT_DIR="${REPORT_DIR:-$ROOT/load-test/build/load-report}"
+LOG_DIR="$REPORT_DIR/logs"
+
+mkdir -p "$LOG_DIR"
+PIDS=()
+cleanup() {
+    for pid in "${PIDS[@]:-}"; do
+        [ -n "$pid" ] && kill "$pid" 2>/dev/null || true
+    done
+    wait 2>/dev/null || true
+}
+trap cleanup EXIT INT TERM
+
+wait_for() {
+    local url="$1" name="$2"
+    for _ in $(seq 1 120); do
+        if curl -sf "$url" > /dev/null; then
+            echo "$name ready"
+            return 0
+        fi
+        sleep 1
+    done
+    echo "$name did not become ready: $url" >&2
+    exit 1
+}
+
+echo "==> building"
+(cd "$ROOT/flight-search-service" && ./gradlew -q bootJar)
+(cd "$ROOT/flight-booking-service" && ./gradlew -q bootJar)
+(cd "$ROOT/load-test" && ./gradlew -q installDist)
+LOAD_TEST="$ROOT/load-test/build/install/load-test/bin/load-test"
+
+echo "==> starting Amadeus simulator on :$SIM_PORT"
+"$LOAD_TEST" simulator --port="$SIM_PORT" --offers-latency="$OFFERS_LATENCY" \
+    --token-latency="$TOKEN_LATENCY" --error-rate="$ERROR_RATE" --offer-count="$OFFER_COUNT" \
+    > "$LOG_DIR/simulator.log" 2>&1 &
+PIDS+=($!)
+wait_for "http://localhost:$SIM_PORT/health" "simulator"
+
+echo "==> starting flight-search-service"
+AMADEUS_BASE_URL="http://localhost:$SIM_PORT/v2" \
+AMADEUS_AUTH_URL="http://localhost:$SIM_PORT/v1/security/oauth2/token" \
+AMADEUS_CLIENT_ID=loadtest AMADEUS_CLIENT_SECRET=loadtest \
+    java ${SEARCH_JAVA_OPTS:-} -jar "$ROOT/flight-search-service/build/libs/flight-search-service-0.0.1-SNAPSHOT.jar" \
+    --spring.profiles.active=loadtest${EXTRA_PROFILES:+,$EXTRA_PROFILES} > "$LOG_DIR/flight-search-service.log" 2>&1 &
+PIDS+=($!)
+wait_for "http://localhost:8081/actuator/health" "flight-search-service"
+
+echo "==> starting flight-booking-service"
+SEARCH_SERVICE_URL="http://localhost:8081" \
+    java ${BOOKING_JAVA_OPTS:-} -jar "$ROOT/flight-booking-service/build/libs/flight-booking-service-0.0.1-SNAPSHOT.jar" \
+    --spring.profiles.active=loadtest${EXTRA_PROFILES:+,$EXTRA_PROFILES} > "$LOG_DIR/flight-booking-service.log" 2>&1 &
+PIDS+=($!)
+wait_for "http://localhost:8082/actuator/health" "flight-booking-service"
+
+echo "==> running $SCENARIO load"
+"$LOAD_TEST" run --scenario="$SCENARIO" \
+    --search-url=http://localhost:8081 --booking-url=http://localhost:8082 \
+    --report="$REPORT_DIR/$SCENARIO.json" "$@"
@@ -0,0 +1,147 @@
+package com.example.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 Amadeus 대체 서버 (외부 네트워크 없이 부하 테스트)
+ * - POST /v1/security/oauth2/token     OAuth2 client_credentials 토큰
+ * - GET  /v2/shopping/flight-offers    템플릿 기반 항공편 응답
+ * 지연은 스레드를 점유하지 않도록 스케줄러에서 응답을 늦게 보내는 방식으로 구현
+ */
+public class AmadeusSimulator implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService handlerExecutor;
+    private final ScheduledExecutorService responder;
+    private final LatencyDistribution tokenLatency;
+    private final LatencyDistribution offersLatency;
+    private final double errorRate;
+    private final OfferPayloadGenerator payloadGenerator;
+
+    private final AtomicLong tokenRequests = new AtomicLong();
+    private final AtomicLong offerRequests = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    public AmadeusSimulator(int port, LatencyDistribution tokenLatency, LatencyDistribution offersLatency,
+                            double errorRate, OfferPayloadGenerator payloadGenerator) throws IOException {
+        this.tokenLatency = tokenLatency;
+        this.offersLatency = offersLatency;
+        this.errorRate = errorRate;
+        this.payloadGenerator = payloadGenerator;
+
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        this.handlerExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        this.responder = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+
+        server.setExecutor(handlerExecutor);
+        server.createContext("/v1/security/oauth2/token", this::handleToken);
+        server.createContext("/v2/shopping/flight-offers", this::handleFlightOffers);
+        server.createContext("/health", exchange -> send(exchange, 200, "{\"status\":\"UP\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public void start() {
+        server.start();
+        System.out.printf("Amadeus simulator listening on port %d%n", server.getAddress().getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        drain(exchange);
+        long id = tokenRequests.incrementAndGet();
+        String body = "{\"type\":\"amadeusOAuth2Token\",\"username\":\"loadtest\",\"application_name\":\"simulator\"," +
+                "\"token_type\":\"Bearer\",\"access_token\":\"sim-token-" + id + "\",\"expires_in\":1799,\"state\":\"approved\"}";
+        respondLater(exchange, 200, body.getBytes(StandardCharsets.UTF_8), tokenLatency.sampleMillis());
+    }
+
+    private void handleFlightOffers(HttpExchange exchange) throws IOException {
+        drain(exchange);
+        offerRequests.incrementAndGet();
+        long delay = offersLatency.sampleMillis();
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            String error = "{\"errors\":[{\"status\":500,\"code\":141,\"title\":\"SYSTEM ERROR HAS OCCURRED\"}]}";
+            respondLater(exchange, 500, error.getBytes(StandardCharsets.UTF_8), delay);
+            return;
+        }
+
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String origin = query.get("originLocationCode");
+        String destination = query.get("destinationLocationCode");
+        String departureDate = query.get("departureDate");
+        if (origin == null || destination == null || departureDate == null) {
+            String error = "{\"errors\":[{\"status\":400,\"code\":32171,\"title\":\"MANDATORY DATA MISSING\"}]}";
+            respondLater(exchange, 400, error.getBytes(StandardCharsets.UTF_8), delay);
+            return;
+        }
+
+        respondLater(exchange, 200, payloadGenerator.generate(origin, destination, departureDate), delay);
+    }
+
+    private void respondLater(HttpExchange exchange, int status, byte[] body, long delayMillis) {
+        responder.schedule(() -> {
+            try {
+                send(exchange, status, body);
+            } catch (IOException e) {
+                exchange.close();
+            }
+        }, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+    }
+
+    private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void drain(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.readAllBytes();
+        }
+    }
+
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int idx = pair.indexOf('=');
+            if (idx > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, idx), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        responder.shutdownNow();
+        handlerExecutor.shutdownNow();
+        System.out.printf("Amadeus simulator stopped (token=%d, offers=%d, injectedErrors=%d)%n",
+                tokenRequests.get(), offerRequests.get(), injectedErrors.get());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시뮬레이터 응답 지연 분포
+ * - fixed:200          항상 200ms
+ * - uniform:100-400    100~400ms 균등 분포
+ * - lognormal:200,900  중앙값 200ms, p99 900ms 로그정규 분포 (실제 API 지연과 유사한 긴 꼬리)
+ */
+public interface LatencyDistribution {
+
+    long sampleMillis();
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split(":", 2);
+        String type = parts[0].trim().toLowerCase();
+        String args = parts.length > 1 ? parts[1].trim() : "";
+
+        switch (type) {
+            case "fixed": {
+                long millis = Long.parseLong(args);
+                return () -> millis;
+            }
+            case "uniform": {
+                String[] range = args.split("-");
+                long min = Long.parseLong(range[0].trim());
+                long max = Long.parseLong(range[1].trim());
+                return () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+            }
+            case "lognormal": {
+                String[] values = args.split(",");
+                double median = Double.parseDouble(values[0].trim());
+                double p99 = Double.parseDouble(values[1].trim());
+                double mu = Math.log(median);
+                // p99 = exp(mu + 2.326 * sigma)
+                double sigma = (Math.log(p99) - mu) / 2.3263;
+                return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+            }
+            default:
+                throw new IllegalArgumentException("지원하지 않는 지연 분포입니다: " + spec);
+        }
+    }
+}
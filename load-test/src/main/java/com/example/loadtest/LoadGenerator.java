@@ -0,0 +1,151 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * 목표 RPS 로 요청을 보내는 open-model 부하 생성기
+ * 지연은 실제 전송 시점이 아닌 "예정 시점"부터 측정하여 coordinated omission 을 보정
+ * - 진행 중 요청이 상한에 닿으면 자리가 날 때까지 기다렸다 보내고, 기다린 시간도 지연에 포함
+ * - timeout 동안 자리가 나지 않은 요청은 dropped 로 세고 지연은 timeout 으로 기록 (통계에서 빠지지 않음)
+ * - 종료 대기 후에도 끝나지 않은 요청은 timeout 오류로 기록
+ */
+public class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final long CAPACITY_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    public LoadGenerator(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2))
+                .build();
+    }
+
+    /**
+     * @param requests 요청 번호 -> HTTP 요청
+     * @param warmup   이 시간 동안의 요청은 통계에서 제외
+     */
+    public LoadReport run(String scenario, LongFunction<HttpRequest> requests, int rps,
+                          Duration duration, Duration warmup, int maxInFlight) throws InterruptedException {
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        LongAdder successes = new LongAdder();
+        AtomicLong measuredRequests = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        AtomicInteger inFlight = new AtomicInteger();
+        // 측정 대상 중 아직 기록되지 않은 요청 (요청 번호 -> 예정 시점), 기록은 remove 에 성공한 쪽에서 한 번만
+        Map<Long, Long> pending = new ConcurrentHashMap<>();
+        long timeoutNanos = requestTimeout.toNanos();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        System.out.printf("Running %s: %d rps for %s (warmup %s)%n", scenario, rps, duration, warmup);
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = intended >= measureFrom;
+            if (measured) {
+                measuredRequests.incrementAndGet();
+            }
+
+            // 상한에 닿으면 자리가 날 때까지 대기 (지연은 예정 시점부터 재므로 대기 시간도 포함됨)
+            while (inFlight.get() >= maxInFlight && System.nanoTime() - intended < timeoutNanos) {
+                LockSupport.parkNanos(CAPACITY_POLL_NANOS);
+            }
+            if (inFlight.get() >= maxInFlight) {
+                // 클라이언트 timeout 안에 보내지도 못한 요청 -> timeout 지연으로 기록
+                if (measured) {
+                    dropped.incrementAndGet();
+                    recordLatency(recorder, timeoutNanos);
+                }
+                continue;
+            }
+
+            HttpRequest request = requests.apply(i);
+            inFlight.incrementAndGet();
+            long index = i;
+            if (measured) {
+                pending.put(index, intended);
+            }
+
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((response, error) -> {
+                        inFlight.decrementAndGet();
+                        if (!measured || pending.remove(index) == null) {
+                            return;
+                        }
+                        recordLatency(recorder, System.nanoTime() - intended);
+
+                        if (error != null) {
+                            errors.computeIfAbsent(error.getClass().getSimpleName(), k -> new LongAdder()).increment();
+                        } else if (response.statusCode() >= 200 && response.statusCode() < 300) {
+                            successes.increment();
+                        } else {
+                            errors.computeIfAbsent("HTTP " + response.statusCode(), k -> new LongAdder()).increment();
+                        }
+                    });
+        }
+
+        // 진행 중인 요청 완료 대기
+        long drainDeadline = System.nanoTime() + timeoutNanos;
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+
+        // 대기 시간 안에 끝나지 않은 요청은 통계에서 빠지지 않도록 timeout 으로 기록
+        long now = System.nanoTime();
+        for (Long index : pending.keySet()) {
+            Long intended = pending.remove(index);
+            if (intended != null) {
+                recordLatency(recorder, now - intended);
+                errors.computeIfAbsent(TimeoutException.class.getSimpleName(), k -> new LongAdder()).increment();
+            }
+        }
+        double measuredSeconds = duration.toMillis() / 1000.0;
+
+        Histogram histogram = recorder.getIntervalHistogram();
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((key, count) -> errorCounts.put(key, count.sum()));
+
+        return new LoadReport(scenario, rps, measuredSeconds, measuredRequests.get(), successes.sum(),
+                dropped.get(), errorCounts, histogram);
+    }
+
+    private static void recordLatency(Recorder recorder, long nanos) {
+        recorder.recordValue(Math.min(nanos / 1000, HIGHEST_TRACKABLE_MICROS));
+    }
+}
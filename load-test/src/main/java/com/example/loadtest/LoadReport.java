@@ -0,0 +1,78 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (처리량 + 지연 백분위)
+ * 지연은 마이크로초 단위로 기록하고 밀리초로 출력
+ */
+public record LoadReport(String scenario,
+                         int targetRps,
+                         double measuredSeconds,
+                         long requests,
+                         long successes,
+                         long dropped,
+                         Map<String, Long> errors,
+                         Histogram latencyMicros) {
+
+    // 측정 구간 동안 성공(2xx) 응답 처리량
+    public double achievedRps() {
+        return measuredSeconds > 0 ? successes / measuredSeconds : 0;
+    }
+
+    public double percentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n=== Load test: %s ===%n", scenario);
+        out.printf("target rps     : %d%n", targetRps);
+        out.printf("throughput     : %.1f 2xx/s (%d requests scheduled in %.1fs)%n", achievedRps(), requests, measuredSeconds);
+        out.printf("success        : %d%n", successes);
+        out.printf("dropped        : %d (not sent within timeout at max in-flight, recorded as timeout latency)%n", dropped);
+        out.printf("errors         : %s%n", errors);
+        out.printf("latency (ms)   : p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+                latencyMicros.getMaxValue() / 1000.0);
+    }
+
+    public void writeJson(Path path) throws IOException {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", scenario);
+        summary.put("targetRps", targetRps);
+        summary.put("achievedRps", achievedRps());
+        summary.put("measuredSeconds", measuredSeconds);
+        summary.put("requests", requests);
+        summary.put("successes", successes);
+        summary.put("dropped", dropped);
+        summary.put("errors", errors);
+
+        Map<String, Double> latency = new LinkedHashMap<>();
+        latency.put("p50", percentileMillis(50));
+        latency.put("p90", percentileMillis(90));
+        latency.put("p99", percentileMillis(99));
+        latency.put("p99.9", percentileMillis(99.9));
+        latency.put("max", latencyMicros.getMaxValue() / 1000.0);
+        summary.put("latencyMillis", latency);
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), summary);
+
+        // 전체 분포 (HdrHistogram percentile distribution, ms 단위)
+        Path distribution = path.resolveSibling(path.getFileName().toString().replace(".json", "") + "-latency.hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(distribution))) {
+            latencyMicros.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.LongFunction;
+
+/**
+ * 부하 테스트 진입점
+ *
+ * <pre>
+ * simulator  Amadeus 대체 서버만 실행 (Ctrl+C 로 종료)
+ *            --port=9090 --offers-latency=lognormal:300,1500 --token-latency=fixed:30
+ *            --error-rate=0.01 --offer-count=50 [--template=path/to/offer.json]
+ * run        실행 중인 서비스에 부하 생성
+ *            --scenario=search|booking|mixed --search-url=http://localhost:8081
+ *            --booking-url=http://localhost:8082 --rps=50 --duration=60s --warmup=10s
+ *            --max-in-flight=2000 --timeout=30s --report=build/load-report/search.json
+ * </pre>
+ */
+public class LoadTestMain {
+
+    private static final String[][] ROUTES = {
+            {"ICN", "LAX"}, {"ICN", "NRT"}, {"GMP", "CJU"}, {"ICN", "JFK"}, {"ICN", "SIN"}, {"PUS", "KIX"}
+    };
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("usage: load-test <simulator|run> [--key=value ...]");
+            System.exit(2);
+        }
+        Map<String, String> options = parseOptions(args);
+
+        switch (args[0]) {
+            case "simulator" -> runSimulator(options);
+            case "run" -> runLoad(options);
+            default -> {
+                System.err.println("unknown command: " + args[0]);
+                System.exit(2);
+            }
+        }
+    }
+
+    private static void runSimulator(Map<String, String> options) throws Exception {
+        OfferPayloadGenerator generator = new OfferPayloadGenerator(
+                options.get("template"), Integer.parseInt(options.getOrDefault("offer-count", "50")));
+
+        AmadeusSimulator simulator = new AmadeusSimulator(
+                Integer.parseInt(options.getOrDefault("port", "9090")),
+                LatencyDistribution.parse(options.getOrDefault("token-latency", "fixed:30")),
+                LatencyDistribution.parse(options.getOrDefault("offers-latency", "lognormal:300,1500")),
+                Double.parseDouble(options.getOrDefault("error-rate", "0.0")),
+                generator);
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            simulator.close();
+            stopped.countDown();
+        }));
+        simulator.start();
+        stopped.await();
+    }
+
+    private static void runLoad(Map<String, String> options) throws Exception {
+        String scenario = options.getOrDefault("scenario", "search");
+        String searchUrl = options.getOrDefault("search-url", "http://localhost:8081");
+        String bookingUrl = options.getOrDefault("booking-url", "http://localhost:8082");
+        int rps = Integer.parseInt(options.getOrDefault("rps", "50"));
+        Duration duration = parseDuration(options.getOrDefault("duration", "60s"));
+        Duration warmup = parseDuration(options.getOrDefault("warmup", "10s"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "2000"));
+        Duration timeout = parseDuration(options.getOrDefault("timeout", "30s"));
+
+        LongFunction<HttpRequest> requests = switch (scenario) {
+            case "search" -> n -> searchRequest(searchUrl, n, timeout);
+            case "booking" -> n -> bookingRequest(bookingUrl, n, timeout);
+            // 검색 9 : 예약 1
+            case "mixed" -> n -> n % 10 == 9 ? bookingRequest(bookingUrl, n, timeout) : searchRequest(searchUrl, n, timeout);
+            default -> throw new IllegalArgumentException("unknown scenario: " + scenario);
+        };
+
+        LoadReport report = new LoadGenerator(timeout).run(scenario, requests, rps, duration, warmup, maxInFlight);
+        report.print(System.out);
+
+        String reportPath = options.get("report");
+        if (reportPath != null) {
+            report.writeJson(Path.of(reportPath));
+            System.out.println("report written: " + reportPath);
+        }
+        System.exit(0);
+    }
+
+    private static HttpRequest searchRequest(String baseUrl, long n, Duration timeout) {
+        String[] route = ROUTES[(int) (n % ROUTES.length)];
+        String body = "{\"originLocationCode\":\"" + route[0] + "\"," +
+                "\"destinationLocationCode\":\"" + route[1] + "\"," +
+                "\"departureDate\":\"" + LocalDate.now().plusDays(30 + n % 30) + "\"," +
+                "\"adults\":1,\"children\":0,\"infants\":0,\"apiProvider\":\"AMADEUS\"}";
+        return post(baseUrl + "/api/flights/search", body, timeout);
+    }
+
+    private static HttpRequest bookingRequest(String baseUrl, long n, Duration timeout) {
+        // 시뮬레이터 응답의 첫 번째 항공편은 항상 KE017, 승객 이메일은 요청마다 달라 중복 예약이 발생하지 않음
+        String body = "{\"flightNumber\":\"KE017\",\"originLocationCode\":\"ICN\",\"destinationLocationCode\":\"LAX\"," +
+                "\"departureDate\":\"" + LocalDate.now().plusDays(30) + "\",\"departureTime\":\"14:30\"," +
+                "\"passengerName\":\"Load Tester\",\"passengerEmail\":\"loadtest+" + n + "@example.com\"," +
+                "\"passengerPhone\":\"010-1234-5678\",\"apiProvider\":\"AMADEUS\"," +
+                "\"totalAmount\":1254.30,\"currency\":\"USD\"}";
+        return post(baseUrl + "/api/bookings", body, timeout);
+    }
+
+    private static HttpRequest post(String url, String body, Duration timeout) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static Duration parseDuration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        }
+        if (v.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        if (v.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(v));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                continue;
+            }
+            int idx = arg.indexOf('=');
+            if (idx > 0) {
+                options.put(arg.substring(2, idx), arg.substring(idx + 1));
+            } else {
+                options.put(arg.substring(2), "true");
+            }
+        }
+        return options;
+    }
+}
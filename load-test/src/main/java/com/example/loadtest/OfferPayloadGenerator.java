@@ -0,0 +1,111 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * flight-offer 템플릿으로 Amadeus 형식의 응답을 생성
+ * 첫 번째 offer 는 항상 KE017 이므로 예약 시나리오에서 존재하는 항공편으로 사용 가능
+ */
+public class OfferPayloadGenerator {
+
+    private static final String[] CARRIERS = {"KE", "OZ", "DL", "UA", "AA", "JL", "NH", "SQ", "CX", "AC"};
+    private static final int CACHE_LIMIT = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectNode template;
+    private final int offerCount;
+    private final Map<String, byte[]> cache = new ConcurrentHashMap<>();
+
+    public OfferPayloadGenerator(String templatePath, int offerCount) {
+        this.template = loadTemplate(templatePath);
+        this.offerCount = offerCount;
+    }
+
+    /**
+     * 노선+날짜별 응답 (동일 조건은 캐시하여 시뮬레이터 자체 부하를 줄임)
+     */
+    public byte[] generate(String origin, String destination, String departureDate) {
+        String key = origin + "|" + destination + "|" + departureDate;
+        byte[] cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] payload = build(origin, destination, LocalDate.parse(departureDate));
+        if (cache.size() < CACHE_LIMIT) {
+            cache.put(key, payload);
+        }
+        return payload;
+    }
+
+    private byte[] build(String origin, String destination, LocalDate departureDate) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ObjectNode meta = response.putObject("meta");
+        meta.put("count", offerCount);
+        ArrayNode data = response.putArray("data");
+
+        for (int i = 0; i < offerCount; i++) {
+            data.add(offer(i, origin, destination, departureDate));
+        }
+
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ObjectNode offer(int index, String origin, String destination, LocalDate departureDate) {
+        ObjectNode offer = template.deepCopy();
+        String carrier = CARRIERS[index % CARRIERS.length];
+        String number = index == 0 ? "017" : String.valueOf(100 + index);
+        int durationMinutes = 600 + (index * 13) % 180;
+        LocalDateTime departure = departureDate.atStartOfDay().plusMinutes((index * 47L) % 1440);
+        LocalDateTime arrival = departure.plusMinutes(durationMinutes);
+        String total = String.format("%.2f", 600 + (index * 53) % 1200 + 0.30);
+        String duration = "PT" + (durationMinutes / 60) + "H" + (durationMinutes % 60) + "M";
+
+        offer.put("id", String.valueOf(index + 1));
+        offer.put("numberOfBookableSeats", 1 + index % 9);
+        offer.putArray("validatingAirlineCodes").add(carrier);
+
+        ObjectNode itinerary = (ObjectNode) offer.path("itineraries").path(0);
+        itinerary.put("duration", duration);
+        ObjectNode segment = (ObjectNode) itinerary.path("segments").path(0);
+        segment.put("carrierCode", carrier);
+        segment.put("number", number);
+        segment.put("duration", duration);
+        ((ObjectNode) segment.path("operating")).put("carrierCode", carrier);
+        ((ObjectNode) segment.path("departure")).put("iataCode", origin).put("at", departure.toString() + ":00");
+        ((ObjectNode) segment.path("arrival")).put("iataCode", destination).put("at", arrival.toString() + ":00");
+
+        ((ObjectNode) offer.path("price")).put("total", total).put("grandTotal", total);
+        ((ObjectNode) offer.path("travelerPricings").path(0).path("price")).put("total", total);
+        return offer;
+    }
+
+    private ObjectNode loadTemplate(String templatePath) {
+        try {
+            if (templatePath != null) {
+                return (ObjectNode) objectMapper.readTree(Files.readAllBytes(Path.of(templatePath)));
+            }
+            try (InputStream in = getClass().getResourceAsStream("/templates/flight-offer.json")) {
+                return (ObjectNode) objectMapper.readTree(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("템플릿을 읽을 수 없습니다: " + templatePath, e);
+        }
+    }
+}